@@ -0,0 +1,76 @@
+package com.certak.kafka.seedkit.producers;
+
+import com.certak.kafka.seedkit.data.DataGenerator;
+import io.confluent.kafka.schemaregistry.client.MockSchemaRegistryClient;
+import io.confluent.kafka.schemaregistry.client.SchemaRegistryClient;
+import io.confluent.kafka.serializers.AbstractKafkaSchemaSerDeConfig;
+import io.confluent.kafka.serializers.KafkaAvroSerializer;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Serializes the same {@link GenericRecord} with the stock {@link KafkaAvroSerializer} and with
+ * {@link SeedKitAvroSerializer}, both against one in-memory schema registry. Each record is built
+ * from the schema and {@code DataGenerator} fill that {@link MessageProducer} sends for the topic.
+ *
+ * Run with {@code mvn -Pjmh compile exec:exec}; the {@code gc} profiler it enables reports
+ * allocation per operation next to the time per operation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "--enable-preview")
+public class AvroSerializerBenchmark {
+
+    @Param({"ecommerce.orders", "iot.sensor-readings", "trading.market-data"})
+    public String topic;
+
+    private KafkaAvroSerializer stock;
+    private SeedKitAvroSerializer seedKit;
+    private GenericRecord record;
+
+    @Setup
+    public void setUp() {
+        DataGenerator data = new DataGenerator(42, 100);
+        record = switch (topic) {
+            case "ecommerce.orders" -> filled(MessageProducer.ORDER_SCHEMA, data::fillOrder);
+            case "iot.sensor-readings" -> filled(MessageProducer.SENSOR_READING_SCHEMA, data::fillSensorReading);
+            case "trading.market-data" -> filled(MessageProducer.MARKET_DATA_SCHEMA, data::fillMarketData);
+            default -> throw new IllegalArgumentException("No producer record for " + topic);
+        };
+        Schema schema = record.getSchema();
+
+        SchemaRegistryClient client = new MockSchemaRegistryClient();
+        stock = new KafkaAvroSerializer(client, Map.of(
+            AbstractKafkaSchemaSerDeConfig.SCHEMA_REGISTRY_URL_CONFIG, "mock://benchmark",
+            AbstractKafkaSchemaSerDeConfig.AUTO_REGISTER_SCHEMAS, true));
+        seedKit = new SeedKitAvroSerializer(client, true);
+        // Register and cache the schema ID up front, so both measure the steady state
+        stock.serialize(topic, record);
+        seedKit.resolve(topic, schema);
+    }
+
+    private static GenericRecord filled(Schema schema, Consumer<GenericData.Record> fill) {
+        GenericData.Record record = new GenericData.Record(schema);
+        fill.accept(record);
+        return record;
+    }
+
+    @Benchmark
+    public byte[] stock() {
+        return stock.serialize(topic, record);
+    }
+
+    @Benchmark
+    public byte[] seedKit() {
+        return seedKit.serialize(topic, record);
+    }
+}
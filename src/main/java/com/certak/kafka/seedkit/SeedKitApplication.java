@@ -3,7 +3,10 @@ package com.certak.kafka.seedkit;
 import com.certak.kafka.seedkit.config.SeedKitConfig;
 import com.certak.kafka.seedkit.connectors.ConnectorManager;
 import com.certak.kafka.seedkit.consumers.ConsumerManager;
+import com.certak.kafka.seedkit.corpus.CorpusReplayer;
 import com.certak.kafka.seedkit.ksql.KsqlManager;
+import com.certak.kafka.seedkit.metrics.MetricsServer;
+import com.certak.kafka.seedkit.metrics.SeedKitMetrics;
 import com.certak.kafka.seedkit.producers.MessageProducer;
 import com.certak.kafka.seedkit.schemas.SchemaManager;
 import com.certak.kafka.seedkit.topics.TopicManager;
@@ -11,6 +14,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
 
 /**
  * Main application class for Certak Kafka SeedKit.
@@ -22,19 +27,52 @@ public class SeedKitApplication {
     private static final Logger log = LoggerFactory.getLogger(SeedKitApplication.class);
     
     private final SeedKitConfig config;
+    private final String mode;
+    private final long seed;
     private TopicManager topicManager;
     private SchemaManager schemaManager;
     private MessageProducer messageProducer;
     private ConsumerManager consumerManager;
     private ConnectorManager connectorManager;
     private KsqlManager ksqlManager;
+    private MetricsServer metricsServer;
     private final CountDownLatch shutdownLatch = new CountDownLatch(1);
     
     public SeedKitApplication(SeedKitConfig config) {
+        this(config, config.getMode(), config.getSeed());
+    }
+    
+    /**
+     * @param seed seed for generated data, or null for a random one (logged so the run can be repeated)
+     */
+    public SeedKitApplication(SeedKitConfig config, String mode, Long seed) {
         this.config = config;
+        this.mode = mode;
+        this.seed = seed != null ? seed : ThreadLocalRandom.current().nextLong();
+        log.info("Data seed: {} (run with --seed {} to generate the same data again)", this.seed, this.seed);
     }
     
     public void start() {
+        switch (mode) {
+            case "blast" -> runBlast();
+            case "bulk" -> runBulk();
+            case "codec-bench" -> runCodecBenchmark();
+            case "auto-tune" -> runAutoTune();
+            case "corpus-build" -> runCorpusBuild();
+            case "corpus-replay" -> runCorpusReplay();
+            case "seed" -> runSeed();
+            default -> {
+                // A mistyped mode must not fall back to seed mode, which can recreate every topic
+                log.error("Unknown mode '{}', expected one of {}", mode, SeedKitConfig.MODES);
+                System.exit(2);
+            }
+        }
+    }
+    
+    /**
+     * Seed mode: set up the whole ecosystem, seed data and keep producing and consuming until stopped.
+     */
+    private void runSeed() {
         log.info("====================================================================");
         log.info("Certak Kafka SeedKit - Starting");
         log.info("====================================================================");
@@ -46,41 +84,55 @@ public class SeedKitApplication {
         log.info("====================================================================");
         
         try {
+            startMetricsServer();
+            
             // Step 1: Create topics
+            long topicsStart = System.nanoTime();
             log.info("\n[Step 1/6] Creating topics...");
             topicManager = new TopicManager(config);
             topicManager.createAllTopics();
             topicManager.close();
+            recordStep("topics", topicsStart);
             log.info("Topics created successfully\n");
             
             // Step 2: Register schemas
+            long schemasStart = System.nanoTime();
             log.info("[Step 2/6] Registering schemas...");
             schemaManager = new SchemaManager(config.getSchemaRegistryUrl());
             schemaManager.registerAllSchemas();
+            recordStep("schemas", schemasStart);
             log.info("Schemas registered successfully\n");
             
             // Step 3: Deploy connectors
+            long connectorsStart = System.nanoTime();
             log.info("[Step 3/6] Deploying Kafka Connect connectors...");
             connectorManager = new ConnectorManager(config);
             connectorManager.deployConnectors();
+            recordStep("connectors", connectorsStart);
             log.info("Connectors deployed successfully\n");
             
             // Step 4: Setup KSQL
+            long ksqlStart = System.nanoTime();
             log.info("[Step 4/6] Setting up KSQL streams and tables...");
             ksqlManager = new KsqlManager(config);
             ksqlManager.setupKsql();
+            recordStep("ksql", ksqlStart);
             log.info("KSQL setup completed successfully\n");
             
             // Step 5: Seed initial data
+            long seedingStart = System.nanoTime();
             log.info("[Step 5/6] Seeding initial data...");
-            messageProducer = new MessageProducer(config);
+            messageProducer = new MessageProducer(config, seed);
             messageProducer.seedInitialData();
+            recordStep("seeding", seedingStart);
             log.info("Initial data seeded successfully\n");
             
             // Step 6: Start consumers
+            long consumersStart = System.nanoTime();
             log.info("[Step 6/6] Starting consumer groups...");
             consumerManager = new ConsumerManager(config);
             consumerManager.startConsumers();
+            recordStep("consumers", consumersStart);
             log.info("Consumer groups started successfully\n");
             
             // Start continuous production
@@ -113,6 +165,150 @@ public class SeedKitApplication {
         }
     }
     
+    /**
+     * Blast mode: create topics and schemas, run the max-throughput benchmark and exit.
+     */
+    private void runBlast() {
+        runBenchmarkMode("Blast benchmark", "Running blast benchmark", MessageProducer::runBlast);
+    }
+    
+    /**
+     * Bulk mode: create topics and schemas, fill the configured topics to their targets and exit.
+     */
+    private void runBulk() {
+        runBenchmarkMode("Bulk seeding", "Filling topics", MessageProducer::runBulk);
+    }
+    
+    /**
+     * Codec benchmark mode: create topics and schemas, compare compression codecs per topic and exit.
+     */
+    private void runCodecBenchmark() {
+        runBenchmarkMode("Codec benchmark", "Running codec benchmark", MessageProducer::runCodecBenchmark);
+    }
+    
+    /**
+     * Auto-tune mode: create topics and schemas, search producer settings per topic family and exit.
+     */
+    private void runAutoTune() {
+        runBenchmarkMode("Producer auto-tune", "Tuning producers", MessageProducer::runAutoTune);
+    }
+    
+    /**
+     * Corpus build mode: register schemas, write a corpus file per configured topic and exit.
+     */
+    private void runCorpusBuild() {
+        log.info("====================================================================");
+        log.info("Certak Kafka SeedKit - Corpus build");
+        log.info("====================================================================");
+        log.info("Schema Registry: {}", config.getSchemaRegistryUrl());
+        log.info("Corpus directory: {}", config.getCorpusDirectory());
+        log.info("====================================================================");
+        
+        try {
+            log.info("\n[Step 1/2] Registering schemas...");
+            schemaManager = new SchemaManager(config.getSchemaRegistryUrl());
+            schemaManager.registerAllSchemas();
+            
+            log.info("[Step 2/2] Generating corpus...");
+            messageProducer = new MessageProducer(config, seed);
+            messageProducer.buildCorpus();
+        } catch (Exception e) {
+            log.error("Error building corpus: {}", e.getMessage(), e);
+        } finally {
+            if (messageProducer != null) {
+                messageProducer.stop();
+            }
+        }
+    }
+    
+    /**
+     * Corpus replay mode: create topics, replay the corpus files at full speed and exit.
+     */
+    private void runCorpusReplay() {
+        log.info("====================================================================");
+        log.info("Certak Kafka SeedKit - Corpus replay");
+        log.info("====================================================================");
+        log.info("Kafka Bootstrap: {}", config.getBootstrapServers());
+        log.info("Corpus directory: {}", config.getCorpusDirectory());
+        log.info("====================================================================");
+        
+        try {
+            startMetricsServer();
+            
+            log.info("\n[Step 1/2] Creating topics...");
+            topicManager = new TopicManager(config);
+            topicManager.createAllTopics();
+            topicManager.close();
+            
+            log.info("[Step 2/2] Replaying corpus...");
+            new CorpusReplayer(config).replay();
+        } catch (Exception e) {
+            log.error("Error replaying corpus: {}", e.getMessage(), e);
+        } finally {
+            if (metricsServer != null) {
+                metricsServer.stop();
+            }
+        }
+    }
+    
+    /**
+     * Runs a benchmark-style mode: create topics and schemas, hand a fresh producer to {@code action} and exit.
+     *
+     * @param title mode name for the banner and the failure log, e.g. "Blast benchmark"
+     * @param step  description of the final step, e.g. "Running blast benchmark"
+     */
+    private void runBenchmarkMode(String title, String step, Consumer<MessageProducer> action) {
+        log.info("====================================================================");
+        log.info("Certak Kafka SeedKit - {}", title);
+        log.info("====================================================================");
+        log.info("Kafka Bootstrap: {}", config.getBootstrapServers());
+        log.info("Schema Registry: {}", config.getSchemaRegistryUrl());
+        log.info("====================================================================");
+        
+        try {
+            startMetricsServer();
+            
+            log.info("\n[Step 1/3] Creating topics...");
+            topicManager = new TopicManager(config);
+            topicManager.createAllTopics();
+            topicManager.close();
+            
+            log.info("[Step 2/3] Registering schemas...");
+            schemaManager = new SchemaManager(config.getSchemaRegistryUrl());
+            schemaManager.registerAllSchemas();
+            
+            log.info("[Step 3/3] {}...", step);
+            messageProducer = new MessageProducer(config, seed);
+            action.accept(messageProducer);
+        } catch (Exception e) {
+            log.error("Error running {}: {}", title.toLowerCase(), e.getMessage(), e);
+        } finally {
+            if (messageProducer != null) {
+                messageProducer.stop();
+            }
+            if (metricsServer != null) {
+                metricsServer.stop();
+            }
+        }
+    }
+    
+    private void startMetricsServer() {
+        if (!config.isMetricsEnabled()) {
+            return;
+        }
+        try {
+            metricsServer = new MetricsServer(config.getMetricsPort());
+            metricsServer.start();
+        } catch (Exception e) {
+            log.warn("Could not start metrics endpoint on port {}: {}", config.getMetricsPort(), e.getMessage());
+        }
+    }
+    
+    // Publishes how long a setup step took as a gauge on the metrics endpoint
+    private void recordStep(String step, long startNanos) {
+        SeedKitMetrics.setGauge("seedkit_setup_step_duration_seconds", (System.nanoTime() - startNanos) / 1e9, "step", step);
+    }
+    
     private void shutdown() {
         log.info("\n====================================================================");
         log.info("Certak Kafka SeedKit - Shutting down");
@@ -137,6 +333,10 @@ public class SeedKitApplication {
                 ksqlManager.close();
             }
             
+            if (metricsServer != null) {
+                metricsServer.stop();
+            }
+            
             log.info("====================================================================");
             log.info("Certak Kafka SeedKit - Shutdown complete");
             log.info("====================================================================");
@@ -150,7 +350,22 @@ public class SeedKitApplication {
         log.info("Loading configuration...");
         SeedKitConfig config = SeedKitConfig.load();
         
-        SeedKitApplication app = new SeedKitApplication(config);
+        String seed = argument(args, "--seed", null);
+        SeedKitApplication app = new SeedKitApplication(config, argument(args, "--mode", config.getMode()),
+            seed != null ? Long.valueOf(seed) : config.getSeed());
         app.start();
     }
+    
+    // Value following a "--name value" or "--name=value" command line argument
+    private static String argument(String[] args, String name, String defaultValue) {
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals(name) && i + 1 < args.length) {
+                return args[i + 1];
+            }
+            if (args[i].startsWith(name + "=")) {
+                return args[i].substring(name.length() + 1);
+            }
+        }
+        return defaultValue;
+    }
 }
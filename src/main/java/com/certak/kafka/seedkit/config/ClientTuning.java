@@ -0,0 +1,189 @@
+package com.certak.kafka.seedkit.config;
+
+import java.util.*;
+
+/**
+ * Producer and consumer properties built from the base {@code kafka.producer}/{@code kafka.consumer}
+ * settings and named tuning profiles.
+ *
+ * Profiles (throughput, low-latency, durable, memory-lean, plus any defined under
+ * {@code kafka.tuning.profiles}) are applied per producer family, per topic group and per consumer
+ * group. Later layers win: base settings, then mode settings such as bulk's, then the family
+ * profile, then the topic group profile.
+ * Keys may be written as in the YAML ({@code linger-ms}) or as Kafka properties ({@code linger.ms}).
+ */
+public class ClientTuning {
+
+    private static final Map<String, Map<String, Object>> PRODUCER_PROFILES = Map.of(
+        "throughput", Map.of(
+            "acks", "1",
+            "batch.size", 262144,
+            "linger.ms", 20,
+            "buffer.memory", 134217728L),
+        "low-latency", Map.of(
+            "acks", "1",
+            "batch.size", 16384,
+            "linger.ms", 0),
+        "durable", Map.of(
+            "acks", "all",
+            "enable.idempotence", true,
+            "retries", Integer.MAX_VALUE,
+            "max.in.flight.requests.per.connection", 5,
+            "delivery.timeout.ms", 300000),
+        "memory-lean", Map.of(
+            "batch.size", 16384,
+            "linger.ms", 5,
+            "buffer.memory", 8388608L,
+            "max.request.size", 1048576));
+
+    private static final Map<String, Map<String, Object>> CONSUMER_PROFILES = Map.of(
+        "throughput", Map.of(
+            "fetch.min.bytes", 262144,
+            "fetch.max.wait.ms", 500,
+            "max.poll.records", 2000,
+            "max.partition.fetch.bytes", 4194304),
+        "low-latency", Map.of(
+            "fetch.min.bytes", 1,
+            "fetch.max.wait.ms", 10,
+            "max.poll.records", 100),
+        // Offsets stay auto-committed, as the demo consumers never commit manually
+        "durable", Map.of(
+            "isolation.level", "read_committed"),
+        "memory-lean", Map.of(
+            "max.poll.records", 100,
+            "fetch.max.bytes", 8388608,
+            "max.partition.fetch.bytes", 262144,
+            "receive.buffer.bytes", 65536));
+
+    private final Map<String, Object> baseProducer;
+    private final Map<String, Object> baseConsumer;
+    private final Map<String, Map<String, Object>> producerProfiles = new HashMap<>();
+    private final Map<String, Map<String, Object>> consumerProfiles = new HashMap<>();
+    private final Map<String, String> familyProfiles;
+    private final Map<String, String> topicGroupProfiles;
+    private final Map<String, String> consumerGroupProfiles;
+
+    @SuppressWarnings("unchecked")
+    public ClientTuning(SeedKitConfig config) {
+        this.baseProducer = toKafkaProperties(config.getProducerConfig());
+        this.baseConsumer = toKafkaProperties(config.getConsumerConfig());
+        PRODUCER_PROFILES.forEach((name, props) -> producerProfiles.put(name, new HashMap<>(props)));
+        CONSUMER_PROFILES.forEach((name, props) -> consumerProfiles.put(name, new HashMap<>(props)));
+        config.getTuningProfiles().forEach((name, profile) -> {
+            producerProfiles.computeIfAbsent(name, n -> new HashMap<>())
+                .putAll(toKafkaProperties((Map<String, Object>) profile.get("producer")));
+            consumerProfiles.computeIfAbsent(name, n -> new HashMap<>())
+                .putAll(toKafkaProperties((Map<String, Object>) profile.get("consumer")));
+        });
+        this.familyProfiles = checked(config.getProducerFamilyProfiles());
+        this.topicGroupProfiles = checked(config.getTopicGroupProfiles());
+        this.consumerGroupProfiles = checked(config.getConsumerGroupProfiles());
+        checkIdempotence();
+    }
+
+    /**
+     * Properties for a producer family, e.g. "string-lz4" or "avro-none".
+     */
+    public Map<String, Object> producer(String family) {
+        return producer(family, Map.of(), null);
+    }
+
+    /**
+     * Properties for a producer family serving a topic group with its own profile.
+     */
+    public Map<String, Object> producer(String family, String topicGroupProfile) {
+        return producer(family, Map.of(), topicGroupProfile);
+    }
+
+    /**
+     * Properties for a producer family with mode-specific settings (e.g. bulk) that its profile can still override.
+     */
+    public Map<String, Object> producer(String family, Map<String, Object> settings) {
+        return producer(family, settings, null);
+    }
+
+    private Map<String, Object> producer(String family, Map<String, Object> settings, String topicGroupProfile) {
+        Map<String, Object> props = new HashMap<>(baseProducer);
+        props.putAll(settings);
+        String familyProfile = familyProfiles.get(family);
+        if (familyProfile != null) {
+            props.putAll(producerProfiles.get(familyProfile));
+        }
+        if (topicGroupProfile != null) {
+            props.putAll(producerProfiles.get(topicGroupProfile));
+        }
+        return props;
+    }
+
+    /**
+     * Profile for the topic's group (the part of the name before the first dot), or null.
+     */
+    public String topicProfile(String topic) {
+        if (topicGroupProfiles.isEmpty()) {
+            return null;
+        }
+        int dot = topic.indexOf('.');
+        return topicGroupProfiles.get(dot > 0 ? topic.substring(0, dot) : topic);
+    }
+
+    public Map<String, Object> consumer(String groupId) {
+        Map<String, Object> props = new HashMap<>(baseConsumer);
+        String profile = consumerGroupProfiles.get(groupId);
+        if (profile != null) {
+            props.putAll(consumerProfiles.get(profile));
+        }
+        return props;
+    }
+
+    /**
+     * Human-readable summary of the profile assignments, for startup logging.
+     */
+    public String describe() {
+        return "producer families " + familyProfiles + ", topic groups " + topicGroupProfiles
+            + ", consumer groups " + consumerGroupProfiles;
+    }
+
+    private Map<String, String> checked(Map<String, String> assignments) {
+        assignments.forEach((target, profile) -> {
+            if (!producerProfiles.containsKey(profile)) {
+                throw new IllegalArgumentException("Unknown tuning profile '" + profile + "' for " + target
+                    + ", expected one of " + new TreeSet<>(producerProfiles.keySet()));
+            }
+        });
+        return assignments;
+    }
+
+    // The producer rejects explicit idempotence without acks=all when it is built, which for a topic group
+    // variant happens on the send path, so every family/topic group combination is checked up front
+    private void checkIdempotence() {
+        Map<String, String> families = new LinkedHashMap<>();
+        families.put("base settings", null);
+        familyProfiles.forEach((family, profile) -> families.put("family " + family, profile));
+        Map<String, String> groups = new LinkedHashMap<>();
+        groups.put("no topic group", null);
+        topicGroupProfiles.forEach((group, profile) -> groups.put("topic group " + group, profile));
+        families.forEach((family, familyProfile) -> groups.forEach((group, groupProfile) -> {
+            Map<String, Object> props = new HashMap<>(baseProducer);
+            if (familyProfile != null) {
+                props.putAll(producerProfiles.get(familyProfile));
+            }
+            if (groupProfile != null) {
+                props.putAll(producerProfiles.get(groupProfile));
+            }
+            String acks = String.valueOf(props.getOrDefault("acks", "all"));
+            if (Boolean.parseBoolean(String.valueOf(props.get("enable.idempotence"))) && !acks.equals("all") && !acks.equals("-1")) {
+                throw new IllegalArgumentException("Tuning profiles for " + family + " (" + familyProfile + ") and " + group
+                    + " (" + groupProfile + ") combine enable.idempotence=true with acks=" + acks + ", which requires acks=all");
+            }
+        }));
+    }
+    
+    // YAML keys use dashes where Kafka property names use dots
+    private static Map<String, Object> toKafkaProperties(Map<String, Object> settings) {
+        Map<String, Object> props = new HashMap<>();
+        if (settings != null) {
+            settings.forEach((key, value) -> props.put(key.replace('-', '.'), value));
+        }
+        return props;
+    }
+}
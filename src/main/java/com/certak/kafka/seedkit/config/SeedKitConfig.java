@@ -15,6 +15,9 @@ import java.util.Map;
 public class SeedKitConfig {
     private static final Logger log = LoggerFactory.getLogger(SeedKitConfig.class);
     
+    // Values accepted by mode: and --mode
+    public static final List<String> MODES = List.of("seed", "blast", "bulk", "codec-bench", "auto-tune", "corpus-build", "corpus-replay");
+    
     private Map<String, Object> kafka;
     private Map<String, Object> schemaRegistry;
     private Map<String, Object> kafkaConnect;
@@ -22,6 +25,15 @@ public class SeedKitConfig {
     private Map<String, Object> topics;
     private Map<String, Object> seeding;
     private Map<String, Object> consumerGroups;
+    private Map<String, Object> blast;
+    private Map<String, Object> metrics;
+    private Map<String, Object> corpus;
+    private Map<String, Object> bulk;
+    private Map<String, Object> codecBench;
+    private Map<String, Object> autoTune;
+    private Map<String, Object> keyDistributions;
+    private String mode;
+    private Long seed;
     
     public static SeedKitConfig load() {
         return load("application.yaml");
@@ -44,6 +56,18 @@ public class SeedKitConfig {
             config.topics = (Map<String, Object>) raw.get("topics");
             config.seeding = (Map<String, Object>) raw.get("seeding");
             config.consumerGroups = (Map<String, Object>) raw.get("consumer-groups");
+            config.blast = (Map<String, Object>) raw.getOrDefault("blast", Map.of());
+            config.metrics = (Map<String, Object>) raw.getOrDefault("metrics", Map.of());
+            config.corpus = (Map<String, Object>) raw.getOrDefault("corpus", Map.of());
+            config.bulk = (Map<String, Object>) raw.getOrDefault("bulk", Map.of());
+            config.codecBench = (Map<String, Object>) raw.getOrDefault("codec-bench", Map.of());
+            config.autoTune = (Map<String, Object>) raw.getOrDefault("auto-tune", Map.of());
+            config.keyDistributions = (Map<String, Object>) raw.getOrDefault("key-distributions", Map.of());
+            config.mode = (String) raw.getOrDefault("mode", "seed");
+            if (!MODES.contains(config.mode)) {
+                throw new IllegalArgumentException("Unknown mode '" + config.mode + "', expected one of " + MODES);
+            }
+            config.seed = raw.get("seed") != null ? ((Number) raw.get("seed")).longValue() : null;
             
             log.info("Loaded configuration from {}", resourceName);
             return config;
@@ -69,6 +93,29 @@ public class SeedKitConfig {
         return (Map<String, Object>) kafka.get("consumer");
     }
     
+    // Tuning profiles, see ClientTuning
+    public Map<String, Map<String, Object>> getTuningProfiles() {
+        return getTuningSection("profiles");
+    }
+    
+    public Map<String, String> getProducerFamilyProfiles() {
+        return getTuningSection("producers");
+    }
+    
+    public Map<String, String> getTopicGroupProfiles() {
+        return getTuningSection("topic-groups");
+    }
+    
+    public Map<String, String> getConsumerGroupProfiles() {
+        return getTuningSection("consumer-groups");
+    }
+    
+    private <T> Map<String, T> getTuningSection(String name) {
+        Map<String, Object> tuning = (Map<String, Object>) kafka.get("tuning");
+        Map<String, T> section = tuning != null ? (Map<String, T>) tuning.get(name) : null;
+        return section != null ? section : Map.of();
+    }
+    
     // Schema Registry getters
     public String getSchemaRegistryUrl() {
         return (String) schemaRegistry.get("primary-url");
@@ -78,6 +125,21 @@ public class SeedKitConfig {
         return (String) schemaRegistry.get("secondary-url");
     }
     
+    public boolean isAutoRegisterSchemas() {
+        return (boolean) schemaRegistry.getOrDefault("auto-register-schemas", true);
+    }
+    
+    /**
+     * Per-message JSON Schema validation: always, never, or first (until a topic's first records conform).
+     */
+    public String getJsonSchemaValidation() {
+        return (String) schemaRegistry.getOrDefault("json-schema-validation", "always");
+    }
+    
+    public long getJsonSchemaValidateFirst() {
+        return ((Number) schemaRegistry.getOrDefault("json-schema-validate-first", 1000)).longValue();
+    }
+    
     // Kafka Connect getters
     @SuppressWarnings("unchecked")
     public List<Map<String, String>> getConnectClusters() {
@@ -132,6 +194,64 @@ public class SeedKitConfig {
         return cp != null ? (int) cp.getOrDefault("max-interval-ms", 5000) : 5000;
     }
     
+    /**
+     * Distribution of gaps between continuously produced messages: none, uniform or exponential.
+     */
+    public String getContinuousJitter() {
+        return (String) getContinuousProducerConfig().getOrDefault("jitter", "uniform");
+    }
+    
+    public int getRateReportIntervalSeconds() {
+        return (int) getContinuousProducerConfig().getOrDefault("rate-report-interval-seconds", 60);
+    }
+    
+    /**
+     * Per-topic rate override, either a plain messages/sec number or a map with
+     * messages-per-second, jitter and jitter-spread. Returns null when the topic has no override.
+     */
+    @SuppressWarnings("unchecked")
+    public Map<String, Object> getTopicRateOverride(String topic) {
+        Map<String, Object> rates = (Map<String, Object>) getContinuousProducerConfig().get("topic-rates");
+        Object override = rates != null ? rates.get(topic) : null;
+        if (override instanceof Number rate) {
+            return Map.of("messages-per-second", rate);
+        }
+        return (Map<String, Object>) override;
+    }
+    
+    /**
+     * Load profiles shaping continuous production over time, see {@code LoadProfile}.
+     */
+    @SuppressWarnings("unchecked")
+    public List<Map<String, Object>> getLoadProfileConfigs() {
+        List<Map<String, Object>> profiles = (List<Map<String, Object>>) getContinuousProducerConfig().get("load-profiles");
+        return profiles != null ? profiles : List.of();
+    }
+    
+    public boolean isPregenerateEnabled() {
+        return (boolean) getPregenerateConfig().getOrDefault("enabled", true);
+    }
+    
+    public int getPregenerateLookaheadMs() {
+        return (int) getPregenerateConfig().getOrDefault("lookahead-ms", 1000);
+    }
+    
+    public int getPregenerateMaxBufferSize() {
+        return (int) getPregenerateConfig().getOrDefault("max-buffer-size", 4096);
+    }
+    
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> getPregenerateConfig() {
+        Map<String, Object> pregenerate = (Map<String, Object>) getContinuousProducerConfig().get("pregenerate");
+        return pregenerate != null ? pregenerate : Map.of();
+    }
+    
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> getContinuousProducerConfig() {
+        Map<String, Object> cp = (Map<String, Object>) seeding.get("continuous-producer");
+        return cp != null ? cp : Map.of();
+    }
+    
     public int getInitialMessageCount() {
         return (int) seeding.getOrDefault("initial-message-count", 50);
     }
@@ -140,15 +260,319 @@ public class SeedKitConfig {
         return (int) seeding.getOrDefault("large-message-count", 10);
     }
     
+    public int getSeedingParallelism() {
+        return (int) seeding.getOrDefault("parallelism", 8);
+    }
+    
+    public int getSeedingMaxInFlightRecords() {
+        return (int) seeding.getOrDefault("max-in-flight-records", 10000);
+    }
+    
+    /**
+     * Faker values sampled per kind (names, emails, addresses, sentences, ...) at startup, or 0 to call Faker per value.
+     */
+    public int getDictionarySize() {
+        return (int) seeding.getOrDefault("dictionary-size", 10000);
+    }
+    
+    public int getBinarySlabSize() {
+        return (int) getBinaryConfig().getOrDefault("slab-size", 16777216);
+    }
+    
+    public int getBinaryMinSize() {
+        return (int) getBinaryConfig().getOrDefault("min-size", 1024);
+    }
+    
+    public int getBinaryMaxSize() {
+        return (int) getBinaryConfig().getOrDefault("max-size", 51200);
+    }
+    
+    /**
+     * Share of incompressible bytes in binary payloads, from 0 to 1.
+     */
+    public double getBinaryEntropy() {
+        return ((Number) getBinaryConfig().getOrDefault("entropy", 1.0)).doubleValue();
+    }
+    
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> getBinaryConfig() {
+        Map<String, Object> binary = (Map<String, Object>) seeding.get("binary");
+        return binary != null ? binary : Map.of();
+    }
+    
     // Consumer groups getters
+    /**
+     * Whether produced records carry produce-time and sequence headers for end-to-end latency.
+     */
+    public boolean isLatencyHeadersEnabled() {
+        return (boolean) seeding.getOrDefault("latency-headers", true);
+    }
+    
+    // Schema-driven generators for registered Avro subjects without a hand-written generator
+    public boolean isSchemaDrivenEnabled() {
+        return (boolean) getSchemaDrivenConfig().getOrDefault("enabled", true);
+    }
+    
+    @SuppressWarnings("unchecked")
+    public List<String> getSchemaDrivenExcludeTopics() {
+        return (List<String>) getSchemaDrivenConfig().getOrDefault("exclude-topics",
+            List.of("connect.datagen-users", "connect.datagen-pageviews"));
+    }
+    
+    /**
+     * Share of nullable fields left null in schema-driven records.
+     */
+    public double getSchemaDrivenNullRate() {
+        return ((Number) getSchemaDrivenConfig().getOrDefault("null-rate", 0.2)).doubleValue();
+    }
+    
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> getSchemaDrivenConfig() {
+        Map<String, Object> schemaDriven = (Map<String, Object>) seeding.get("schema-driven");
+        return schemaDriven != null ? schemaDriven : Map.of();
+    }
+    
     public boolean isConsumerGroupsEnabled() {
         return consumerGroups != null && (boolean) consumerGroups.getOrDefault("enabled", true);
     }
     
+    public int getLatencyReportIntervalSeconds() {
+        return consumerGroups != null ? (int) consumerGroups.getOrDefault("latency-report-interval-seconds", 60) : 60;
+    }
+    
     @SuppressWarnings("unchecked")
     public List<Map<String, Object>> getConsumerGroupConfigs() {
         return consumerGroups != null ? 
             (List<Map<String, Object>>) consumerGroups.get("groups") : 
             List.of();
     }
+    
+    // Metrics endpoint getters
+    public boolean isMetricsEnabled() {
+        return (boolean) metrics.getOrDefault("enabled", true);
+    }
+    
+    public int getMetricsPort() {
+        return (int) metrics.getOrDefault("port", 9464);
+    }
+    
+    // Mode getters
+    public String getMode() {
+        return mode;
+    }
+    
+    /**
+     * Global seed for generated data, or null to pick a random one per run.
+     */
+    public Long getSeed() {
+        return seed;
+    }
+    
+    // Blast getters
+    public int getBlastDurationSeconds() {
+        return (int) blast.getOrDefault("duration-seconds", 60);
+    }
+    
+    public long getBlastMessageCount() {
+        return ((Number) blast.getOrDefault("message-count", 0)).longValue();
+    }
+    
+    public int getBlastThreads() {
+        return (int) blast.getOrDefault("threads", 2);
+    }
+    
+    public List<String> getBlastProducers() {
+        return (List<String>) blast.getOrDefault("producers",
+            List.of("string-none", "string-lz4", "string-snappy", "string-gzip", "binary-lz4", "avro-none", "avro-lz4", "avro-snappy", "protobuf-lz4"));
+    }
+    
+    public List<String> getBlastStringTopics() {
+        return (List<String>) blast.getOrDefault("string-topics", List.of("logs.application"));
+    }
+    
+    public List<String> getBlastBinaryTopics() {
+        return (List<String>) blast.getOrDefault("binary-topics", List.of("data.binary-blobs"));
+    }
+    
+    public List<String> getBlastAvroTopics() {
+        return (List<String>) blast.getOrDefault("avro-topics", List.of("iot.sensor-readings"));
+    }
+    
+    public List<String> getBlastProtobufTopics() {
+        return (List<String>) blast.getOrDefault("protobuf-topics", List.of("trading.orders"));
+    }
+    
+    public List<String> getBlastJsonSchemaTopics() {
+        return (List<String>) blast.getOrDefault("json-schema-topics", List.of("notifications.in-app"));
+    }
+    
+    // Corpus getters
+    public String getCorpusDirectory() {
+        return (String) corpus.getOrDefault("directory", "corpus");
+    }
+    
+    public List<String> getCorpusTopics() {
+        return (List<String>) corpus.getOrDefault("topics", List.of("logs.application", "iot.sensor-readings"));
+    }
+    
+    public int getCorpusMessagesPerTopic() {
+        return (int) corpus.getOrDefault("messages-per-topic", 100000);
+    }
+    
+    private Map<String, Object> getCorpusReplayConfig() {
+        return (Map<String, Object>) corpus.getOrDefault("replay", Map.of());
+    }
+    
+    public String getCorpusReplayCompression() {
+        return (String) getCorpusReplayConfig().getOrDefault("compression", "lz4");
+    }
+    
+    public int getCorpusReplayDurationSeconds() {
+        return (int) getCorpusReplayConfig().getOrDefault("duration-seconds", 60);
+    }
+    
+    public long getCorpusReplayMessageCount() {
+        return ((Number) getCorpusReplayConfig().getOrDefault("message-count", 0)).longValue();
+    }
+    
+    public int getCorpusReplayThreads() {
+        return (int) getCorpusReplayConfig().getOrDefault("threads", 2);
+    }
+    
+    // Key distribution getters
+    public Map<String, Map<String, Object>> getPoolKeyDistributions() {
+        Map<String, Map<String, Object>> pools = (Map<String, Map<String, Object>>) keyDistributions.get("pools");
+        return pools != null ? pools : Map.of();
+    }
+    
+    public Map<String, Map<String, Object>> getTopicKeyDistributions() {
+        Map<String, Map<String, Object>> topics = (Map<String, Map<String, Object>>) keyDistributions.get("topics");
+        return topics != null ? topics : Map.of();
+    }
+    
+    // Bulk getters
+    public List<Map<String, Object>> getBulkTargetConfigs() {
+        return (List<Map<String, Object>>) bulk.getOrDefault("targets", List.of());
+    }
+    
+    public int getBulkGeneratorThreads() {
+        return (int) bulk.getOrDefault("generator-threads", 2);
+    }
+    
+    public int getBulkBufferSize() {
+        return (int) bulk.getOrDefault("buffer-size", 256);
+    }
+    
+    public int getBulkProgressIntervalSeconds() {
+        return (int) bulk.getOrDefault("progress-interval-seconds", 10);
+    }
+    
+    private Map<String, Object> getBulkProducerConfig() {
+        return (Map<String, Object>) bulk.getOrDefault("producer", Map.of());
+    }
+    
+    public String getBulkCompression() {
+        return (String) getBulkProducerConfig().getOrDefault("compression", "lz4");
+    }
+    
+    public int getBulkBatchSize() {
+        return (int) getBulkProducerConfig().getOrDefault("batch-size", 262144);
+    }
+    
+    public int getBulkLingerMs() {
+        return (int) getBulkProducerConfig().getOrDefault("linger-ms", 20);
+    }
+    
+    public long getBulkBufferMemory() {
+        return ((Number) getBulkProducerConfig().getOrDefault("buffer-memory", 134217728)).longValue();
+    }
+    
+    // Codec benchmark getters
+    public List<String> getCodecBenchTopics() {
+        return (List<String>) codecBench.getOrDefault("topics", List.of("logs.application", "ecommerce.orders"));
+    }
+    
+    /**
+     * Codecs to compare, each a compression type optionally followed by a level, e.g. "zstd:3".
+     */
+    public List<String> getCodecBenchCodecs() {
+        return (List<String>) codecBench.getOrDefault("codecs", List.of("none", "gzip", "snappy", "lz4", "zstd"));
+    }
+    
+    public int getCodecBenchMessagesPerTopic() {
+        return (int) codecBench.getOrDefault("messages-per-topic", 20000);
+    }
+    
+    public long getCodecBenchMaxBytesPerTopic() {
+        return ((Number) codecBench.getOrDefault("max-bytes-per-topic", 134217728)).longValue();
+    }
+    
+    public int getCodecBenchBatchSize() {
+        return (int) codecBench.getOrDefault("batch-size", 262144);
+    }
+    
+    public int getCodecBenchLingerMs() {
+        return (int) codecBench.getOrDefault("linger-ms", 20);
+    }
+    
+    // Auto-tune getters
+    public List<Map<String, Object>> getAutoTuneFamilies() {
+        return (List<Map<String, Object>>) autoTune.getOrDefault("families",
+            List.of(Map.of("name", "logs", "topics", List.of("logs.application"), "compression", "lz4")));
+    }
+    
+    /**
+     * Send-to-acknowledgement latency the tuned settings must stay within, at {@link #getAutoTuneLatencyPercentile()}.
+     */
+    public double getAutoTuneLatencySloMs() {
+        return ((Number) autoTune.getOrDefault("latency-slo-ms", 100)).doubleValue();
+    }
+    
+    public double getAutoTuneLatencyPercentile() {
+        return ((Number) autoTune.getOrDefault("latency-percentile", 99)).doubleValue();
+    }
+    
+    public int getAutoTuneTrialSeconds() {
+        return (int) autoTune.getOrDefault("trial-seconds", 20);
+    }
+    
+    public int getAutoTuneWarmupSeconds() {
+        return (int) autoTune.getOrDefault("warmup-seconds", 5);
+    }
+    
+    public int getAutoTuneRounds() {
+        return (int) autoTune.getOrDefault("rounds", 2);
+    }
+    
+    public int getAutoTuneThreads() {
+        return (int) autoTune.getOrDefault("threads", 2);
+    }
+    
+    public int getAutoTuneMaxOutstandingRecords() {
+        return (int) autoTune.getOrDefault("max-outstanding-records", 10000);
+    }
+    
+    public int getAutoTunePayloadsPerTopic() {
+        return (int) autoTune.getOrDefault("payloads-per-topic", 10000);
+    }
+    
+    public long getAutoTuneMaxBytesPerTopic() {
+        return ((Number) autoTune.getOrDefault("max-bytes-per-topic", 67108864)).longValue();
+    }
+    
+    public List<Integer> getAutoTuneBatchSizes() {
+        return (List<Integer>) getAutoTuneSearch().getOrDefault("batch-size", List.of(16384, 65536, 262144, 1048576));
+    }
+    
+    public List<Integer> getAutoTuneLingerMs() {
+        return (List<Integer>) getAutoTuneSearch().getOrDefault("linger-ms", List.of(0, 5, 20, 50, 100));
+    }
+    
+    public List<Integer> getAutoTuneMaxInFlight() {
+        return (List<Integer>) getAutoTuneSearch().getOrDefault("max-in-flight", List.of(1, 2, 5));
+    }
+    
+    private Map<String, Object> getAutoTuneSearch() {
+        return (Map<String, Object>) autoTune.getOrDefault("search", Map.of());
+    }
 }
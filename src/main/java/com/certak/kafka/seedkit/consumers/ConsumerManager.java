@@ -1,6 +1,11 @@
 package com.certak.kafka.seedkit.consumers;
 
+import com.certak.kafka.seedkit.config.ClientTuning;
 import com.certak.kafka.seedkit.config.SeedKitConfig;
+import com.certak.kafka.seedkit.metrics.EndToEndLatency;
+import com.certak.kafka.seedkit.metrics.LatencyHistogram;
+import com.certak.kafka.seedkit.metrics.PrometheusWriter;
+import com.certak.kafka.seedkit.metrics.SeedKitMetrics;
 import org.apache.kafka.clients.consumer.*;
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.slf4j.Logger;
@@ -20,20 +25,26 @@ import java.util.concurrent.atomic.AtomicLong;
  * - Permanent consumers: Run continuously until shutdown
  * - Temporary consumers: Consume for a fixed period then stop permanently
  * - Intermittent consumers: Come and go at random intervals
+ * 
+ * All consumers record end-to-end latency from SeedKit's produce-time header per group and topic.
  */
 public class ConsumerManager {
     private static final Logger log = LoggerFactory.getLogger(ConsumerManager.class);
     
     private final SeedKitConfig config;
+    private final ClientTuning tuning;
     private final ExecutorService executor;
     private final ScheduledExecutorService intermittentScheduler;
     private final List<DemoConsumer> consumers = new ArrayList<>();
     private final List<IntermittentConsumer> intermittentConsumers = new ArrayList<>();
     private final AtomicBoolean running = new AtomicBoolean(false);
     private final Random random = new Random();
+    private final EndToEndLatency latency = new EndToEndLatency();
+    private final SeedKitMetrics.Collector metricsCollector = this::collectMetrics;
     
     public ConsumerManager(SeedKitConfig config) {
         this.config = config;
+        this.tuning = new ClientTuning(config);
         this.executor = Executors.newCachedThreadPool(r -> {
             Thread t = new Thread(r);
             t.setDaemon(true);
@@ -53,6 +64,7 @@ public class ConsumerManager {
         
         running.set(true);
         log.info("Starting consumer groups...");
+        SeedKitMetrics.registerCollector(metricsCollector);
         
         for (Map<String, Object> groupConfig : config.getConsumerGroupConfigs()) {
             String groupName = (String) groupConfig.get("name");
@@ -80,6 +92,11 @@ public class ConsumerManager {
         // Add intermittent consumers that come and go
         addIntermittentConsumers();
         
+        int reportInterval = config.getLatencyReportIntervalSeconds();
+        if (reportInterval > 0) {
+            intermittentScheduler.scheduleAtFixedRate(latency::logReport, reportInterval, reportInterval, TimeUnit.SECONDS);
+        }
+        
         log.info("Started {} permanent consumers, plus temporary and intermittent consumers", consumers.size());
     }
     
@@ -284,6 +301,8 @@ public class ConsumerManager {
         long totalMessages = consumers.stream().mapToLong(DemoConsumer::getMessagesConsumed).sum();
         long intermittentMessages = intermittentConsumers.stream().mapToLong(IntermittentConsumer::getMessagesConsumed).sum();
         log.info("All consumers stopped. Permanent consumers: {}, Intermittent total: {}", totalMessages, intermittentMessages);
+        latency.logReport();
+        SeedKitMetrics.unregisterCollector(metricsCollector);
     }
     
     /**
@@ -300,6 +319,45 @@ public class ConsumerManager {
         return stats;
     }
     
+    /**
+     * Get end-to-end latency (microseconds) per "group/topic".
+     */
+    public Map<String, LatencyHistogram.Snapshot> getLatencyStats() {
+        return latency.getSnapshots();
+    }
+    
+    /**
+     * Export consumed counts and end-to-end latency to the metrics endpoint.
+     */
+    private void collectMetrics(PrometheusWriter writer) {
+        for (DemoConsumer consumer : consumers) {
+            writer.counter("seedkit_consumer_records_consumed_total", consumer.getMessagesConsumed(),
+                "consumer", consumer.getConsumerId(), "group", consumer.getGroupId());
+        }
+        for (IntermittentConsumer consumer : intermittentConsumers) {
+            writer.counter("seedkit_consumer_records_consumed_total", consumer.getMessagesConsumed(),
+                "consumer", consumer.getConsumerId(), "group", consumer.getGroupId());
+        }
+        latency.getSnapshots().forEach((groupTopic, snapshot) -> {
+            int slash = groupTopic.indexOf('/');
+            writer.summary("seedkit_end_to_end_latency_seconds", snapshot,
+                "group", groupTopic.substring(0, slash), "topic", groupTopic.substring(slash + 1));
+        });
+    }
+    
+    // Export a consumer's client metrics until it is closed; the registration follows the latest instance
+    private KafkaConsumer<String, String> registerMetrics(String consumerId, KafkaConsumer<String, String> consumer) {
+        SeedKitMetrics.registerClient(consumerId, consumer::metrics);
+        return consumer;
+    }
+    
+    // Record end-to-end latency for every record in a poll
+    private void recordLatency(String groupId, ConsumerRecords<String, String> records) {
+        for (ConsumerRecord<String, String> record : records) {
+            latency.record(groupId, record);
+        }
+    }
+    
     /**
      * Demo consumer that consumes and discards messages.
      */
@@ -330,6 +388,7 @@ public class ConsumerManager {
                         
                         if (!records.isEmpty()) {
                             messagesConsumed.addAndGet(records.count());
+                            recordLatency(groupId, records);
                             
                             // Simulate some processing time (very small)
                             if (records.count() > 0) {
@@ -353,6 +412,7 @@ public class ConsumerManager {
             } finally {
                 if (consumer != null) {
                     try {
+                        SeedKitMetrics.unregisterClient(consumerId);
                         consumer.close(Duration.ofSeconds(5));
                     } catch (Exception e) {
                         log.debug("Error closing consumer {}: {}", consumerId, e.getMessage());
@@ -376,7 +436,9 @@ public class ConsumerManager {
             props.put(ConsumerConfig.FETCH_MIN_BYTES_CONFIG, "1");
             props.put(ConsumerConfig.FETCH_MAX_WAIT_MS_CONFIG, "500");
             
-            return new KafkaConsumer<>(props);
+            // Base settings and the group's tuning profile from application.yaml
+            props.putAll(tuning.consumer(groupId));
+            return registerMetrics(consumerId, new KafkaConsumer<>(props));
         }
         
         public void stop() {
@@ -432,6 +494,7 @@ public class ConsumerManager {
                         ConsumerRecords<String, String> records = consumer.poll(Duration.ofMillis(1000));
                         if (!records.isEmpty()) {
                             messagesConsumed.addAndGet(records.count());
+                            recordLatency(groupId, records);
                         }
                     } catch (Exception e) {
                         if (running.get()) {
@@ -448,6 +511,7 @@ public class ConsumerManager {
             } finally {
                 if (consumer != null) {
                     try {
+                        SeedKitMetrics.unregisterClient(consumerId);
                         consumer.close(Duration.ofSeconds(5));
                     } catch (Exception e) {
                         log.debug("Error closing temporary consumer {}: {}", consumerId, e.getMessage());
@@ -466,7 +530,9 @@ public class ConsumerManager {
             props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
             props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, "true");
             props.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, "500");
-            return new KafkaConsumer<>(props);
+            // Base settings and the group's tuning profile from application.yaml
+            props.putAll(tuning.consumer(groupId));
+            return registerMetrics(consumerId, new KafkaConsumer<>(props));
         }
     }
     
@@ -517,6 +583,7 @@ public class ConsumerManager {
                             ConsumerRecords<String, String> records = consumer.poll(Duration.ofMillis(500));
                             if (!records.isEmpty()) {
                                 messagesConsumed.addAndGet(records.count());
+                                recordLatency(groupId, records);
                             }
                         } catch (Exception e) {
                             if (running.get() && consumerRunning.get()) {
@@ -529,6 +596,7 @@ public class ConsumerManager {
                     // Close consumer for OFF phase
                     if (consumer != null) {
                         try {
+                            SeedKitMetrics.unregisterClient(consumerId);
                             consumer.close(Duration.ofSeconds(2));
                         } catch (Exception e) {
                             log.debug("Error closing intermittent consumer {}: {}", consumerId, e.getMessage());
@@ -561,6 +629,7 @@ public class ConsumerManager {
             // Final cleanup
             if (consumer != null) {
                 try {
+                    SeedKitMetrics.unregisterClient(consumerId);
                     consumer.close(Duration.ofSeconds(2));
                 } catch (Exception e) {
                     log.debug("Error closing intermittent consumer {}: {}", consumerId, e.getMessage());
@@ -580,7 +649,9 @@ public class ConsumerManager {
             props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, "true");
             props.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, "500");
             props.put(ConsumerConfig.SESSION_TIMEOUT_MS_CONFIG, "10000");
-            return new KafkaConsumer<>(props);
+            // Base settings and the group's tuning profile from application.yaml
+            props.putAll(tuning.consumer(groupId));
+            return registerMetrics(consumerId, new KafkaConsumer<>(props));
         }
         
         public void stop() {
@@ -594,6 +665,10 @@ public class ConsumerManager {
             return consumerId;
         }
         
+        public String getGroupId() {
+            return groupId;
+        }
+        
         public long getMessagesConsumed() {
             return messagesConsumed.get();
         }
@@ -0,0 +1,148 @@
+package com.certak.kafka.seedkit.corpus;
+
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Memory-maps a corpus file written by {@link CorpusWriter} for replay.
+ *
+ * The record offsets are indexed once when the file is opened; after that records are read
+ * with absolute gets straight from the page cache, so any number of {@link Cursor}s can share
+ * one reader without locking. A single mapping is limited to 2GB.
+ */
+public class CorpusReader {
+    private final Path file;
+    private final String topic;
+    private final MappedByteBuffer buffer;
+    private final int[] offsets;
+
+    public CorpusReader(Path file) throws IOException {
+        this.file = file;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Corpus file " + file + " is larger than 2GB, split it across topics or reduce messages-per-topic");
+            }
+            this.buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+
+        byte[] magic = new byte[CorpusWriter.MAGIC.length];
+        buffer.get(0, magic);
+        if (!Arrays.equals(magic, CorpusWriter.MAGIC)) {
+            throw new IOException(file + " is not a corpus file");
+        }
+        int version = buffer.getInt(magic.length);
+        if (version != CorpusWriter.VERSION) {
+            throw new IOException("Unsupported corpus version " + version + " in " + file);
+        }
+        int topicLength = buffer.getShort(magic.length + 4) & 0xFFFF;
+        byte[] topicBytes = new byte[topicLength];
+        buffer.get(magic.length + 6, topicBytes);
+        // writeUTF uses modified UTF-8, which matches standard UTF-8 for ordinary topic names
+        this.topic = new String(topicBytes, StandardCharsets.UTF_8);
+        this.offsets = index(magic.length + 6 + topicLength);
+    }
+
+    public String getTopic() {
+        return topic;
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    public int size() {
+        return offsets.length;
+    }
+
+    public long getSizeBytes() {
+        return buffer.capacity();
+    }
+
+    /**
+     * A looping cursor starting at the given record. Cursors are not thread-safe; use one per thread.
+     */
+    public Cursor cursor(int startRecord) {
+        return new Cursor(offsets.length == 0 ? 0 : Math.floorMod(startRecord, offsets.length));
+    }
+
+    private int[] index(int start) throws IOException {
+        int[] index = new int[1024];
+        int count = 0;
+        int position = start;
+        int limit = buffer.capacity();
+        try {
+            while (position < limit) {
+                if (count == index.length) {
+                    index = Arrays.copyOf(index, count * 2);
+                }
+                index[count++] = position;
+                position = skip(position);
+                int headers = buffer.getInt(position);
+                position += 4;
+                for (int i = 0; i < headers; i++) {
+                    position = skip(skip(position));
+                }
+                position = skip(position);
+            }
+        } catch (IndexOutOfBoundsException e) {
+            throw new IOException("Corpus file " + file + " is truncated after " + (count - 1) + " records");
+        }
+        if (position != limit) {
+            throw new IOException("Corpus file " + file + " is truncated after " + (count - 1) + " records");
+        }
+        return Arrays.copyOf(index, count);
+    }
+
+    private int skip(int position) {
+        int length = buffer.getInt(position);
+        return position + 4 + Math.max(length, 0);
+    }
+
+    private byte[] read(int position) {
+        int length = buffer.getInt(position);
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(position + 4, bytes);
+        return bytes;
+    }
+
+    public class Cursor {
+        private int next;
+
+        private Cursor(int start) {
+            this.next = start;
+        }
+
+        /**
+         * The next record, wrapping to the start of the corpus after the last one.
+         */
+        public ProducerRecord<byte[], byte[]> next() {
+            int position = offsets[next];
+            next = next + 1 == offsets.length ? 0 : next + 1;
+
+            byte[] key = read(position);
+            position = skip(position);
+            int headerCount = buffer.getInt(position);
+            position += 4;
+            RecordHeaders headers = new RecordHeaders();
+            for (int i = 0; i < headerCount; i++) {
+                String name = new String(read(position), StandardCharsets.UTF_8);
+                position = skip(position);
+                headers.add(name, read(position));
+                position = skip(position);
+            }
+            byte[] value = read(position);
+            return new ProducerRecord<>(topic, null, key, value, headers);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.certak.kafka.seedkit.corpus;
+
+import com.certak.kafka.seedkit.config.SeedKitConfig;
+import com.certak.kafka.seedkit.metrics.SeedKitMetrics;
+import com.certak.kafka.seedkit.producers.BlastBenchmark;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Replays corpus files through a byte-array producer as fast as it will accept records.
+ *
+ * Keys, headers and values are sent exactly as stored, so no generation or serialization
+ * happens on the send path. Each sending thread gets its own cursor per corpus, started at a
+ * different record, and corpora loop when they run out before the duration or count is reached.
+ */
+public class CorpusReplayer {
+    private static final Logger log = LoggerFactory.getLogger(CorpusReplayer.class);
+    private static final String CLIENT_ID = "seedkit-corpus-replay";
+
+    private final SeedKitConfig config;
+
+    public CorpusReplayer(SeedKitConfig config) {
+        this.config = config;
+    }
+
+    public BlastBenchmark.BlastResult replay() throws Exception {
+        Map<String, CorpusReader> readers = open();
+        if (readers.isEmpty()) {
+            throw new IllegalStateException("No corpus files found in " + config.getCorpusDirectory()
+                + ", run with --mode corpus-build first");
+        }
+
+        int threads = config.getCorpusReplayThreads();
+        AtomicInteger threadIndex = new AtomicInteger();
+        ThreadLocal<Map<String, CorpusReader.Cursor>> cursors = ThreadLocal.withInitial(() -> {
+            int index = threadIndex.getAndIncrement();
+            Map<String, CorpusReader.Cursor> perTopic = new HashMap<>();
+            readers.forEach((topic, reader) -> perTopic.put(topic, reader.cursor(reader.size() / threads * index)));
+            return perTopic;
+        });
+
+        BlastBenchmark benchmark = new BlastBenchmark(
+            config.getCorpusReplayDurationSeconds(), config.getCorpusReplayMessageCount(), threads);
+        String compression = config.getCorpusReplayCompression();
+        try (KafkaProducer<byte[], byte[]> producer = createProducer(compression)) {
+            BlastBenchmark.BlastResult result = benchmark.run("corpus-" + compression, producer,
+                new ArrayList<>(readers.keySet()), topic -> cursors.get().get(topic).next());
+            BlastBenchmark.logReport(List.of(result));
+            return result;
+        } finally {
+            SeedKitMetrics.unregisterClient(CLIENT_ID);
+        }
+    }
+
+    private Map<String, CorpusReader> open() throws Exception {
+        Path directory = Path.of(config.getCorpusDirectory());
+        Map<String, CorpusReader> readers = new LinkedHashMap<>();
+        for (String topic : config.getCorpusTopics()) {
+            Path file = directory.resolve(topic + ".corpus");
+            if (!Files.exists(file)) {
+                log.warn("No corpus file for {} at {}, skipping", topic, file);
+                continue;
+            }
+            CorpusReader reader = new CorpusReader(file);
+            if (reader.size() == 0) {
+                log.warn("Corpus file {} is empty, skipping", file);
+                continue;
+            }
+            log.info("Mapped {} - {} records, {} MB", file, reader.size(),
+                String.format("%.1f", reader.getSizeBytes() / (1024.0 * 1024.0)));
+            readers.put(reader.getTopic(), reader);
+        }
+        return readers;
+    }
+
+    private KafkaProducer<byte[], byte[]> createProducer(String compression) {
+        Properties props = new Properties();
+        props.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, config.getBootstrapServers());
+        props.put(ProducerConfig.CLIENT_ID_CONFIG, CLIENT_ID);
+        props.put(ProducerConfig.ACKS_CONFIG, "all");
+        props.put(ProducerConfig.RETRIES_CONFIG, 3);
+        props.put(ProducerConfig.MAX_REQUEST_SIZE_CONFIG, 2097152); // 2MB for large messages
+        props.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, compression);
+        KafkaProducer<byte[], byte[]> producer = new KafkaProducer<>(props, new ByteArraySerializer(), new ByteArraySerializer());
+        SeedKitMetrics.registerClient(CLIENT_ID, producer::metrics);
+        return producer;
+    }
+}
@@ -0,0 +1,87 @@
+package com.certak.kafka.seedkit.corpus;
+
+import org.apache.kafka.common.header.Header;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Writes a corpus file: pre-generated records for one topic, replayed later by {@link CorpusReader}.
+ *
+ * Layout (all integers big-endian):
+ * <pre>
+ * file   := magic "SKCORPUS" | int version | utf topic | record*
+ * record := int keyLength | key | int headerCount | header* | int valueLength | value
+ * header := int nameLength | name (UTF-8) | int valueLength | value
+ * </pre>
+ * A length of -1 stands for a null key or value.
+ */
+public class CorpusWriter implements Closeable {
+    static final byte[] MAGIC = "SKCORPUS".getBytes(StandardCharsets.US_ASCII);
+    static final int VERSION = 1;
+
+    private final DataOutputStream out;
+    private long records;
+    private long bytes;
+
+    public CorpusWriter(Path file, String topic) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        this.out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file), 1 << 16));
+        out.write(MAGIC);
+        out.writeInt(VERSION);
+        out.writeUTF(topic);
+        bytes = out.size();
+    }
+
+    public void write(byte[] key, Iterable<Header> headers, byte[] value) throws IOException {
+        writeBytes(key);
+        int headerCount = 0;
+        if (headers != null) {
+            for (Header ignored : headers) {
+                headerCount++;
+            }
+        }
+        out.writeInt(headerCount);
+        bytes += 4;
+        if (headers != null) {
+            for (Header header : headers) {
+                writeBytes(header.key().getBytes(StandardCharsets.UTF_8));
+                writeBytes(header.value());
+            }
+        }
+        writeBytes(value);
+        records++;
+    }
+
+    public long getRecordCount() {
+        return records;
+    }
+
+    /**
+     * Bytes written so far, including the file header.
+     */
+    public long getSize() {
+        return bytes;
+    }
+
+    private void writeBytes(byte[] data) throws IOException {
+        if (data == null) {
+            out.writeInt(-1);
+            bytes += 4;
+        } else {
+            out.writeInt(data.length);
+            out.write(data);
+            bytes += 4 + data.length;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+}
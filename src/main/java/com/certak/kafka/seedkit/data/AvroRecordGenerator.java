@@ -0,0 +1,431 @@
+package com.certak.kafka.seedkit.data;
+
+import com.certak.kafka.seedkit.data.FakerDictionary.Kind;
+import org.apache.avro.LogicalType;
+import org.apache.avro.LogicalTypes;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * Generates records for any Avro record schema.
+ *
+ * {@link #compile(Schema, double)} walks the schema once and builds a tree of value generators, one
+ * per field, picked from the field's type, logical type and name: IDs come from the reference pools,
+ * fields named like emails, names, prices, coordinates or timestamps get values that look the part,
+ * and everything else gets type-appropriate filler. Generating a record is then a loop over the
+ * compiled generators with no schema lookups. Values are drawn from the {@link DataGenerator} passed
+ * in, so each topic keeps to its own random stream, and names, addresses and sentences come from its
+ * {@link FakerDictionary} like those of the hand-written topics.
+ */
+public final class AvroRecordGenerator {
+
+    private static final String[] REGIONS = {"us-east", "us-west", "eu-west", "eu-central", "ap-south", "ap-northeast"};
+    private static final String[] CURRENCIES = {"USD", "EUR", "GBP", "JPY", "CAD", "AUD", "CHF"};
+    private static final String[] LANGUAGES = {"en", "es", "fr", "de", "ja", "pt", "it", "nl"};
+    private static final String[] TIMEZONES = {"America/New_York", "America/Chicago", "America/Los_Angeles", "Europe/London",
+        "Europe/Berlin", "Asia/Tokyo", "Australia/Sydney"};
+    private static final String[] BROWSERS = {"Chrome", "Safari", "Firefox", "Edge"};
+    private static final String[] CARRIERS = {"UPS", "FEDEX", "USPS", "DHL", "ONTRAC"};
+    private static final String[] WORDS = {"alpha", "bravo", "core", "delta", "edge", "flow", "grid", "hub", "index", "jet",
+        "kilo", "lane", "metric", "node", "orbit", "pulse", "quota", "relay", "signal", "track", "unit", "vector", "wave", "zone"};
+    private static final int[] RESPONSE_CODES = {200, 200, 200, 201, 204, 301, 400, 401, 403, 404, 429, 500, 503};
+    private static final double[] POWERS_OF_TEN = {1, 10, 100, 1_000, 10_000, 100_000, 1_000_000};
+    private static final long DAY_MS = 86_400_000L;
+    private static final long YEAR_MS = 365 * DAY_MS;
+
+    private final Schema schema;
+    private final double nullRate;
+    private final ValueGenerator root;
+    private final int keyPosition;
+    // Only used while compiling, to leave recursive references out of unions
+    private final Set<String> compiling = new HashSet<>();
+
+    @FunctionalInterface
+    private interface ValueGenerator {
+        Object next(DataGenerator data, Random random);
+    }
+
+    private AvroRecordGenerator(Schema schema, double nullRate) {
+        if (schema.getType() != Schema.Type.RECORD) {
+            throw new IllegalArgumentException("Expected a record schema, got " + schema.getType() + " for " + schema.getFullName());
+        }
+        this.schema = schema;
+        this.nullRate = nullRate;
+        this.root = record(schema);
+        this.keyPosition = schema.getFields().stream()
+            .filter(field -> field.name().endsWith("Id") && field.schema().getType() == Schema.Type.STRING)
+            .mapToInt(Schema.Field::pos)
+            .findFirst()
+            .orElse(-1);
+    }
+
+    /**
+     * Compile a generator for a record schema.
+     *
+     * @param nullRate share of nullable fields left null
+     */
+    public static AvroRecordGenerator compile(Schema schema, double nullRate) {
+        return new AvroRecordGenerator(schema, nullRate);
+    }
+
+    public Schema getSchema() {
+        return schema;
+    }
+
+    /**
+     * Generate a record from the stream's random source.
+     */
+    public GenericRecord generate(DataGenerator data) {
+        return (GenericRecord) root.next(data, data.getRandom());
+    }
+
+    /**
+     * The record's first top-level string ID field, a natural key for it, or null if it has none.
+     */
+    public String key(GenericRecord record) {
+        return keyPosition >= 0 ? (String) record.get(keyPosition) : null;
+    }
+
+    // ============================================================
+    // COMPILATION
+    // ============================================================
+
+    private ValueGenerator record(Schema recordSchema) {
+        compiling.add(recordSchema.getFullName());
+        List<Schema.Field> fields = recordSchema.getFields();
+        ValueGenerator[] generators = new ValueGenerator[fields.size()];
+        for (Schema.Field field : fields) {
+            // Some schemas declare logicalType next to the field's type rather than inside it
+            generators[field.pos()] = value(field.schema(), field.name(), field.getProp("logicalType"));
+        }
+        compiling.remove(recordSchema.getFullName());
+        return (data, random) -> {
+            GenericData.Record record = new GenericData.Record(recordSchema);
+            for (int i = 0; i < generators.length; i++) {
+                record.put(i, generators[i].next(data, random));
+            }
+            return record;
+        };
+    }
+
+    private ValueGenerator value(Schema type, String name, String fieldLogicalType) {
+        LogicalType logicalType = type.getLogicalType();
+        String logical = logicalType != null ? logicalType.getName() : fieldLogicalType;
+        String hint = name.toLowerCase(Locale.ROOT);
+        return switch (type.getType()) {
+            case RECORD -> {
+                if (compiling.contains(type.getFullName())) {
+                    throw new IllegalArgumentException("Record " + type.getFullName() + " refers to itself outside a union");
+                }
+                yield record(type);
+            }
+            case UNION -> union(type, name, fieldLogicalType);
+            case ENUM -> enumSymbols(type);
+            case ARRAY -> array(type, value(type.getElementType(), singular(name), null));
+            case MAP -> map(value(type.getValueType(), name, null));
+            case FIXED -> (data, random) -> {
+                byte[] bytes = new byte[type.getFixedSize()];
+                random.nextBytes(bytes);
+                return new GenericData.Fixed(type, bytes);
+            };
+            case BYTES -> logicalType instanceof LogicalTypes.Decimal decimal ? decimal(decimal, hint) : (data, random) -> {
+                byte[] bytes = new byte[16];
+                random.nextBytes(bytes);
+                return ByteBuffer.wrap(bytes);
+            };
+            case STRING -> string(hint, logical);
+            case INT -> intValue(hint, logical);
+            case LONG -> longValue(hint, logical);
+            case FLOAT -> {
+                ValueGenerator doubles = doubleValue(hint);
+                yield (data, random) -> ((Double) doubles.next(data, random)).floatValue();
+            }
+            case DOUBLE -> doubleValue(hint);
+            case BOOLEAN -> (data, random) -> random.nextBoolean();
+            case NULL -> (data, random) -> null;
+        };
+    }
+
+    private ValueGenerator union(Schema union, String name, String fieldLogicalType) {
+        boolean nullable = false;
+        List<ValueGenerator> branches = new ArrayList<>();
+        for (Schema branch : union.getTypes()) {
+            if (branch.getType() == Schema.Type.NULL) {
+                nullable = true;
+            } else if (branch.getType() != Schema.Type.RECORD || !compiling.contains(branch.getFullName())) {
+                branches.add(value(branch, name, fieldLogicalType));
+            }
+        }
+        if (branches.isEmpty()) {
+            return (data, random) -> null;
+        }
+        ValueGenerator[] choices = branches.toArray(ValueGenerator[]::new);
+        ValueGenerator present = choices.length == 1 ? choices[0]
+            : (data, random) -> choices[random.nextInt(choices.length)].next(data, random);
+        if (!nullable) {
+            return present;
+        }
+        return (data, random) -> random.nextDouble() < nullRate ? null : present.next(data, random);
+    }
+
+    private static ValueGenerator enumSymbols(Schema enumSchema) {
+        GenericData.EnumSymbol[] symbols = enumSchema.getEnumSymbols().stream()
+            .map(symbol -> new GenericData.EnumSymbol(enumSchema, symbol))
+            .toArray(GenericData.EnumSymbol[]::new);
+        return (data, random) -> symbols[random.nextInt(symbols.length)];
+    }
+
+    private static ValueGenerator array(Schema arraySchema, ValueGenerator items) {
+        return (data, random) -> {
+            int size = 1 + random.nextInt(4);
+            GenericData.Array<Object> array = new GenericData.Array<>(size, arraySchema);
+            for (int i = 0; i < size; i++) {
+                array.add(items.next(data, random));
+            }
+            return array;
+        };
+    }
+
+    private static ValueGenerator map(ValueGenerator values) {
+        return (data, random) -> {
+            int size = 1 + random.nextInt(4);
+            Map<String, Object> map = new HashMap<>(size * 2);
+            for (int i = 0; i < size; i++) {
+                map.put(pick(WORDS, random), values.next(data, random));
+            }
+            return map;
+        };
+    }
+
+    private static ValueGenerator decimal(LogicalTypes.Decimal decimal, String hint) {
+        ValueGenerator doubles = doubleValue(hint);
+        int scale = decimal.getScale();
+        return (data, random) -> ByteBuffer.wrap(BigDecimal.valueOf((Double) doubles.next(data, random))
+            .setScale(scale, RoundingMode.HALF_UP).unscaledValue().toByteArray());
+    }
+
+    // ============================================================
+    // NAME HINTS - resolved once per field at compile time
+    // ============================================================
+
+    private static ValueGenerator string(String hint, String logical) {
+        if ("uuid".equals(logical) || hint.equals("uuid")) {
+            return (data, random) -> data.uuid();
+        }
+        if (hint.endsWith("customerid")) {
+            return (data, random) -> data.getRandomCustomerId();
+        }
+        if (hint.endsWith("productid")) {
+            return (data, random) -> data.getRandomProductId();
+        }
+        if (hint.endsWith("transactionid")) {
+            return (data, random) -> data.getRandomTransactionId();
+        }
+        if (hint.endsWith("tradeorderid")) {
+            return (data, random) -> data.getRandomTradeOrderId();
+        }
+        if (hint.endsWith("orderid")) {
+            return (data, random) -> data.getRandomOrderId();
+        }
+        if (hint.endsWith("deviceid")) {
+            return (data, random) -> data.getRandomDeviceId();
+        }
+        if (hint.endsWith("warehouseid")) {
+            return (data, random) -> data.getRandomWarehouseId();
+        }
+        if (hint.equals("symbol")) {
+            return (data, random) -> data.getRandomSymbol();
+        }
+        if (hint.contains("email")) {
+            return (data, random) -> data.fake(Kind.EMAIL);
+        }
+        if (hint.equals("username")) {
+            return (data, random) -> (data.fake(Kind.FIRST_NAME).charAt(0) + data.fake(Kind.LAST_NAME) + random.nextInt(1000))
+                .toLowerCase(Locale.ROOT);
+        }
+        if (hint.endsWith("firstname")) {
+            return (data, random) -> data.fake(Kind.FIRST_NAME);
+        }
+        if (hint.endsWith("lastname")) {
+            return (data, random) -> data.fake(Kind.LAST_NAME);
+        }
+        if (hint.equals("name") || hint.equals("customername") || hint.equals("recipientname") || hint.equals("patientname")) {
+            return (data, random) -> data.fake(Kind.FULL_NAME);
+        }
+        if (hint.contains("phone")) {
+            return (data, random) -> data.fake(Kind.PHONE);
+        }
+        if (hint.contains("ipaddress") || hint.equals("ip")) {
+            return (data, random) -> (10 + random.nextInt(200)) + "." + random.nextInt(256) + "." + random.nextInt(256) + "." + (1 + random.nextInt(254));
+        }
+        if (hint.contains("useragent")) {
+            return (data, random) -> data.fake(Kind.USER_AGENT);
+        }
+        if (hint.contains("url") || hint.contains("link") || hint.equals("referrer")) {
+            return (data, random) -> "https://" + data.fake(Kind.DOMAIN_WORD) + ".example/" + pick(WORDS, random) + "/" + random.nextInt(10000);
+        }
+        if (hint.contains("path")) {
+            return (data, random) -> "/" + pick(WORDS, random) + "/" + pick(WORDS, random);
+        }
+        if (hint.equals("street")) {
+            return (data, random) -> data.fake(Kind.STREET_ADDRESS);
+        }
+        if (hint.endsWith("city")) {
+            return (data, random) -> data.fake(Kind.CITY);
+        }
+        if (hint.endsWith("state")) {
+            return (data, random) -> data.fake(Kind.STATE_ABBR);
+        }
+        if (hint.endsWith("country")) {
+            return (data, random) -> data.fake(Kind.COUNTRY_CODE);
+        }
+        if (hint.contains("zipcode") || hint.contains("postalcode")) {
+            return (data, random) -> String.format("%05d", random.nextInt(100000));
+        }
+        if (hint.startsWith("region")) {
+            return (data, random) -> pick(REGIONS, random);
+        }
+        if (hint.contains("currency")) {
+            return (data, random) -> pick(CURRENCIES, random);
+        }
+        if (hint.equals("language") || hint.equals("locale")) {
+            return (data, random) -> pick(LANGUAGES, random);
+        }
+        if (hint.equals("timezone")) {
+            return (data, random) -> pick(TIMEZONES, random);
+        }
+        if (hint.equals("browser")) {
+            return (data, random) -> pick(BROWSERS, random);
+        }
+        if (hint.equals("carrier")) {
+            return (data, random) -> pick(CARRIERS, random);
+        }
+        if (hint.contains("birth") || hint.endsWith("date")) {
+            return (data, random) -> LocalDate.ofEpochDay(System.currentTimeMillis() / DAY_MS - random.nextInt(25000)).toString();
+        }
+        if (hint.contains("last4")) {
+            return (data, random) -> String.format("%04d", random.nextInt(10000));
+        }
+        if (hint.endsWith("version")) {
+            return (data, random) -> (1 + random.nextInt(4)) + "." + random.nextInt(20) + "." + random.nextInt(50);
+        }
+        if (hint.endsWith("id") && hint.length() > 2) {
+            String prefix = hint.substring(0, hint.length() - 2).toUpperCase(Locale.ROOT);
+            return (data, random) -> prefix + "-" + data.uuid().substring(0, 8);
+        }
+        if (hint.endsWith("id")) {
+            return (data, random) -> data.uuid();
+        }
+        if (hint.contains("description") || hint.contains("message") || hint.contains("notes") || hint.contains("body")
+                || hint.contains("comment") || hint.contains("text") || hint.contains("reason") || hint.contains("details")) {
+            return (data, random) -> data.fake(Kind.SENTENCE);
+        }
+        return (data, random) -> pick(WORDS, random) + "-" + pick(WORDS, random);
+    }
+
+    private static ValueGenerator intValue(String hint, String logical) {
+        if ("date".equals(logical)) {
+            return (data, random) -> (int) (System.currentTimeMillis() / DAY_MS) - random.nextInt(3650);
+        }
+        if ("time-millis".equals(logical)) {
+            return (data, random) -> random.nextInt((int) DAY_MS);
+        }
+        if (hint.contains("code")) {
+            return (data, random) -> RESPONSE_CODES[random.nextInt(RESPONSE_CODES.length)];
+        }
+        if (hint.contains("percent") || hint.endsWith("level") || hint.contains("strength")) {
+            return (data, random) -> random.nextInt(101);
+        }
+        if (hint.equals("age")) {
+            return (data, random) -> 18 + random.nextInt(72);
+        }
+        if (hint.endsWith("year")) {
+            return (data, random) -> 2015 + random.nextInt(12);
+        }
+        if (hint.contains("priority") || hint.contains("rating")) {
+            return (data, random) -> 1 + random.nextInt(5);
+        }
+        if (hint.contains("quantity") || hint.contains("count") || hint.contains("stock")) {
+            return (data, random) -> random.nextInt(500);
+        }
+        if (hint.contains("points")) {
+            return (data, random) -> random.nextInt(5000);
+        }
+        return (data, random) -> random.nextInt(1000);
+    }
+
+    private static ValueGenerator longValue(String hint, String logical) {
+        if ("timestamp-micros".equals(logical) || "local-timestamp-micros".equals(logical)) {
+            return (data, random) -> (System.currentTimeMillis() - random.nextLong(DAY_MS)) * 1000;
+        }
+        if (hint.contains("birth")) {
+            return (data, random) -> System.currentTimeMillis() - 18 * YEAR_MS - random.nextLong(60 * YEAR_MS);
+        }
+        if ("timestamp-millis".equals(logical) || "local-timestamp-millis".equals(logical) || hint.endsWith("at")
+                || hint.contains("timestamp") || hint.contains("time") || hint.contains("date") || hint.contains("start")
+                || hint.contains("end") || hint.contains("lastseen") || hint.contains("delivery")) {
+            return (data, random) -> System.currentTimeMillis() - random.nextLong(DAY_MS);
+        }
+        if (hint.endsWith("ms") || hint.endsWith("millis") || hint.contains("duration") || hint.contains("latency")) {
+            return (data, random) -> 1 + random.nextLong(5000);
+        }
+        if (hint.contains("size") || hint.contains("volume") || hint.contains("bytes")) {
+            return (data, random) -> random.nextLong(10_000_000);
+        }
+        return (data, random) -> random.nextLong(100_000);
+    }
+
+    private static ValueGenerator doubleValue(String hint) {
+        if (hint.contains("latitude")) {
+            return (data, random) -> round(25 + random.nextDouble() * 24, 6);
+        }
+        if (hint.contains("longitude")) {
+            return (data, random) -> round(-124 + random.nextDouble() * 57, 6);
+        }
+        if (hint.contains("altitude")) {
+            return (data, random) -> round(random.nextDouble() * 3000, 1);
+        }
+        if (hint.contains("score") || hint.contains("confidence") || hint.contains("probability") || hint.contains("rate")
+                || hint.contains("ratio") || hint.contains("quality") || hint.equals("delta")) {
+            return (data, random) -> round(random.nextDouble(), 4);
+        }
+        if (hint.contains("percent") || hint.endsWith("level") || hint.contains("humidity")) {
+            return (data, random) -> round(random.nextDouble() * 100, 2);
+        }
+        if (hint.contains("temperature")) {
+            return (data, random) -> round(15 + random.nextDouble() * 20, 2);
+        }
+        if (hint.contains("price") || hint.contains("amount") || hint.contains("cost") || hint.contains("total")
+                || hint.contains("fee") || hint.contains("balance") || hint.contains("spent") || hint.contains("pnl")
+                || hint.contains("value") || hint.equals("bid") || hint.equals("ask") || hint.equals("open")
+                || hint.equals("high") || hint.equals("low") || hint.equals("vwap")) {
+            return (data, random) -> round(1 + random.nextDouble() * 999, 2);
+        }
+        return (data, random) -> round(random.nextDouble() * 1000, 2);
+    }
+
+    // ============================================================
+    // HELPERS
+    // ============================================================
+
+    // Item name for an array field, so "productIds" items get the "productId" hint
+    private static String singular(String name) {
+        return name.endsWith("s") && name.length() > 1 ? name.substring(0, name.length() - 1) : name;
+    }
+
+    private static String pick(String[] values, Random random) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private static double round(double value, int places) {
+        double factor = POWERS_OF_TEN[places];
+        return Math.round(value * factor) / factor;
+    }
+}
@@ -0,0 +1,72 @@
+package com.certak.kafka.seedkit.data;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+/**
+ * Off-heap block of pre-generated bytes that binary payloads are sliced from.
+ *
+ * The slab is filled once from a seed, so a payload costs a random offset and a bulk copy instead
+ * of a per-message random fill. Entropy sets how compressible the bytes are: that share of 256-byte
+ * chunks is random and the rest repeat a recent chunk, so codecs shrink payloads to roughly that
+ * fraction of their size. Reads use absolute positions, so one slab can be shared by all threads.
+ */
+public final class BinarySlab {
+    private static final int CHUNK_SIZE = 256;
+    // Repeats refer back at most 4KB so they fall inside even the smallest payload
+    private static final int REPEAT_WINDOW_CHUNKS = 16;
+
+    private final ByteBuffer slab;
+    private final int minSize;
+    private final int maxSize;
+    private final double entropy;
+
+    /**
+     * @param entropy share of incompressible bytes, from 0 (highly compressible) to 1 (random)
+     */
+    public BinarySlab(long seed, int slabSize, int minSize, int maxSize, double entropy) {
+        if (minSize <= 0 || minSize > maxSize || maxSize > slabSize) {
+            throw new IllegalArgumentException("Binary payload sizes must satisfy 0 < min-size <= max-size <= slab-size");
+        }
+        if (entropy < 0 || entropy > 1) {
+            throw new IllegalArgumentException("Binary entropy must be between 0 and 1");
+        }
+        this.slab = ByteBuffer.allocateDirect(slabSize);
+        this.minSize = minSize;
+        this.maxSize = maxSize;
+        this.entropy = entropy;
+        fill(new Random(seed));
+    }
+
+    /**
+     * Copy a slice of random length in [min-size, max-size] from a random offset.
+     */
+    public byte[] next(Random random) {
+        int length = minSize + random.nextInt(maxSize - minSize + 1);
+        byte[] payload = new byte[length];
+        slab.get(random.nextInt(slab.capacity() - length + 1), payload);
+        return payload;
+    }
+
+    public int capacity() {
+        return slab.capacity();
+    }
+
+    public double getEntropy() {
+        return entropy;
+    }
+
+    private void fill(Random random) {
+        byte[] chunk = new byte[CHUNK_SIZE];
+        int capacity = slab.capacity();
+        for (int offset = 0, index = 0; offset < capacity; offset += CHUNK_SIZE, index++) {
+            if (index == 0 || random.nextDouble() < entropy) {
+                random.nextBytes(chunk);
+            } else {
+                int back = 1 + random.nextInt(Math.min(index, REPEAT_WINDOW_CHUNKS));
+                slab.get(offset - back * CHUNK_SIZE, chunk);
+            }
+            slab.put(offset, chunk, 0, Math.min(CHUNK_SIZE, capacity - offset));
+        }
+    }
+}
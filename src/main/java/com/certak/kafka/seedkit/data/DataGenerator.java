@@ -1,113 +1,258 @@
 package com.certak.kafka.seedkit.data;
 
+import com.certak.kafka.seedkit.data.FakerDictionary.Kind;
 import net.datafaker.Faker;
+import org.apache.avro.generic.IndexedRecord;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
-import com.fasterxml.jackson.databind.node.ArrayNode;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.Instant;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Generates realistic fake data for various Kafka topics.
+ *
+ * All randomness comes from a seed: the same seed produces the same data. Use {@link #forStream(String)}
+ * to give each topic its own generator, so topics generated in parallel stay reproducible.
+ * A generator draws from an unsynchronized {@link StreamRandom} and is confined to one thread at a time;
+ * the only state streams share are the reference pools and the atomic order, transaction and trade order sequences.
  */
 public class DataGenerator {
-    private final Faker faker = new Faker();
+    
+    // Field order of the typed fills: fill<Type>(record) writes each value at its index in <TYPE>_FIELDS,
+    // so a record whose schema lists these fields in this order is filled by position
+    public static final List<String> ORDER_FIELDS = List.of("orderId", "customerId", "customerEmail", "totalAmount",
+        "taxAmount", "discountAmount", "currency", "status", "paymentMethod", "notes", "createdAt", "updatedAt");
+    public static final List<String> PAGE_VIEW_FIELDS = List.of("viewId", "userId", "sessionId", "pageUrl", "pageTitle",
+        "referrer", "userAgent", "ipAddress", "country", "region", "deviceType", "browser", "timestamp", "durationMs");
+    public static final List<String> CART_EVENT_FIELDS = List.of("eventId", "cartId", "userId", "eventType", "productId",
+        "quantity", "timestamp");
+    public static final List<String> TRANSACTION_FIELDS = List.of("transactionId", "orderId", "customerId", "amount", "fee",
+        "netAmount", "currency", "paymentMethod", "cardLast4", "cardBrand", "status", "gatewayResponse", "riskScore",
+        "timestamp", "processedAt");
+    public static final List<String> SENSOR_READING_FIELDS = List.of("readingId", "deviceId", "sensorId", "sensorType",
+        "value", "unit", "quality", "timestamp", "receivedAt");
+    public static final List<String> DEVICE_STATUS_FIELDS = List.of("deviceId", "status", "batteryLevel", "signalStrength",
+        "firmwareVersion", "lastSeen", "errorMessage");
+    public static final List<String> EMAIL_NOTIFICATION_FIELDS = List.of("notificationId", "recipientEmail", "recipientName",
+        "subject", "templateId", "priority", "scheduledAt", "createdAt");
+    public static final List<String> MARKET_DATA_FIELDS = List.of("symbol", "exchange", "price", "bid", "ask", "bidSize",
+        "askSize", "volume", "vwap", "open", "high", "low", "previousClose", "timestamp");
+    public static final List<String> APP_METRIC_FIELDS = List.of("metricId", "serviceName", "instanceId", "metricName",
+        "metricType", "value", "timestamp");
+    public static final List<String> AUDIT_EVENT_FIELDS = List.of("eventId", "eventType", "entityType", "entityId", "action",
+        "actorId", "actorType", "previousState", "newState", "timestamp");
+    
+    private final long seed;
+    private final Random random;
+    private final Faker faker;
+    // Null when disabled, in which case text comes straight from the stream's Faker
+    private final FakerDictionary dictionary;
     private final ObjectMapper mapper = new ObjectMapper();
-    private final Random random = new Random();
     
-    // Pools for consistent reference data
-    private final List<String> customerIds = new ArrayList<>();
-    private final List<String> productIds = new ArrayList<>();
-    private final List<String> orderIds = new ArrayList<>();
-    private final List<String> deviceIds = new ArrayList<>();
+    // Pools for consistent reference data, shared by all streams
+    private final List<String> customerIds;
+    private final List<String> productIds;
+    private final List<String> deviceIds;
+    private final AtomicLong ordersIssued;
+    private final AtomicLong transactionsIssued;
+    private final AtomicLong tradeOrdersIssued;
+    private final Map<String, KeySampler> poolSamplers;
+    // Positions of the sequential samplers drawn by this stream, confined to it like the random
+    private final Map<KeySampler, long[]> samplerPositions = new HashMap<>();
+    private long orderReferences;
+    private long transactionReferences;
+    private long tradeOrderReferences;
     private final List<String> warehouseIds = List.of("WH-EAST-001", "WH-WEST-001", "WH-CENTRAL-001", "WH-SOUTH-001", "WH-NORTH-001");
     private final List<String> symbols = List.of("AAPL", "GOOGL", "MSFT", "AMZN", "META", "TSLA", "NVDA", "JPM", "V", "JNJ", "WMT", "PG", "UNH", "HD", "MA");
     private final List<String> categories = List.of("Electronics", "Clothing", "Home & Garden", "Sports", "Books", "Toys", "Beauty", "Automotive", "Food", "Health");
     private final List<String> carriers = List.of("UPS", "FEDEX", "USPS", "DHL", "ONTRAC");
     
-    public DataGenerator() {
+    // Value lists for the typed fills, built once rather than per record
+    private static final List<String> ORDER_STATUSES = List.of("PENDING", "CONFIRMED", "PROCESSING", "SHIPPED", "DELIVERED");
+    private static final List<String> ORDER_PAYMENT_METHODS = List.of("CREDIT_CARD", "DEBIT_CARD", "PAYPAL", "APPLE_PAY", "GOOGLE_PAY");
+    private static final List<String> FOREIGN_CURRENCIES = List.of("EUR", "GBP", "CAD", "AUD");
+    private static final List<String> DEVICE_TYPES = List.of("desktop", "mobile", "tablet");
+    private static final List<String> BROWSERS = List.of("Chrome", "Firefox", "Safari", "Edge");
+    private static final List<String> CART_EVENT_TYPES = List.of("ITEM_ADDED", "ITEM_REMOVED", "ITEM_UPDATED", "CART_CLEARED", "CHECKOUT_STARTED");
+    private static final List<String> TRANSACTION_PAYMENT_METHODS = List.of("CREDIT_CARD", "DEBIT_CARD", "ACH", "WIRE");
+    private static final List<String> CARD_BRANDS = List.of("VISA", "MASTERCARD", "AMEX", "DISCOVER");
+    private static final List<String> TRANSACTION_STATUSES = List.of("PENDING", "AUTHORIZED", "CAPTURED", "DECLINED");
+    private static final List<String> SENSOR_TYPES = List.of("TEMPERATURE", "HUMIDITY", "PRESSURE", "LIGHT", "MOTION", "CO2", "VOLTAGE");
+    private static final List<String> DEVICE_STATES = List.of("ONLINE", "ONLINE", "ONLINE", "OFFLINE", "MAINTENANCE", "ERROR");
+    private static final List<String> EXCHANGES = List.of("NYSE", "NASDAQ", "BATS");
+    private static final List<String> EMAIL_TEMPLATES = List.of("order_confirmation", "shipping_update", "password_reset", "welcome", "promotional", "abandoned_cart");
+    private static final List<String> EMAIL_PRIORITIES = List.of("LOW", "NORMAL", "HIGH");
+    private static final List<String> METRIC_NAMES = List.of("request_count", "request_latency_ms", "error_count", "active_connections", "queue_depth", "memory_used_mb", "cpu_percent");
+    private static final List<String> SERVICE_NAMES = List.of("order-service", "payment-service", "inventory-service", "user-service", "api-gateway");
+    private static final List<String> AUDIT_EVENT_TYPES = List.of("ORDER_CREATED", "USER_LOGIN", "PAYMENT_PROCESSED", "CONFIG_CHANGED", "DATA_EXPORTED");
+    private static final List<String> AUDIT_ENTITY_TYPES = List.of("Order", "User", "Product", "Payment", "Config");
+    private static final List<String> AUDIT_ACTIONS = List.of("CREATE", "READ", "UPDATE", "DELETE", "LOGIN", "EXPORT");
+    private static final List<String> AUDIT_ACTOR_TYPES = List.of("USER", "SYSTEM", "API_CLIENT");
+    
+    public DataGenerator(long seed) {
+        this(seed, FakerDictionary.DEFAULT_SIZE);
+    }
+    
+    /**
+     * @param dictionarySize Faker values sampled per kind into the shared {@link FakerDictionary},
+     *                       or 0 to call Faker for every value
+     */
+    public DataGenerator(long seed, int dictionarySize) {
+        this.seed = seed;
+        this.random = new StreamRandom(StreamSeeds.derive(seed, "reference-data"));
+        this.faker = new Faker(random);
+        this.dictionary = dictionarySize > 0 ? new FakerDictionary(seed, dictionarySize) : null;
+        this.ordersIssued = new AtomicLong();
+        this.transactionsIssued = new AtomicLong();
+        this.tradeOrdersIssued = new AtomicLong();
+        this.poolSamplers = new ConcurrentHashMap<>();
+        
         // Pre-populate reference data pools
+        List<String> customers = new ArrayList<>();
+        List<String> products = new ArrayList<>();
+        List<String> devices = new ArrayList<>();
         for (int i = 0; i < 1000; i++) {
-            customerIds.add("CUST-" + UUID.randomUUID().toString().substring(0, 8));
-            productIds.add("PROD-" + UUID.randomUUID().toString().substring(0, 8));
-            deviceIds.add("DEV-" + faker.number().digits(12));
+            customers.add("CUST-" + uuid().substring(0, 8));
+            products.add("PROD-" + uuid().substring(0, 8));
+            devices.add("DEV-" + faker.number().digits(12));
         }
+        this.customerIds = List.copyOf(customers);
+        this.productIds = List.copyOf(products);
+        this.deviceIds = List.copyOf(devices);
+    }
+    
+    private DataGenerator(DataGenerator root, String stream) {
+        this.seed = root.seed;
+        this.random = new StreamRandom(StreamSeeds.derive(seed, stream));
+        this.faker = new Faker(random);
+        this.dictionary = root.dictionary;
+        this.customerIds = root.customerIds;
+        this.productIds = root.productIds;
+        this.deviceIds = root.deviceIds;
+        this.ordersIssued = root.ordersIssued;
+        this.transactionsIssued = root.transactionsIssued;
+        this.tradeOrdersIssued = root.tradeOrdersIssued;
+        this.poolSamplers = root.poolSamplers;
+    }
+    
+    /**
+     * A generator with its own random stream, sharing this generator's reference data.
+     * A stream is not thread-safe: it must not be used by more than one thread at a time.
+     */
+    public DataGenerator forStream(String stream) {
+        return new DataGenerator(this, stream);
+    }
+    
+    /**
+     * Next key index from a sampler, drawn from this stream. A sequential sampler walks the key space
+     * from this stream's own position, so streams sharing the sampler each cover it in order.
+     */
+    public int nextKey(KeySampler sampler) {
+        return sampler.next(random, samplerPositions.computeIfAbsent(sampler, s -> new long[1])[0]++);
+    }
+    
+    /**
+     * Skew how entities are picked from a reference pool (customers, products, devices or symbols),
+     * for this generator and every stream created from it. Pools are uniform by default.
+     */
+    public void setPoolDistribution(String pool, KeySampler sampler) {
+        List<String> values = pool(pool);
+        if (sampler.size() > values.size()) {
+            throw new IllegalArgumentException("Pool " + pool + " has " + values.size() + " entries, sampler needs " + sampler.size());
+        }
+        poolSamplers.put(pool, sampler);
+    }
+    
+    public int getPoolSize(String pool) {
+        return pool(pool).size();
+    }
+    
+    public FakerDictionary getDictionary() {
+        return dictionary;
+    }
+    
+    public long getSeed() {
+        return seed;
+    }
+    
+    public Random getRandom() {
+        return random;
+    }
+    
+    /**
+     * A random (version 4) UUID drawn from this generator's stream.
+     */
+    public String uuid() {
+        long high = (random.nextLong() & ~0xF000L) | 0x4000L;
+        long low = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(high, low).toString();
     }
     
     // ============================================================
     // E-COMMERCE DATA
     // ============================================================
     
-    public Map<String, Object> generateOrder() {
-        String orderId = "ORD-" + UUID.randomUUID().toString().substring(0, 12);
-        orderIds.add(orderId);
-        if (orderIds.size() > 10000) orderIds.remove(0);
-        
-        Map<String, Object> order = new LinkedHashMap<>();
-        order.put("orderId", orderId);
-        order.put("customerId", randomFrom(customerIds));
-        order.put("customerEmail", faker.internet().emailAddress());
-        order.put("totalAmount", roundTo2(faker.number().randomDouble(2, 10, 5000)));
-        order.put("taxAmount", roundTo2(faker.number().randomDouble(2, 1, 500)));
-        order.put("discountAmount", random.nextDouble() < 0.3 ? roundTo2(faker.number().randomDouble(2, 5, 100)) : null);
-        order.put("currency", random.nextDouble() < 0.9 ? "USD" : randomFrom(List.of("EUR", "GBP", "CAD", "AUD")));
-        order.put("status", randomFrom(List.of("PENDING", "CONFIRMED", "PROCESSING", "SHIPPED", "DELIVERED")));
-        order.put("shippingAddress", generateAddress());
-        order.put("billingAddress", random.nextDouble() < 0.7 ? order.get("shippingAddress") : generateAddress());
-        order.put("paymentMethod", randomFrom(List.of("CREDIT_CARD", "DEBIT_CARD", "PAYPAL", "APPLE_PAY", "GOOGLE_PAY")));
-        order.put("notes", random.nextDouble() < 0.2 ? faker.lorem().sentence() : null);
-        order.put("createdAt", Instant.now().minusSeconds(random.nextInt(86400 * 30)).toEpochMilli());
-        order.put("updatedAt", Instant.now().toEpochMilli());
-        order.put("metadata", Map.of("source", randomFrom(List.of("web", "mobile_ios", "mobile_android", "api")), "campaign", faker.marketing().buzzwords()));
-        
-        return order;
-    }
-    
-    public Map<String, Object> generatePageView() {
-        Map<String, Object> pageView = new LinkedHashMap<>();
-        pageView.put("viewId", UUID.randomUUID().toString());
-        pageView.put("userId", randomFrom(customerIds));
-        pageView.put("sessionId", "sess-" + UUID.randomUUID().toString().substring(0, 8));
-        pageView.put("pageUrl", generatePageUrl());
-        pageView.put("pageTitle", faker.lorem().sentence(3));
-        pageView.put("referrer", random.nextDouble() < 0.6 ? generateReferrer() : null);
-        pageView.put("userAgent", faker.internet().userAgent());
-        pageView.put("ipAddress", faker.internet().ipV4Address());
-        pageView.put("country", faker.address().countryCode());
-        pageView.put("region", faker.address().state());
-        pageView.put("deviceType", randomFrom(List.of("desktop", "mobile", "tablet")));
-        pageView.put("browser", randomFrom(List.of("Chrome", "Firefox", "Safari", "Edge")));
-        pageView.put("timestamp", Instant.now().toEpochMilli());
-        pageView.put("durationMs", random.nextInt(300000));
-        
-        return pageView;
-    }
-    
-    public Map<String, Object> generateCartEvent() {
-        Map<String, Object> event = new LinkedHashMap<>();
-        event.put("eventId", UUID.randomUUID().toString());
-        event.put("cartId", "CART-" + UUID.randomUUID().toString().substring(0, 8));
-        event.put("userId", randomFrom(customerIds));
-        event.put("eventType", randomFrom(List.of("ITEM_ADDED", "ITEM_REMOVED", "ITEM_UPDATED", "CART_CLEARED", "CHECKOUT_STARTED")));
-        event.put("productId", randomFrom(productIds));
-        event.put("quantity", random.nextInt(5) + 1);
-        event.put("timestamp", Instant.now().toEpochMilli());
-        
-        return event;
+    public void fillOrder(IndexedRecord order) {
+        long now = System.currentTimeMillis();
+        order.put(0, orderId(ordersIssued.getAndIncrement()));
+        order.put(1, fromPool("customers", customerIds));
+        order.put(2, fake(Kind.EMAIL));
+        order.put(3, roundTo2(faker.number().randomDouble(2, 10, 5000)));
+        order.put(4, roundTo2(faker.number().randomDouble(2, 1, 500)));
+        order.put(5, random.nextDouble() < 0.3 ? roundTo2(faker.number().randomDouble(2, 5, 100)) : null);
+        order.put(6, random.nextDouble() < 0.9 ? "USD" : randomFrom(FOREIGN_CURRENCIES));
+        order.put(7, randomFrom(ORDER_STATUSES));
+        order.put(8, randomFrom(ORDER_PAYMENT_METHODS));
+        order.put(9, random.nextDouble() < 0.2 ? fake(Kind.SENTENCE) : null);
+        order.put(10, now - random.nextInt(86400 * 30) * 1000L);
+        order.put(11, now);
+    }
+    
+    public void fillPageView(IndexedRecord pageView) {
+        pageView.put(0, uuid());
+        pageView.put(1, fromPool("customers", customerIds));
+        pageView.put(2, "sess-" + uuid().substring(0, 8));
+        pageView.put(3, generatePageUrl());
+        pageView.put(4, fake(Kind.TITLE));
+        pageView.put(5, random.nextDouble() < 0.6 ? generateReferrer() : null);
+        pageView.put(6, fake(Kind.USER_AGENT));
+        pageView.put(7, faker.internet().ipV4Address());
+        pageView.put(8, fake(Kind.COUNTRY_CODE));
+        pageView.put(9, fake(Kind.STATE));
+        pageView.put(10, randomFrom(DEVICE_TYPES));
+        pageView.put(11, randomFrom(BROWSERS));
+        pageView.put(12, System.currentTimeMillis());
+        pageView.put(13, (long) random.nextInt(300000));
+    }
+    
+    public void fillCartEvent(IndexedRecord event) {
+        event.put(0, uuid());
+        event.put(1, "CART-" + uuid().substring(0, 8));
+        event.put(2, fromPool("customers", customerIds));
+        event.put(3, randomFrom(CART_EVENT_TYPES));
+        event.put(4, fromPool("products", productIds));
+        event.put(5, random.nextInt(5) + 1);
+        event.put(6, System.currentTimeMillis());
     }
     
     public Map<String, Object> generateProduct() {
-        String productId = randomFrom(productIds);
+        String productId = fromPool("products", productIds);
         String category = randomFrom(categories);
         
         Map<String, Object> product = new LinkedHashMap<>();
         product.put("productId", productId);
-        product.put("name", faker.commerce().productName());
-        product.put("description", faker.lorem().paragraph(3));
+        product.put("name", fake(Kind.PRODUCT_NAME));
+        product.put("description", fake(Kind.LONG_PARAGRAPH));
         product.put("category", category);
-        product.put("subcategory", faker.commerce().department());
-        product.put("brand", faker.company().name());
+        product.put("subcategory", fake(Kind.DEPARTMENT));
+        product.put("brand", fake(Kind.COMPANY));
         product.put("price", roundTo2(faker.number().randomDouble(2, 5, 2000)));
         product.put("salePrice", random.nextDouble() < 0.3 ? roundTo2((double) product.get("price") * 0.8) : null);
         product.put("currency", "USD");
@@ -115,8 +260,8 @@ public class DataGenerator {
         product.put("inStock", random.nextDouble() < 0.85);
         product.put("stockQuantity", random.nextInt(1000));
         product.put("imageUrl", "https://images.example.com/products/" + productId + ".jpg");
-        product.put("tags", List.of(faker.commerce().material(), faker.color().name()));
-        product.put("attributes", Map.of("color", faker.color().name(), "size", randomFrom(List.of("S", "M", "L", "XL"))));
+        product.put("tags", List.of(fake(Kind.MATERIAL), fake(Kind.COLOR)));
+        product.put("attributes", Map.of("color", fake(Kind.COLOR), "size", randomFrom(List.of("S", "M", "L", "XL"))));
         product.put("createdAt", Instant.now().minusSeconds(random.nextInt(86400 * 365)).toEpochMilli());
         product.put("updatedAt", Instant.now().toEpochMilli());
         
@@ -127,64 +272,54 @@ public class DataGenerator {
     // PAYMENT DATA
     // ============================================================
     
-    public Map<String, Object> generateTransaction() {
-        Map<String, Object> txn = new LinkedHashMap<>();
-        txn.put("transactionId", "TXN-" + UUID.randomUUID().toString().substring(0, 12));
-        txn.put("orderId", orderIds.isEmpty() ? "ORD-" + UUID.randomUUID().toString().substring(0, 12) : randomFrom(orderIds));
-        txn.put("customerId", randomFrom(customerIds));
-        txn.put("amount", roundTo2(faker.number().randomDouble(2, 10, 5000)));
-        txn.put("fee", roundTo2((double) txn.get("amount") * 0.029 + 0.30));
-        txn.put("netAmount", roundTo2((double) txn.get("amount") - (double) txn.get("fee")));
-        txn.put("currency", "USD");
-        txn.put("paymentMethod", randomFrom(List.of("CREDIT_CARD", "DEBIT_CARD", "ACH", "WIRE")));
-        txn.put("cardLast4", faker.number().digits(4));
-        txn.put("cardBrand", randomFrom(List.of("VISA", "MASTERCARD", "AMEX", "DISCOVER")));
-        txn.put("status", randomFrom(List.of("PENDING", "AUTHORIZED", "CAPTURED", "DECLINED")));
-        txn.put("gatewayResponse", random.nextDouble() < 0.95 ? "APPROVED" : "DECLINED");
-        txn.put("riskScore", roundTo2(random.nextDouble() * 100));
-        txn.put("timestamp", Instant.now().toEpochMilli());
-        txn.put("processedAt", Instant.now().toEpochMilli());
-        
-        return txn;
+    public void fillTransaction(IndexedRecord txn) {
+        double amount = roundTo2(faker.number().randomDouble(2, 10, 5000));
+        double fee = roundTo2(amount * 0.029 + 0.30);
+        long now = System.currentTimeMillis();
+        txn.put(0, transactionId(transactionsIssued.getAndIncrement()));
+        txn.put(1, getRandomOrderId());
+        txn.put(2, fromPool("customers", customerIds));
+        txn.put(3, amount);
+        txn.put(4, fee);
+        txn.put(5, roundTo2(amount - fee));
+        txn.put(6, "USD");
+        txn.put(7, randomFrom(TRANSACTION_PAYMENT_METHODS));
+        txn.put(8, faker.number().digits(4));
+        txn.put(9, randomFrom(CARD_BRANDS));
+        txn.put(10, randomFrom(TRANSACTION_STATUSES));
+        txn.put(11, random.nextDouble() < 0.95 ? "APPROVED" : "DECLINED");
+        txn.put(12, roundTo2(random.nextDouble() * 100));
+        txn.put(13, now);
+        txn.put(14, now);
     }
     
     // ============================================================
     // IoT DATA
     // ============================================================
     
-    public Map<String, Object> generateSensorReading() {
-        String sensorType = randomFrom(List.of("TEMPERATURE", "HUMIDITY", "PRESSURE", "LIGHT", "MOTION", "CO2", "VOLTAGE"));
-        
-        Map<String, Object> reading = new LinkedHashMap<>();
-        reading.put("readingId", UUID.randomUUID().toString());
-        reading.put("deviceId", randomFrom(deviceIds));
-        reading.put("sensorId", "SENSOR-" + faker.number().digits(6));
-        reading.put("sensorType", sensorType);
-        reading.put("value", generateSensorValue(sensorType));
-        reading.put("unit", getSensorUnit(sensorType));
-        reading.put("quality", roundTo2(0.9 + random.nextDouble() * 0.1));
-        reading.put("location", Map.of(
-            "latitude", faker.address().latitude(),
-            "longitude", faker.address().longitude()
-        ));
-        reading.put("tags", Map.of("facility", "Building-" + random.nextInt(10), "floor", String.valueOf(random.nextInt(20))));
-        reading.put("timestamp", Instant.now().toEpochMilli());
-        reading.put("receivedAt", Instant.now().plusMillis(random.nextInt(100)).toEpochMilli());
-        
-        return reading;
-    }
-    
-    public Map<String, Object> generateDeviceStatus() {
-        Map<String, Object> status = new LinkedHashMap<>();
-        status.put("deviceId", randomFrom(deviceIds));
-        status.put("status", randomFrom(List.of("ONLINE", "ONLINE", "ONLINE", "OFFLINE", "MAINTENANCE", "ERROR")));
-        status.put("batteryLevel", random.nextInt(101));
-        status.put("signalStrength", -30 - random.nextInt(70));
-        status.put("firmwareVersion", faker.app().version());
-        status.put("lastSeen", Instant.now().toEpochMilli());
-        status.put("errorMessage", status.get("status").equals("ERROR") ? faker.lorem().sentence() : null);
-        
-        return status;
+    public void fillSensorReading(IndexedRecord reading) {
+        String sensorType = randomFrom(SENSOR_TYPES);
+        long now = System.currentTimeMillis();
+        reading.put(0, uuid());
+        reading.put(1, fromPool("devices", deviceIds));
+        reading.put(2, "SENSOR-" + faker.number().digits(6));
+        reading.put(3, sensorType);
+        reading.put(4, generateSensorValue(sensorType));
+        reading.put(5, getSensorUnit(sensorType));
+        reading.put(6, roundTo2(0.9 + random.nextDouble() * 0.1));
+        reading.put(7, now);
+        reading.put(8, now + random.nextInt(100));
+    }
+    
+    public void fillDeviceStatus(IndexedRecord status) {
+        String state = randomFrom(DEVICE_STATES);
+        status.put(0, fromPool("devices", deviceIds));
+        status.put(1, state);
+        status.put(2, random.nextInt(101));
+        status.put(3, -30 - random.nextInt(70));
+        status.put(4, fake(Kind.APP_VERSION));
+        status.put(5, System.currentTimeMillis());
+        status.put(6, state.equals("ERROR") ? fake(Kind.SENTENCE) : null);
     }
     
     // ============================================================
@@ -196,10 +331,10 @@ public class DataGenerator {
         log.put("timestamp", Instant.now().toString());
         log.put("level", randomFrom(List.of("DEBUG", "INFO", "INFO", "INFO", "WARN", "ERROR")));
         log.put("service", randomFrom(List.of("order-service", "payment-service", "inventory-service", "user-service", "notification-service", "api-gateway")));
-        log.put("traceId", UUID.randomUUID().toString());
-        log.put("spanId", UUID.randomUUID().toString().substring(0, 16));
+        log.put("traceId", uuid());
+        log.put("spanId", uuid().substring(0, 16));
         log.put("message", generateLogMessage());
-        log.put("host", faker.internet().domainWord() + "-" + random.nextInt(10));
+        log.put("host", fake(Kind.DOMAIN_WORD) + "-" + random.nextInt(10));
         log.put("environment", randomFrom(List.of("production", "staging")));
         
         return log.toString();
@@ -217,7 +352,7 @@ public class DataGenerator {
             status,
             random.nextInt(50000),
             random.nextDouble() < 0.7 ? "https://example.com" + generatePageUrl() : "-",
-            faker.internet().userAgent()
+            fake(Kind.USER_AGENT)
         );
     }
     
@@ -225,72 +360,69 @@ public class DataGenerator {
     // TRADING DATA
     // ============================================================
     
-    public Map<String, Object> generateMarketData() {
-        String symbol = randomFrom(symbols);
+    public void fillMarketData(IndexedRecord quote) {
+        String symbol = fromPool("symbols", symbols);
         double basePrice = getBasePrice(symbol);
         double change = (random.nextDouble() - 0.5) * 0.02 * basePrice;
         double price = roundTo2(basePrice + change);
         
-        Map<String, Object> data = new LinkedHashMap<>();
-        data.put("symbol", symbol);
-        data.put("exchange", randomFrom(List.of("NYSE", "NASDAQ", "BATS")));
-        data.put("price", price);
-        data.put("bid", roundTo2(price - 0.01));
-        data.put("ask", roundTo2(price + 0.01));
-        data.put("bidSize", random.nextInt(1000) * 100L);
-        data.put("askSize", random.nextInt(1000) * 100L);
-        data.put("volume", random.nextInt(10000000));
-        data.put("vwap", roundTo2(price * (0.99 + random.nextDouble() * 0.02)));
-        data.put("open", roundTo2(basePrice));
-        data.put("high", roundTo2(Math.max(price, basePrice) * 1.01));
-        data.put("low", roundTo2(Math.min(price, basePrice) * 0.99));
-        data.put("previousClose", roundTo2(basePrice));
-        data.put("timestamp", Instant.now().toEpochMilli());
-        
-        return data;
+        quote.put(0, symbol);
+        quote.put(1, randomFrom(EXCHANGES));
+        quote.put(2, price);
+        quote.put(3, roundTo2(price - 0.01));
+        quote.put(4, roundTo2(price + 0.01));
+        quote.put(5, random.nextInt(1000) * 100L);
+        quote.put(6, random.nextInt(1000) * 100L);
+        quote.put(7, (long) random.nextInt(10000000));
+        quote.put(8, roundTo2(price * (0.99 + random.nextDouble() * 0.02)));
+        quote.put(9, roundTo2(basePrice));
+        quote.put(10, roundTo2(Math.max(price, basePrice) * 1.01));
+        quote.put(11, roundTo2(Math.min(price, basePrice) * 0.99));
+        quote.put(12, roundTo2(basePrice));
+        quote.put(13, System.currentTimeMillis());
+    }
+    
+    /**
+     * A price within 1% either side of the symbol's base price.
+     */
+    public double getQuotePrice(String symbol) {
+        double basePrice = getBasePrice(symbol);
+        return roundTo2(basePrice + (random.nextDouble() - 0.5) * 0.02 * basePrice);
+    }
+    
+    public String nextTradeOrderId() {
+        return tradeOrderId(tradeOrdersIssued.getAndIncrement());
     }
     
     // ============================================================
     // NOTIFICATION DATA
     // ============================================================
     
-    public Map<String, Object> generateEmailNotification() {
-        Map<String, Object> email = new LinkedHashMap<>();
-        email.put("notificationId", UUID.randomUUID().toString());
-        email.put("recipientEmail", faker.internet().emailAddress());
-        email.put("recipientName", faker.name().fullName());
-        email.put("subject", generateEmailSubject());
-        email.put("templateId", randomFrom(List.of("order_confirmation", "shipping_update", "password_reset", "welcome", "promotional", "abandoned_cart")));
-        email.put("templateData", Map.of(
-            "firstName", faker.name().firstName(),
-            "orderId", orderIds.isEmpty() ? "ORD-123" : randomFrom(orderIds),
-            "amount", String.valueOf(roundTo2(faker.number().randomDouble(2, 10, 500)))
-        ));
-        email.put("priority", randomFrom(List.of("LOW", "NORMAL", "HIGH")));
-        email.put("scheduledAt", random.nextDouble() < 0.2 ? Instant.now().plusSeconds(3600).toEpochMilli() : null);
-        email.put("createdAt", Instant.now().toEpochMilli());
-        
-        return email;
+    public void fillEmailNotification(IndexedRecord email) {
+        long now = System.currentTimeMillis();
+        email.put(0, uuid());
+        email.put(1, fake(Kind.EMAIL));
+        email.put(2, fake(Kind.FULL_NAME));
+        email.put(3, generateEmailSubject());
+        email.put(4, randomFrom(EMAIL_TEMPLATES));
+        email.put(5, randomFrom(EMAIL_PRIORITIES));
+        email.put(6, random.nextDouble() < 0.2 ? now + 3_600_000L : null);
+        email.put(7, now);
     }
     
     // ============================================================
     // METRICS DATA
     // ============================================================
     
-    public Map<String, Object> generateAppMetric() {
-        String metricName = randomFrom(List.of("request_count", "request_latency_ms", "error_count", "active_connections", "queue_depth", "memory_used_mb", "cpu_percent"));
-        
-        Map<String, Object> metric = new LinkedHashMap<>();
-        metric.put("metricId", UUID.randomUUID().toString());
-        metric.put("serviceName", randomFrom(List.of("order-service", "payment-service", "inventory-service", "user-service", "api-gateway")));
-        metric.put("instanceId", "i-" + faker.number().digits(8));
-        metric.put("metricName", metricName);
-        metric.put("metricType", metricName.contains("count") ? "COUNTER" : "GAUGE");
-        metric.put("value", generateMetricValue(metricName));
-        metric.put("tags", Map.of("env", "production", "region", randomFrom(List.of("us-east-1", "us-west-2", "eu-west-1"))));
-        metric.put("timestamp", Instant.now().toEpochMilli());
-        
-        return metric;
+    public void fillAppMetric(IndexedRecord metric) {
+        String metricName = randomFrom(METRIC_NAMES);
+        metric.put(0, uuid());
+        metric.put(1, randomFrom(SERVICE_NAMES));
+        metric.put(2, "i-" + faker.number().digits(8));
+        metric.put(3, metricName);
+        metric.put(4, metricName.contains("count") ? "COUNTER" : "GAUGE");
+        metric.put(5, generateMetricValue(metricName));
+        metric.put(6, System.currentTimeMillis());
     }
     
     // ============================================================
@@ -298,7 +430,7 @@ public class DataGenerator {
     // ============================================================
     
     public String generateErpSyncXml() {
-        String orderId = orderIds.isEmpty() ? "ORD-123" : randomFrom(orderIds);
+        String orderId = getRandomOrderId();
         return String.format("""
             <?xml version="1.0" encoding="UTF-8"?>
             <soap:Envelope xmlns:soap="http://schemas.xmlsoap.org/soap/envelope/">
@@ -334,19 +466,19 @@ public class DataGenerator {
               </soap:Body>
             </soap:Envelope>
             """,
-            UUID.randomUUID().toString(),
+            uuid(),
             Instant.now().toString(),
             orderId,
-            randomFrom(customerIds),
+            fromPool("customers", customerIds),
             Instant.now().toString().substring(0, 10),
             faker.number().randomDouble(2, 50, 2000),
             randomFrom(List.of("NEW", "PROCESSING", "SHIPPED", "COMPLETED")),
-            faker.address().streetAddress(),
-            faker.address().city(),
-            faker.address().stateAbbr(),
-            faker.address().zipCode(),
-            randomFrom(productIds),
-            faker.commerce().productName(),
+            fake(Kind.STREET_ADDRESS),
+            fake(Kind.CITY),
+            fake(Kind.STATE_ABBR),
+            fake(Kind.ZIP_CODE),
+            fromPool("products", productIds),
+            fake(Kind.PRODUCT_NAME),
             random.nextInt(5) + 1,
             faker.number().randomDouble(2, 10, 500)
         );
@@ -377,20 +509,20 @@ public class DataGenerator {
               </Activity>
             </CRMEvent>
             """,
-            UUID.randomUUID().toString(),
+            uuid(),
             randomFrom(List.of("LEAD_CREATED", "CONTACT_UPDATED", "OPPORTUNITY_WON", "TASK_COMPLETED")),
             Instant.now().toString(),
-            randomFrom(customerIds),
-            faker.internet().emailAddress(),
-            faker.name().firstName(),
-            faker.name().lastName(),
-            faker.phoneNumber().phoneNumber(),
-            faker.company().name(),
+            fromPool("customers", customerIds),
+            fake(Kind.EMAIL),
+            fake(Kind.FIRST_NAME),
+            fake(Kind.LAST_NAME),
+            fake(Kind.PHONE),
+            fake(Kind.COMPANY),
             randomFrom(List.of("Website", "Referral", "Trade Show", "Cold Call", "Social Media")),
             random.nextInt(100),
             randomFrom(List.of("Call", "Email", "Meeting", "Demo")),
-            faker.lorem().sentence(),
-            faker.name().fullName(),
+            fake(Kind.SENTENCE),
+            fake(Kind.FULL_NAME),
             Instant.now().plusSeconds(86400 * random.nextInt(30)).toString().substring(0, 10)
         );
     }
@@ -399,102 +531,101 @@ public class DataGenerator {
     // LARGE MESSAGE DATA
     // ============================================================
     
-    public String generateLargeJson(int targetSizeKb) {
-        ObjectNode root = mapper.createObjectNode();
-        root.put("batchId", UUID.randomUUID().toString());
-        root.put("timestamp", Instant.now().toEpochMilli());
-        root.put("source", "bulk-import-" + faker.app().name());
-        
-        ArrayNode records = root.putArray("records");
+    /**
+     * Large JSON batch (~targetSizeKb), streamed as UTF-8 into the thread's {@link PayloadBuffer}.
+     */
+    public byte[] generateLargeJsonUtf8(int targetSizeKb) {
+        PayloadBuffer out = PayloadBuffer.acquire();
         int recordCount = (targetSizeKb * 1024) / 500; // Approx 500 bytes per record
-        
-        for (int i = 0; i < recordCount; i++) {
-            ObjectNode record = records.addObject();
-            record.put("id", UUID.randomUUID().toString());
-            record.put("name", faker.name().fullName());
-            record.put("email", faker.internet().emailAddress());
-            record.put("company", faker.company().name());
-            record.put("department", faker.commerce().department());
-            record.put("title", faker.job().title());
-            record.put("phone", faker.phoneNumber().phoneNumber());
-            record.put("address", faker.address().fullAddress());
-            record.put("notes", faker.lorem().paragraph());
+        try (JsonGenerator json = mapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+            json.writeStartObject();
+            json.writeStringField("batchId", uuid());
+            json.writeNumberField("timestamp", Instant.now().toEpochMilli());
+            json.writeStringField("source", "bulk-import-" + fake(Kind.APP_NAME));
+            
+            json.writeArrayFieldStart("records");
+            for (int i = 0; i < recordCount; i++) {
+                json.writeStartObject();
+                json.writeStringField("id", uuid());
+                json.writeStringField("name", fake(Kind.FULL_NAME));
+                json.writeStringField("email", fake(Kind.EMAIL));
+                json.writeStringField("company", fake(Kind.COMPANY));
+                json.writeStringField("department", fake(Kind.DEPARTMENT));
+                json.writeStringField("title", fake(Kind.JOB_TITLE));
+                json.writeStringField("phone", fake(Kind.PHONE));
+                json.writeStringField("address", fake(Kind.FULL_ADDRESS));
+                json.writeStringField("notes", fake(Kind.PARAGRAPH));
+                json.writeEndObject();
+            }
+            json.writeEndArray();
+            
+            json.writeObjectFieldStart("metadata");
+            json.writeNumberField("recordCount", recordCount);
+            json.writeStringField("version", "1.0");
+            json.writeStringField("encoding", "UTF-8");
+            json.writeEndObject();
+            json.writeEndObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
-        
-        ObjectNode metadata = root.putObject("metadata");
-        metadata.put("recordCount", recordCount);
-        metadata.put("version", "1.0");
-        metadata.put("encoding", "UTF-8");
-        
-        return root.toString();
-    }
-    
-    public String generateLargeXml(int targetSizeKb) {
-        StringBuilder sb = new StringBuilder();
-        sb.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
-        sb.append("<DataExport xmlns=\"http://example.com/export\">\n");
-        sb.append("  <BatchId>").append(UUID.randomUUID()).append("</BatchId>\n");
-        sb.append("  <Timestamp>").append(Instant.now()).append("</Timestamp>\n");
-        sb.append("  <Records>\n");
+        return out.toByteArray();
+    }
+    
+    /**
+     * Large XML export (~targetSizeKb), written as UTF-8 into the thread's {@link PayloadBuffer}.
+     */
+    public byte[] generateLargeXmlUtf8(int targetSizeKb) {
+        PayloadBuffer out = PayloadBuffer.acquire();
+        out.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
+        out.append("<DataExport xmlns=\"http://example.com/export\">\n");
+        out.append("  <BatchId>").append(uuid()).append("</BatchId>\n");
+        out.append("  <Timestamp>").append(Instant.now().toString()).append("</Timestamp>\n");
+        out.append("  <Records>\n");
         
         int recordCount = (targetSizeKb * 1024) / 600;
         for (int i = 0; i < recordCount; i++) {
-            sb.append("    <Record id=\"").append(UUID.randomUUID()).append("\">\n");
-            sb.append("      <Name>").append(escapeXml(faker.name().fullName())).append("</Name>\n");
-            sb.append("      <Email>").append(faker.internet().emailAddress()).append("</Email>\n");
-            sb.append("      <Company>").append(escapeXml(faker.company().name())).append("</Company>\n");
-            sb.append("      <Address>").append(escapeXml(faker.address().fullAddress())).append("</Address>\n");
-            sb.append("      <Description>").append(escapeXml(faker.lorem().paragraph())).append("</Description>\n");
-            sb.append("    </Record>\n");
+            out.append("    <Record id=\"").append(uuid()).append("\">\n");
+            out.append("      <Name>").appendXmlEscaped(fake(Kind.FULL_NAME)).append("</Name>\n");
+            out.append("      <Email>").append(fake(Kind.EMAIL)).append("</Email>\n");
+            out.append("      <Company>").appendXmlEscaped(fake(Kind.COMPANY)).append("</Company>\n");
+            out.append("      <Address>").appendXmlEscaped(fake(Kind.FULL_ADDRESS)).append("</Address>\n");
+            out.append("      <Description>").appendXmlEscaped(fake(Kind.PARAGRAPH)).append("</Description>\n");
+            out.append("    </Record>\n");
         }
         
-        sb.append("  </Records>\n");
-        sb.append("</DataExport>");
+        out.append("  </Records>\n");
+        out.append("</DataExport>");
         
-        return sb.toString();
+        return out.toByteArray();
     }
     
     // ============================================================
     // AUDIT DATA
     // ============================================================
     
-    public Map<String, Object> generateAuditEvent() {
-        Map<String, Object> event = new LinkedHashMap<>();
-        event.put("eventId", UUID.randomUUID().toString());
-        event.put("eventType", randomFrom(List.of("ORDER_CREATED", "USER_LOGIN", "PAYMENT_PROCESSED", "CONFIG_CHANGED", "DATA_EXPORTED")));
-        event.put("entityType", randomFrom(List.of("Order", "User", "Product", "Payment", "Config")));
-        event.put("entityId", UUID.randomUUID().toString().substring(0, 12));
-        event.put("action", randomFrom(List.of("CREATE", "READ", "UPDATE", "DELETE", "LOGIN", "EXPORT")));
-        event.put("actorId", "user-" + faker.number().digits(6));
-        event.put("actorType", randomFrom(List.of("USER", "SYSTEM", "API_CLIENT")));
-        event.put("previousState", random.nextDouble() < 0.5 ? "{\"status\": \"old\"}" : null);
-        event.put("newState", "{\"status\": \"new\"}");
-        event.put("metadata", Map.of("ipAddress", faker.internet().ipV4Address(), "userAgent", faker.internet().userAgent()));
-        event.put("timestamp", Instant.now().toEpochMilli());
-        
-        return event;
+    public void fillAuditEvent(IndexedRecord event) {
+        event.put(0, uuid());
+        event.put(1, randomFrom(AUDIT_EVENT_TYPES));
+        event.put(2, randomFrom(AUDIT_ENTITY_TYPES));
+        event.put(3, uuid().substring(0, 12));
+        event.put(4, randomFrom(AUDIT_ACTIONS));
+        event.put(5, "user-" + faker.number().digits(6));
+        event.put(6, randomFrom(AUDIT_ACTOR_TYPES));
+        event.put(7, random.nextDouble() < 0.5 ? "{\"status\": \"old\"}" : null);
+        event.put(8, "{\"status\": \"new\"}");
+        event.put(9, System.currentTimeMillis());
     }
     
     // ============================================================
     // HELPER METHODS
     // ============================================================
     
-    private Map<String, Object> generateAddress() {
-        Map<String, Object> address = new LinkedHashMap<>();
-        address.put("street", faker.address().streetAddress());
-        address.put("city", faker.address().city());
-        address.put("state", faker.address().stateAbbr());
-        address.put("zipCode", faker.address().zipCode());
-        address.put("country", "US");
-        return address;
-    }
-    
     private String generatePageUrl() {
         String type = randomFrom(List.of("product", "category", "search", "cart", "checkout", "account", "home"));
         return switch (type) {
-            case "product" -> "/products/" + randomFrom(productIds);
+            case "product" -> "/products/" + fromPool("products", productIds);
             case "category" -> "/category/" + randomFrom(categories).toLowerCase().replace(" ", "-");
-            case "search" -> "/search?q=" + faker.commerce().productName().replace(" ", "+");
+            case "search" -> "/search?q=" + fake(Kind.PRODUCT_NAME).replace(" ", "+");
             case "cart" -> "/cart";
             case "checkout" -> "/checkout";
             case "account" -> "/account/" + randomFrom(List.of("orders", "profile", "settings"));
@@ -504,7 +635,7 @@ public class DataGenerator {
     
     private String generateReferrer() {
         return randomFrom(List.of(
-            "https://www.google.com/search?q=" + faker.commerce().productName().replace(" ", "+"),
+            "https://www.google.com/search?q=" + fake(Kind.PRODUCT_NAME).replace(" ", "+"),
             "https://www.facebook.com/",
             "https://twitter.com/",
             "https://www.instagram.com/",
@@ -515,7 +646,7 @@ public class DataGenerator {
     private String generateApiPath() {
         return randomFrom(List.of(
             "/api/v1/orders",
-            "/api/v1/orders/" + UUID.randomUUID().toString().substring(0, 8),
+            "/api/v1/orders/" + uuid().substring(0, 8),
             "/api/v1/products",
             "/api/v1/users",
             "/api/v1/cart",
@@ -528,9 +659,9 @@ public class DataGenerator {
     private String generateLogMessage() {
         return randomFrom(List.of(
             "Request processed successfully",
-            "Order " + (orderIds.isEmpty() ? "ORD-123" : randomFrom(orderIds)) + " status updated",
+            "Order " + getRandomOrderId() + " status updated",
             "User authentication successful",
-            "Cache miss for key: product:" + randomFrom(productIds),
+            "Cache miss for key: product:" + fromPool("products", productIds),
             "Database query executed in " + random.nextInt(100) + "ms",
             "External API call to payment gateway",
             "Rate limit check passed",
@@ -609,6 +740,50 @@ public class DataGenerator {
         };
     }
     
+    // Order IDs are a function of the seed and the order's sequence number, so other streams can
+    // reference orders without sharing state with the stream that creates them
+    private String orderId(long sequence) {
+        return "ORD-" + new UUID(StreamSeeds.mix(seed + 0x9E3779B97F4A7C15L * (sequence + 1)), 0).toString().substring(0, 12);
+    }
+    
+    // Transaction and trade order IDs follow the same scheme from their own sequences
+    private String transactionId(long sequence) {
+        return "TXN-" + new UUID(StreamSeeds.mix(seed - 0x9E3779B97F4A7C15L * (sequence + 1)), 0).toString().substring(0, 12);
+    }
+    
+    private String tradeOrderId(long sequence) {
+        return "TO-" + new UUID(StreamSeeds.mix(~seed + 0x9E3779B97F4A7C15L * (sequence + 1)), 0).toString().substring(0, 13);
+    }
+    
+    /**
+     * Dictionary value of a kind, or a fresh Faker value when the dictionary is disabled.
+     */
+    public String fake(Kind kind) {
+        return dictionary != null ? dictionary.pick(kind, random) : kind.generate(faker);
+    }
+    
+    // Folds a reference index into the sequences issued so far, so it never names an entity that doesn't exist yet.
+    // Until the first one is issued, references point at the first sequence number
+    private static long issued(long index, AtomicLong issued) {
+        long count = issued.get();
+        return index < count ? index : count > 0 ? index % count : 0;
+    }
+    
+    private String fromPool(String pool, List<String> values) {
+        KeySampler sampler = poolSamplers.get(pool);
+        return values.get(sampler != null ? nextKey(sampler) : random.nextInt(values.size()));
+    }
+    
+    private List<String> pool(String pool) {
+        return switch (pool) {
+            case "customers" -> customerIds;
+            case "products" -> productIds;
+            case "devices" -> deviceIds;
+            case "symbols" -> symbols;
+            default -> throw new IllegalArgumentException("Unknown pool " + pool + ", expected customers, products, devices or symbols");
+        };
+    }
+    
     private double roundTo2(double value) {
         return Math.round(value * 100.0) / 100.0;
     }
@@ -617,28 +792,43 @@ public class DataGenerator {
         return list.get(random.nextInt(list.size()));
     }
     
-    private String escapeXml(String text) {
-        return text.replace("&", "&amp;")
-                   .replace("<", "&lt;")
-                   .replace(">", "&gt;")
-                   .replace("\"", "&quot;")
-                   .replace("'", "&apos;");
-    }
-    
     public String getRandomCustomerId() {
-        return randomFrom(customerIds);
+        return fromPool("customers", customerIds);
     }
     
     public String getRandomProductId() {
-        return randomFrom(productIds);
+        return fromPool("products", productIds);
     }
     
+    /**
+     * An order ID among the first n orders, where n is the number of references this stream has
+     * made so far - so references stay deterministic and point at orders seeded alongside them.
+     * A stream referencing orders faster than they are issued (e.g. bulk-filling payments alone)
+     * is clamped to the orders issued so far; those references then depend on timing, not only on the seed.
+     */
     public String getRandomOrderId() {
-        return orderIds.isEmpty() ? "ORD-" + UUID.randomUUID().toString().substring(0, 12) : randomFrom(orderIds);
+        orderReferences++;
+        return orderId(issued(random.nextLong(orderReferences), ordersIssued));
+    }
+    
+    /**
+     * A transaction ID chosen the same way as {@link #getRandomOrderId()}.
+     */
+    public String getRandomTransactionId() {
+        transactionReferences++;
+        return transactionId(issued(random.nextLong(transactionReferences), transactionsIssued));
+    }
+    
+    /**
+     * A trade order ID chosen the same way as {@link #getRandomOrderId()}.
+     */
+    public String getRandomTradeOrderId() {
+        tradeOrderReferences++;
+        return tradeOrderId(issued(random.nextLong(tradeOrderReferences), tradeOrdersIssued));
     }
     
     public String getRandomDeviceId() {
-        return randomFrom(deviceIds);
+        return fromPool("devices", deviceIds);
     }
     
     public String getRandomWarehouseId() {
@@ -646,6 +836,6 @@ public class DataGenerator {
     }
     
     public String getRandomSymbol() {
-        return randomFrom(symbols);
+        return fromPool("symbols", symbols);
     }
 }
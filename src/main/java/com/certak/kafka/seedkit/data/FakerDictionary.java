@@ -0,0 +1,112 @@
+package com.certak.kafka.seedkit.data;
+
+import net.datafaker.Faker;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.function.Function;
+
+/**
+ * Fake text values sampled from Datafaker once, then picked by index.
+ *
+ * Datafaker resolves a template and its YAML lookups on every call, which dominates the cost of
+ * text-heavy payloads such as the large JSON and XML batches. A dictionary draws {@code size}
+ * values of each {@link Kind} up front into immutable arrays shared by all streams, so a value on
+ * the hot path costs one bounded random draw. Each kind is sampled from its own seeded stream,
+ * in parallel, so a seed always yields the same dictionary.
+ */
+public final class FakerDictionary {
+
+    public static final int DEFAULT_SIZE = 10_000;
+
+    public enum Kind {
+        FULL_NAME(f -> f.name().fullName()),
+        FIRST_NAME(f -> f.name().firstName()),
+        LAST_NAME(f -> f.name().lastName()),
+        EMAIL(f -> f.internet().emailAddress()),
+        PHONE(f -> f.phoneNumber().phoneNumber()),
+        USER_AGENT(f -> f.internet().userAgent()),
+        DOMAIN_WORD(f -> f.internet().domainWord()),
+        COMPANY(f -> f.company().name()),
+        DEPARTMENT(f -> f.commerce().department()),
+        JOB_TITLE(f -> f.job().title()),
+        PRODUCT_NAME(f -> f.commerce().productName()),
+        MATERIAL(f -> f.commerce().material()),
+        COLOR(f -> f.color().name()),
+        APP_NAME(f -> f.app().name()),
+        APP_VERSION(f -> f.app().version()),
+        STREET_ADDRESS(f -> f.address().streetAddress()),
+        CITY(f -> f.address().city()),
+        STATE(f -> f.address().state()),
+        STATE_ABBR(f -> f.address().stateAbbr()),
+        ZIP_CODE(f -> f.address().zipCode()),
+        COUNTRY_CODE(f -> f.address().countryCode()),
+        FULL_ADDRESS(f -> f.address().fullAddress()),
+        TITLE(f -> f.lorem().sentence(3)),
+        SENTENCE(f -> f.lorem().sentence()),
+        PARAGRAPH(f -> f.lorem().paragraph()),
+        LONG_PARAGRAPH(f -> f.lorem().paragraph(3));
+
+        private final Function<Faker, String> source;
+
+        Kind(Function<Faker, String> source) {
+            this.source = source;
+        }
+
+        /**
+         * A fresh value straight from Faker, for generators without a dictionary.
+         */
+        public String generate(Faker faker) {
+            return source.apply(faker);
+        }
+    }
+
+    // Indexed by Kind ordinal
+    private final String[][] values;
+    private final int size;
+
+    /**
+     * @param size values sampled per kind; duplicates Faker happens to produce are kept
+     */
+    public FakerDictionary(long seed, int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("Dictionary size must be positive, got " + size);
+        }
+        this.size = size;
+        String[][] sampled = new String[Kind.values().length][];
+        Arrays.stream(Kind.values()).parallel()
+            .forEach(kind -> sampled[kind.ordinal()] = sample(kind, StreamSeeds.derive(seed, "dictionary:" + kind.name()), size));
+        this.values = sampled;
+    }
+
+    public String pick(Kind kind, Random random) {
+        return values[kind.ordinal()][random.nextInt(size)];
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Approximate heap held by the sampled strings, for startup logging.
+     */
+    public long estimateBytes() {
+        long chars = 0;
+        for (String[] strings : values) {
+            for (String s : strings) {
+                chars += s.length();
+            }
+        }
+        // Latin-1 strings store one byte per char, plus the String and array headers
+        return chars + (long) values.length * size * 56;
+    }
+
+    private static String[] sample(Kind kind, long seed, int size) {
+        Faker faker = new Faker(new StreamRandom(seed));
+        String[] strings = new String[size];
+        for (int i = 0; i < size; i++) {
+            strings[i] = kind.generate(faker);
+        }
+        return strings;
+    }
+}
@@ -0,0 +1,161 @@
+package com.certak.kafka.seedkit.data;
+
+import java.util.*;
+
+/**
+ * Picks indexes into a key space of fixed size following a configured distribution.
+ *
+ * Weighted distributions (Zipf, hotspot) are precomputed into an alias table (Vose's method),
+ * so every sample costs one random int, one random double and two array reads whatever the
+ * key space size. Index 0 is the most popular key.
+ *
+ * A sampler holds no per-draw state and is shared by every stream; sequential samplers walk the
+ * key space from a position the caller keeps (see {@link DataGenerator#nextKey(KeySampler)}).
+ */
+public final class KeySampler {
+
+    public enum Type { UNIFORM, ZIPF, HOTSPOT, SEQUENTIAL }
+
+    private final Type type;
+    private final int size;
+    private final double[] probability;
+    private final int[] alias;
+    private final String description;
+
+    private KeySampler(Type type, int size, double[] weights, String description) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("Key space must have at least one key");
+        }
+        this.type = type;
+        this.size = size;
+        if (weights != null) {
+            this.probability = new double[size];
+            this.alias = new int[size];
+            buildAliasTable(weights);
+            this.description = description + String.format(", top key %.1f%%, top 1%% of keys %.1f%%",
+                share(weights, 1) * 100, share(weights, Math.max(1, size / 100)) * 100);
+        } else {
+            this.probability = null;
+            this.alias = null;
+            this.description = description;
+        }
+    }
+
+    public static KeySampler uniform(int size) {
+        return new KeySampler(Type.UNIFORM, size, null, "uniform over " + size + " keys");
+    }
+
+    public static KeySampler sequential(int size) {
+        return new KeySampler(Type.SEQUENTIAL, size, null, "sequential over " + size + " keys");
+    }
+
+    /**
+     * Key k (from 0) has weight 1 / (k + 1)^exponent.
+     */
+    public static KeySampler zipf(int size, double exponent) {
+        double[] weights = new double[size];
+        for (int k = 0; k < size; k++) {
+            weights[k] = 1.0 / Math.pow(k + 1, exponent);
+        }
+        return new KeySampler(Type.ZIPF, size, weights, "zipf(" + exponent + ") over " + size + " keys");
+    }
+
+    /**
+     * The first {@code hotKeys} keys share {@code hotShare} of the traffic evenly, the rest share the remainder.
+     */
+    public static KeySampler hotspot(int size, int hotKeys, double hotShare) {
+        if (hotKeys <= 0 || hotKeys > size || hotShare < 0 || hotShare > 1) {
+            throw new IllegalArgumentException("Hotspot needs 1.." + size + " hot keys and a hot share between 0 and 1");
+        }
+        double[] weights = new double[size];
+        int coldKeys = size - hotKeys;
+        for (int k = 0; k < size; k++) {
+            weights[k] = k < hotKeys ? hotShare / hotKeys : (1 - hotShare) / coldKeys;
+        }
+        return new KeySampler(Type.HOTSPOT, size, weights,
+            String.format("hotspot over %d keys, %d hot keys with %.0f%% of traffic", size, hotKeys, hotShare * 100));
+    }
+
+    /**
+     * Build a sampler from configuration, e.g. {@code {type: zipf, exponent: 1.2, keys: 10000}}.
+     *
+     * @param defaultSize key space size when {@code keys} is not set (e.g. the size of a reference pool)
+     */
+    public static KeySampler fromConfig(Map<String, Object> config, int defaultSize) {
+        int size = ((Number) config.getOrDefault("keys", defaultSize)).intValue();
+        Type type = Type.valueOf(((String) config.getOrDefault("type", "uniform")).toUpperCase(Locale.ROOT).replace('-', '_'));
+        return switch (type) {
+            case UNIFORM -> uniform(size);
+            case SEQUENTIAL -> sequential(size);
+            case ZIPF -> zipf(size, ((Number) config.getOrDefault("exponent", 1.0)).doubleValue());
+            case HOTSPOT -> hotspot(size,
+                ((Number) config.getOrDefault("hot-keys", Math.max(1, size / 100))).intValue(),
+                ((Number) config.getOrDefault("hot-percentage", 80)).doubleValue() / 100);
+        };
+    }
+
+    /**
+     * Next key index in [0, size).
+     *
+     * @param position number of keys the caller has drawn from this sampler so far; only sequential samplers use it
+     */
+    public int next(Random random, long position) {
+        return switch (type) {
+            case UNIFORM -> random.nextInt(size);
+            case SEQUENTIAL -> (int) Math.floorMod(position, (long) size);
+            case ZIPF, HOTSPOT -> {
+                int column = random.nextInt(size);
+                yield random.nextDouble() < probability[column] ? column : alias[column];
+            }
+        };
+    }
+
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public String toString() {
+        return description;
+    }
+
+    // Vose's alias method: split the weights into size columns of equal height 1/size,
+    // each holding at most two keys
+    private void buildAliasTable(double[] weights) {
+        double total = Arrays.stream(weights).sum();
+        double[] scaled = new double[size];
+        Deque<Integer> small = new ArrayDeque<>();
+        Deque<Integer> large = new ArrayDeque<>();
+        for (int k = 0; k < size; k++) {
+            scaled[k] = weights[k] * size / total;
+            (scaled[k] < 1 ? small : large).push(k);
+        }
+        while (!small.isEmpty() && !large.isEmpty()) {
+            int less = small.pop();
+            int more = large.pop();
+            probability[less] = scaled[less];
+            alias[less] = more;
+            scaled[more] = scaled[more] + scaled[less] - 1;
+            (scaled[more] < 1 ? small : large).push(more);
+        }
+        // Whatever is left is 1 up to rounding error
+        while (!large.isEmpty()) {
+            probability[large.pop()] = 1;
+        }
+        while (!small.isEmpty()) {
+            probability[small.pop()] = 1;
+        }
+    }
+
+    private static double share(double[] weights, int topKeys) {
+        double total = 0;
+        double top = 0;
+        for (int k = 0; k < weights.length; k++) {
+            total += weights[k];
+            if (k < topKeys) {
+                top += weights[k];
+            }
+        }
+        return top / total;
+    }
+}
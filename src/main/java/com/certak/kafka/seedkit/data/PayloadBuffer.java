@@ -0,0 +1,155 @@
+package com.certak.kafka.seedkit.data;
+
+import java.io.OutputStream;
+import java.util.Arrays;
+
+/**
+ * Reusable, unsynchronized byte sink for writing large payloads as UTF-8.
+ *
+ * Each thread has one buffer, handed out by {@link #acquire()}, that keeps its capacity between
+ * payloads, so generating a payload allocates only the final exact-size {@code byte[]} instead of
+ * an object tree, a builder and a String on top. Buffers that grew past {@link #MAX_RETAINED_CAPACITY}
+ * are dropped after use so one huge payload doesn't pin memory for the thread's lifetime.
+ * A thread must finish one payload before acquiring the buffer again.
+ */
+public final class PayloadBuffer extends OutputStream {
+    private static final int INITIAL_CAPACITY = 64 * 1024;
+    private static final int MAX_RETAINED_CAPACITY = 8 * 1024 * 1024;
+    private static final ThreadLocal<PayloadBuffer> POOL = ThreadLocal.withInitial(PayloadBuffer::new);
+
+    private byte[] bytes = new byte[INITIAL_CAPACITY];
+    private int size;
+
+    private PayloadBuffer() {}
+
+    /**
+     * The calling thread's buffer, emptied.
+     */
+    public static PayloadBuffer acquire() {
+        PayloadBuffer buffer = POOL.get();
+        buffer.size = 0;
+        return buffer;
+    }
+
+    @Override
+    public void write(int b) {
+        ensureCapacity(size + 1);
+        bytes[size++] = (byte) b;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) {
+        ensureCapacity(size + len);
+        System.arraycopy(b, off, bytes, size, len);
+        size += len;
+    }
+
+    public PayloadBuffer append(CharSequence text) {
+        int length = text.length();
+        ensureCapacity(size + length * 3);
+        for (int i = 0; i < length; i++) {
+            char c = text.charAt(i);
+            if (c < 0x80) {
+                bytes[size++] = (byte) c;
+            } else {
+                i = appendMultiByte(text, i, c);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Append text with the five XML special characters escaped.
+     */
+    public PayloadBuffer appendXmlEscaped(CharSequence text) {
+        int length = text.length();
+        int start = 0;
+        for (int i = 0; i < length; i++) {
+            String entity = switch (text.charAt(i)) {
+                case '&' -> "&amp;";
+                case '<' -> "&lt;";
+                case '>' -> "&gt;";
+                case '"' -> "&quot;";
+                case '\'' -> "&apos;";
+                default -> null;
+            };
+            if (entity != null) {
+                append(text.subSequence(start, i)).append(entity);
+                start = i + 1;
+            }
+        }
+        return start == 0 ? append(text) : append(text.subSequence(start, length));
+    }
+
+    public PayloadBuffer append(long value) {
+        return append(Long.toString(value));
+    }
+
+    /**
+     * Append a value rounded to two decimals, e.g. 1234.5 as "1234.50".
+     */
+    public PayloadBuffer appendDecimal2(double value) {
+        long cents = Math.round(value * 100);
+        if (cents < 0) {
+            write('-');
+            cents = -cents;
+        }
+        append(cents / 100);
+        write('.');
+        write((int) ('0' + cents % 100 / 10));
+        return appendDigit(cents % 10);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Copy out the payload. The buffer can be acquired again afterwards.
+     */
+    public byte[] toByteArray() {
+        byte[] payload = Arrays.copyOf(bytes, size);
+        if (bytes.length > MAX_RETAINED_CAPACITY) {
+            bytes = new byte[INITIAL_CAPACITY];
+        }
+        size = 0;
+        return payload;
+    }
+
+    private PayloadBuffer appendDigit(long digit) {
+        write((int) ('0' + digit));
+        return this;
+    }
+
+    // Encodes one non-ASCII character (or surrogate pair), returning the index of its last char
+    private int appendMultiByte(CharSequence text, int i, char c) {
+        if (c < 0x800) {
+            bytes[size++] = (byte) (0xC0 | c >> 6);
+            bytes[size++] = (byte) (0x80 | c & 0x3F);
+            return i;
+        }
+        if (Character.isHighSurrogate(c) && i + 1 < text.length() && Character.isLowSurrogate(text.charAt(i + 1))) {
+            int codePoint = Character.toCodePoint(c, text.charAt(i + 1));
+            // A pair is two chars of reserved space for four bytes, so there is room
+            bytes[size++] = (byte) (0xF0 | codePoint >> 18);
+            bytes[size++] = (byte) (0x80 | codePoint >> 12 & 0x3F);
+            bytes[size++] = (byte) (0x80 | codePoint >> 6 & 0x3F);
+            bytes[size++] = (byte) (0x80 | codePoint & 0x3F);
+            return i + 1;
+        }
+        if (Character.isSurrogate(c)) {
+            bytes[size++] = '?';
+            return i;
+        }
+        bytes[size++] = (byte) (0xE0 | c >> 12);
+        bytes[size++] = (byte) (0x80 | c >> 6 & 0x3F);
+        bytes[size++] = (byte) (0x80 | c & 0x3F);
+        return i;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.max(capacity, bytes.length * 2));
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.certak.kafka.seedkit.data;
+
+import java.util.Random;
+import java.util.SplittableRandom;
+
+/**
+ * {@link Random} backed by a {@link SplittableRandom}, for generators owned by a single thread.
+ *
+ * {@code java.util.Random} advances its seed with a compare-and-set on every draw, which costs an
+ * atomic even when only one thread uses it. This keeps the {@code Random} type that Datafaker and
+ * {@link KeySampler} expect, but draws from a plain, unsynchronized SplitMix64 state. It is not
+ * thread-safe: give each thread its own stream (see {@link DataGenerator#forStream(String)}).
+ */
+public final class StreamRandom extends Random {
+    private SplittableRandom splittable;
+
+    public StreamRandom(long seed) {
+        super(seed);
+        this.splittable = new SplittableRandom(seed);
+    }
+
+    // Called by Random's constructor before this class's fields are assigned
+    @Override
+    public void setSeed(long seed) {
+        this.splittable = new SplittableRandom(seed);
+    }
+
+    @Override
+    protected int next(int bits) {
+        return splittable.nextInt() >>> (32 - bits);
+    }
+
+    @Override
+    public int nextInt() {
+        return splittable.nextInt();
+    }
+
+    @Override
+    public int nextInt(int bound) {
+        return splittable.nextInt(bound);
+    }
+
+    @Override
+    public int nextInt(int origin, int bound) {
+        return splittable.nextInt(origin, bound);
+    }
+
+    @Override
+    public long nextLong() {
+        return splittable.nextLong();
+    }
+
+    @Override
+    public long nextLong(long bound) {
+        return splittable.nextLong(bound);
+    }
+
+    @Override
+    public long nextLong(long origin, long bound) {
+        return splittable.nextLong(origin, bound);
+    }
+
+    @Override
+    public double nextDouble() {
+        return splittable.nextDouble();
+    }
+
+    @Override
+    public boolean nextBoolean() {
+        return splittable.nextBoolean();
+    }
+
+    @Override
+    public double nextGaussian() {
+        return splittable.nextGaussian();
+    }
+}
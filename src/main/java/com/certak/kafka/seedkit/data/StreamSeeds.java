@@ -0,0 +1,29 @@
+package com.certak.kafka.seedkit.data;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Derives independent seeds for named random streams (one per topic, say) from a single global seed.
+ *
+ * Each stream gets its own generator instead of sharing one, so the values a stream produces
+ * depend only on the global seed and the stream name - not on how threads interleave.
+ */
+public final class StreamSeeds {
+
+    private StreamSeeds() {}
+
+    public static long derive(long seed, String stream) {
+        // FNV-1a over the name, then a SplitMix64 finalizer to decorrelate nearby seeds
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : stream.getBytes(StandardCharsets.UTF_8)) {
+            hash = (hash ^ (b & 0xFF)) * 0x100000001b3L;
+        }
+        return mix(seed ^ hash);
+    }
+
+    static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,56 @@
+package com.certak.kafka.seedkit.metrics;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * End-to-end latency histograms per consumer group and topic, in microseconds.
+ *
+ * Latency is the time between the produce timestamp stamped by SeedKit producers (see
+ * {@link LatencyHeaders}) and the moment a consumer sees the record. Records without the
+ * header, e.g. from connectors or KSQL, are ignored.
+ */
+public class EndToEndLatency {
+    private static final Logger log = LoggerFactory.getLogger(EndToEndLatency.class);
+
+    private final Map<Key, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+
+    public void record(String groupId, ConsumerRecord<?, ?> record) {
+        long produceTime = LatencyHeaders.produceTimeMicros(record.headers());
+        if (produceTime < 0) {
+            return;
+        }
+        histograms.computeIfAbsent(new Key(groupId, record.topic()), k -> new LatencyHistogram())
+            .record(LatencyHeaders.nowMicros() - produceTime);
+    }
+
+    /**
+     * Latency snapshots keyed by "group/topic", sorted.
+     */
+    public Map<String, LatencyHistogram.Snapshot> getSnapshots() {
+        Map<String, LatencyHistogram.Snapshot> snapshots = new TreeMap<>();
+        histograms.forEach((key, histogram) -> snapshots.put(key.groupId() + "/" + key.topic(), histogram.snapshot()));
+        return snapshots;
+    }
+
+    public void logReport() {
+        Map<String, LatencyHistogram.Snapshot> snapshots = getSnapshots();
+        if (snapshots.isEmpty()) {
+            return;
+        }
+        log.info("End-to-end latency by group/topic (records, p50 / p99 / p99.9 / max ms):");
+        snapshots.forEach((name, s) -> log.info("  {} - {}, {} / {} / {} / {}",
+            name, s.count(), millis(s.p50()), millis(s.p99()), millis(s.p999()), millis(s.max())));
+    }
+
+    private static String millis(long micros) {
+        return String.format("%.1f", micros / 1000.0);
+    }
+
+    private record Key(String groupId, String topic) {}
+}
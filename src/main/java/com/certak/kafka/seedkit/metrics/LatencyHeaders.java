@@ -0,0 +1,45 @@
+package com.certak.kafka.seedkit.metrics;
+
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+
+/**
+ * Record headers used to measure end-to-end latency.
+ *
+ * Producers stamp the produce time (epoch microseconds) and a per-topic sequence number as
+ * 8-byte big-endian longs; consumers read the produce time back to compute latency. Epoch time
+ * is used rather than {@code System.nanoTime()} so consumers in other processes can use it too.
+ */
+public final class LatencyHeaders {
+    public static final String PRODUCE_TIME = "seedkit-produce-time-us";
+    public static final String SEQUENCE = "seedkit-sequence";
+
+    private LatencyHeaders() {}
+
+    public static void stamp(Headers headers, long sequence) {
+        headers.add(PRODUCE_TIME, toBytes(nowMicros()));
+        headers.add(SEQUENCE, toBytes(sequence));
+    }
+
+    /**
+     * Produce time in epoch microseconds, or -1 if the record was not stamped.
+     */
+    public static long produceTimeMicros(Headers headers) {
+        Header header = headers.lastHeader(PRODUCE_TIME);
+        return header != null && header.value() != null && header.value().length == Long.BYTES
+            ? ByteBuffer.wrap(header.value()).getLong()
+            : -1;
+    }
+
+    public static long nowMicros() {
+        Instant now = Instant.now();
+        return now.getEpochSecond() * 1_000_000 + now.getNano() / 1_000;
+    }
+
+    private static byte[] toBytes(long value) {
+        return ByteBuffer.allocate(Long.BYTES).putLong(value).array();
+    }
+}
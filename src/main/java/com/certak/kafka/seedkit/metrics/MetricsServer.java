@@ -0,0 +1,69 @@
+package com.certak.kafka.seedkit.metrics;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Executors;
+
+/**
+ * Embedded HTTP endpoint serving {@link SeedKitMetrics#scrape()} at {@code /metrics}.
+ * Uses the JDK's built-in HttpServer, so no extra services are needed.
+ */
+public class MetricsServer {
+    private static final Logger log = LoggerFactory.getLogger(MetricsServer.class);
+    private static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    private final int port;
+    private HttpServer server;
+
+    public MetricsServer(int port) {
+        this.port = port;
+    }
+
+    public void start() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(port), 0);
+        server.createContext("/metrics", this::handleScrape);
+        server.setExecutor(Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "seedkit-metrics");
+            t.setDaemon(true);
+            return t;
+        }));
+        server.start();
+        log.info("Metrics endpoint listening on http://localhost:{}/metrics", port);
+    }
+
+    public void stop() {
+        if (server != null) {
+            server.stop(0);
+        }
+    }
+
+    private void handleScrape(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+            byte[] body;
+            int status = 200;
+            try {
+                body = SeedKitMetrics.scrape().getBytes(StandardCharsets.UTF_8);
+            } catch (Exception e) {
+                log.warn("Metrics scrape failed: {}", e.getMessage());
+                body = ("# scrape failed: " + e.getMessage() + "\n").getBytes(StandardCharsets.UTF_8);
+                status = 500;
+            }
+            exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+            exchange.sendResponseHeaders(status, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.certak.kafka.seedkit.metrics;
+
+import java.util.*;
+
+/**
+ * Builds a scrape in the Prometheus text exposition format (0.0.4).
+ *
+ * Samples are grouped by metric family so each family gets a single {@code # TYPE} line,
+ * regardless of the order in which collectors write them.
+ */
+public class PrometheusWriter {
+    private final Map<String, Family> families = new LinkedHashMap<>();
+
+    public PrometheusWriter counter(String name, double value, String... labels) {
+        return sample(name, "counter", value, labels);
+    }
+
+    public PrometheusWriter gauge(String name, double value, String... labels) {
+        return sample(name, "gauge", value, labels);
+    }
+
+    /**
+     * Write latency quantiles (microseconds) as a summary in seconds.
+     */
+    public PrometheusWriter summary(String name, LatencyHistogram.Snapshot snapshot, String... labels) {
+        Family family = family(name, "summary");
+        String[] quantiles = {"0.5", "0.9", "0.99", "0.999"};
+        long[] values = {snapshot.p50(), snapshot.p90(), snapshot.p99(), snapshot.p999()};
+        for (int i = 0; i < quantiles.length; i++) {
+            String[] withQuantile = Arrays.copyOf(labels, labels.length + 2);
+            withQuantile[labels.length] = "quantile";
+            withQuantile[labels.length + 1] = quantiles[i];
+            family.samples.add(line(name, withQuantile, values[i] / 1e6));
+        }
+        family.samples.add(line(name + "_sum", labels, snapshot.mean() * snapshot.count() / 1e6));
+        family.samples.add(line(name + "_count", labels, snapshot.count()));
+        return this;
+    }
+
+    /**
+     * Write a summary without quantiles, e.g. a timer's count and total seconds.
+     */
+    public PrometheusWriter summary(String name, long count, double sum, String... labels) {
+        Family family = family(name, "summary");
+        family.samples.add(line(name + "_sum", labels, sum));
+        family.samples.add(line(name + "_count", labels, count));
+        return this;
+    }
+
+    public PrometheusWriter sample(String name, String type, double value, String... labels) {
+        family(name, type).samples.add(line(name, labels, value));
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder out = new StringBuilder();
+        families.forEach((name, family) -> {
+            out.append("# TYPE ").append(name).append(' ').append(family.type).append('\n');
+            family.samples.forEach(sample -> out.append(sample).append('\n'));
+        });
+        return out.toString();
+    }
+
+    /**
+     * Turn an arbitrary name (e.g. a Kafka metric group or tag) into a valid Prometheus name.
+     */
+    public static String sanitize(String name) {
+        String sanitized = name.replaceAll("[^a-zA-Z0-9_]", "_");
+        return Character.isDigit(sanitized.charAt(0)) ? "_" + sanitized : sanitized;
+    }
+
+    private Family family(String name, String type) {
+        return families.computeIfAbsent(name, n -> new Family(type));
+    }
+
+    private static String line(String name, String[] labels, double value) {
+        StringBuilder line = new StringBuilder(name);
+        if (labels.length > 0) {
+            line.append('{');
+            for (int i = 0; i + 1 < labels.length; i += 2) {
+                if (i > 0) {
+                    line.append(',');
+                }
+                line.append(sanitize(labels[i])).append("=\"").append(escape(labels[i + 1])).append('"');
+            }
+            line.append('}');
+        }
+        return line.append(' ').append(format(value)).toString();
+    }
+
+    private static String escape(String value) {
+        return value == null ? "" : value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+    private static String format(double value) {
+        if (Double.isNaN(value)) {
+            return "NaN";
+        }
+        if (Double.isInfinite(value)) {
+            return value > 0 ? "+Inf" : "-Inf";
+        }
+        return value == Math.rint(value) && Math.abs(value) < 1e15 ? String.valueOf((long) value) : String.valueOf(value);
+    }
+
+    private static class Family {
+        private final String type;
+        private final List<String> samples = new ArrayList<>();
+
+        Family(String type) {
+            this.type = type;
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.certak.kafka.seedkit.metrics;
+
+import org.apache.kafka.common.Metric;
+import org.apache.kafka.common.MetricName;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Process-wide registry behind the metrics endpoint.
+ *
+ * Holds the Kafka clients whose {@code metrics()} are exported, collectors that write SeedKit
+ * state (delivery stats, rates, latencies) at scrape time, and simple counters, timers and gauges
+ * for events such as schema registry calls and setup step durations. Labels are passed as
+ * alternating name/value pairs.
+ */
+public final class SeedKitMetrics {
+    private static final Map<String, Supplier<Map<MetricName, ? extends Metric>>> CLIENTS = new ConcurrentHashMap<>();
+    private static final List<Collector> COLLECTORS = new CopyOnWriteArrayList<>();
+    private static final Map<Series, LongAdder> COUNTERS = new ConcurrentHashMap<>();
+    private static final Map<Series, Timer> TIMERS = new ConcurrentHashMap<>();
+    private static final Map<Series, Double> GAUGES = new ConcurrentHashMap<>();
+
+    private SeedKitMetrics() {}
+
+    /**
+     * Writes metrics into a scrape.
+     */
+    @FunctionalInterface
+    public interface Collector {
+        void collect(PrometheusWriter writer);
+    }
+
+    /**
+     * Export a Kafka client's metrics (e.g. {@code producer::metrics}) until it is unregistered.
+     */
+    public static void registerClient(String clientId, Supplier<Map<MetricName, ? extends Metric>> metrics) {
+        CLIENTS.put(clientId, metrics);
+    }
+
+    public static void unregisterClient(String clientId) {
+        CLIENTS.remove(clientId);
+    }
+
+    public static void registerCollector(Collector collector) {
+        COLLECTORS.add(collector);
+    }
+
+    public static void unregisterCollector(Collector collector) {
+        COLLECTORS.remove(collector);
+    }
+
+    public static void increment(String name, String... labels) {
+        COUNTERS.computeIfAbsent(new Series(name, List.of(labels)), s -> new LongAdder()).increment();
+    }
+
+    public static void recordTime(String name, long nanos, String... labels) {
+        Timer timer = TIMERS.computeIfAbsent(new Series(name, List.of(labels)), s -> new Timer());
+        timer.count.increment();
+        timer.nanos.add(nanos);
+    }
+
+    /**
+     * Run a supplier and add its duration to the named timer.
+     */
+    public static <T> T time(String name, Supplier<T> supplier, String... labels) {
+        long start = System.nanoTime();
+        try {
+            return supplier.get();
+        } finally {
+            recordTime(name, System.nanoTime() - start, labels);
+        }
+    }
+
+    public static void setGauge(String name, double value, String... labels) {
+        GAUGES.put(new Series(name, List.of(labels)), value);
+    }
+
+    /**
+     * Render all registered metrics in the Prometheus text format.
+     */
+    public static String scrape() {
+        PrometheusWriter writer = new PrometheusWriter();
+        CLIENTS.forEach((clientId, metrics) -> writeClientMetrics(writer, metrics));
+        COUNTERS.forEach((series, count) -> writer.counter(series.name(), count.sum(), series.labelArray()));
+        TIMERS.forEach((series, timer) ->
+            writer.summary(series.name() + "_seconds", timer.count.sum(), timer.nanos.sum() / 1e9, series.labelArray()));
+        GAUGES.forEach((series, value) -> writer.gauge(series.name(), value, series.labelArray()));
+        for (Collector collector : COLLECTORS) {
+            collector.collect(writer);
+        }
+        return writer.toString();
+    }
+
+    private static void writeClientMetrics(PrometheusWriter writer, Supplier<Map<MetricName, ? extends Metric>> metrics) {
+        Map<MetricName, ? extends Metric> snapshot;
+        try {
+            snapshot = metrics.get();
+        } catch (Exception e) {
+            // Client closed between registration and scrape
+            return;
+        }
+        for (Map.Entry<MetricName, ? extends Metric> entry : snapshot.entrySet()) {
+            MetricName metricName = entry.getKey();
+            Object value;
+            try {
+                value = entry.getValue().metricValue();
+            } catch (Exception e) {
+                continue;
+            }
+            if (!(value instanceof Number number)) {
+                continue;
+            }
+            String name = PrometheusWriter.sanitize("kafka_" + metricName.group() + "_" + metricName.name());
+            List<String> labels = new ArrayList<>();
+            new TreeMap<>(metricName.tags()).forEach((tag, tagValue) -> {
+                labels.add(tag);
+                labels.add(tagValue);
+            });
+            writer.sample(name, metricName.name().endsWith("-total") ? "counter" : "gauge",
+                number.doubleValue(), labels.toArray(String[]::new));
+        }
+    }
+
+    private record Series(String name, List<String> labels) {
+        String[] labelArray() {
+            return labels.toArray(String[]::new);
+        }
+    }
+
+    private static class Timer {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+    }
+}
@@ -0,0 +1,174 @@
+package com.certak.kafka.seedkit.producers;
+
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.Metric;
+import org.apache.kafka.common.MetricName;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Max-throughput benchmark driving one producer at a time as fast as it will accept records.
+ *
+ * Each run sends to its topics round-robin from a number of generator threads until the duration
+ * or message count is reached, flushes, and then combines callback counts with the producer's
+ * own metrics (wire bytes, batch size, compression rate, request latency, buffer-pool wait).
+ */
+public class BlastBenchmark {
+    private static final Logger log = LoggerFactory.getLogger(BlastBenchmark.class);
+
+    private static final String PRODUCER_METRICS = "producer-metrics";
+    private static final double MB = 1024.0 * 1024.0;
+
+    private final int durationSeconds;
+    private final long messageCount;
+    private final int threads;
+
+    /**
+     * @param durationSeconds how long each producer is driven (0 for no time limit)
+     * @param messageCount    messages sent per producer (0 for no count limit)
+     * @param threads         generator threads per producer
+     */
+    public BlastBenchmark(int durationSeconds, long messageCount, int threads) {
+        if (durationSeconds <= 0 && messageCount <= 0) {
+            throw new IllegalArgumentException("Blast needs a duration or a message count");
+        }
+        this.durationSeconds = durationSeconds;
+        this.messageCount = messageCount;
+        this.threads = Math.max(1, threads);
+    }
+
+    /**
+     * Drive a producer flat out against the given topics and report what it achieved.
+     */
+    public <K, V> BlastResult run(String name, Producer<K, V> producer, List<String> topics,
+                                  Function<String, ProducerRecord<K, V>> records) {
+        log.info("Blasting {} to {} with {} threads ({})", name, topics, threads, limitDescription());
+
+        Map<String, Double> before = producerTotals(producer);
+        AtomicLong claimed = new AtomicLong();
+        AtomicLong acked = new AtomicLong();
+        AtomicLong failed = new AtomicLong();
+        AtomicLong uncompressedBytes = new AtomicLong();
+
+        long startNanos = System.nanoTime();
+        long deadlineNanos = durationSeconds > 0 ? startNanos + TimeUnit.SECONDS.toNanos(durationSeconds) : Long.MAX_VALUE;
+
+        List<Thread> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int offset = t;
+            workers.add(Thread.ofPlatform().name("blast-" + name + "-" + t).start(() -> {
+                int next = offset;
+                while (System.nanoTime() < deadlineNanos) {
+                    if (messageCount > 0 && claimed.getAndIncrement() >= messageCount) {
+                        break;
+                    }
+                    try {
+                        ProducerRecord<K, V> record = records.apply(topics.get(next++ % topics.size()));
+                        producer.send(record, (metadata, exception) -> {
+                            if (exception == null) {
+                                acked.incrementAndGet();
+                                uncompressedBytes.addAndGet(Math.max(0, metadata.serializedKeySize())
+                                    + Math.max(0, metadata.serializedValueSize()));
+                            } else if (failed.incrementAndGet() == 1) {
+                                log.warn("Blast send failed for {}: {}", name, exception.getMessage());
+                            }
+                        });
+                    } catch (Exception e) {
+                        if (failed.incrementAndGet() == 1) {
+                            log.warn("Blast send failed for {}: {}", name, e.getMessage());
+                        }
+                    }
+                }
+            }));
+        }
+
+        for (Thread worker : workers) {
+            try {
+                worker.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.warn("Blast interrupted");
+            }
+        }
+        producer.flush();
+        double seconds = (System.nanoTime() - startNanos) / 1e9;
+
+        Map<String, Double> after = producerTotals(producer);
+        double wireBytes = after.get("outgoing-byte-total") - before.get("outgoing-byte-total");
+        double bufferWaitNanos = after.get("bufferpool-wait-time-ns-total") - before.get("bufferpool-wait-time-ns-total");
+
+        BlastResult result = new BlastResult(name, acked.get(), failed.get(), seconds,
+            acked.get() / seconds,
+            uncompressedBytes.get() / MB / seconds,
+            wireBytes / MB / seconds,
+            producerMetric(producer, "compression-rate-avg"),
+            producerMetric(producer, "batch-size-avg"),
+            producerMetric(producer, "request-latency-avg"),
+            bufferWaitNanos / 1e6);
+        log.info("  {} - {} msgs in {}s ({} msg/sec)", name, result.acked(), String.format("%.1f", seconds),
+            Math.round(result.messagesPerSecond()));
+        return result;
+    }
+
+    /**
+     * Log a side-by-side report of all runs.
+     */
+    public static void logReport(List<BlastResult> results) {
+        log.info("====================================================================");
+        log.info("Blast results");
+        log.info("====================================================================");
+        log.info(String.format("%-16s %12s %10s %10s %10s %8s %11s %11s %13s %8s",
+            "producer", "msgs", "msg/sec", "MB/s raw", "MB/s wire", "ratio", "batch avg", "latency ms", "buf wait ms", "failed"));
+        for (BlastResult r : results) {
+            log.info(String.format("%-16s %12d %10.0f %10.2f %10.2f %8.2f %11.0f %11.2f %13.1f %8d",
+                r.producer(), r.acked(), r.messagesPerSecond(), r.uncompressedMbPerSecond(), r.wireMbPerSecond(),
+                r.compressionRate(), r.batchSizeAvg(), r.requestLatencyAvgMs(), r.bufferPoolWaitMs(), r.failed()));
+        }
+        log.info("====================================================================");
+    }
+
+    private String limitDescription() {
+        if (messageCount > 0 && durationSeconds > 0) {
+            return messageCount + " messages or " + durationSeconds + "s";
+        }
+        return messageCount > 0 ? messageCount + " messages" : durationSeconds + "s";
+    }
+
+    private static Map<String, Double> producerTotals(Producer<?, ?> producer) {
+        Map<String, Double> totals = new HashMap<>();
+        totals.put("outgoing-byte-total", producerMetric(producer, "outgoing-byte-total"));
+        totals.put("bufferpool-wait-time-ns-total", producerMetric(producer, "bufferpool-wait-time-ns-total"));
+        return totals;
+    }
+
+    /**
+     * Read a producer-level metric, or 0 if it is missing or not numeric (e.g. NaN before any sample).
+     */
+    static double producerMetric(Producer<?, ?> producer, String metricName) {
+        for (Map.Entry<MetricName, ? extends Metric> entry : producer.metrics().entrySet()) {
+            MetricName name = entry.getKey();
+            if (name.name().equals(metricName) && name.group().equals(PRODUCER_METRICS)) {
+                Object value = entry.getValue().metricValue();
+                if (value instanceof Number number && Double.isFinite(number.doubleValue())) {
+                    return number.doubleValue();
+                }
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Outcome of one blast run. Raw throughput is serialized key and value bytes; wire throughput
+     * is the producer's outgoing bytes after compression, including request overhead.
+     */
+    public record BlastResult(String producer, long acked, long failed, double seconds,
+                              double messagesPerSecond, double uncompressedMbPerSecond, double wireMbPerSecond,
+                              double compressionRate, double batchSizeAvg, double requestLatencyAvgMs,
+                              double bufferPoolWaitMs) {}
+}
@@ -0,0 +1,262 @@
+package com.certak.kafka.seedkit.producers;
+
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Fills topics up to a target message count or byte size as fast as the pipeline allows.
+ *
+ * Each topic gets one or more generator threads feeding ring buffers, and a sender thread that
+ * takes from them round-robin and assigns partitions round-robin, so data is spread evenly
+ * regardless of keys. Failures are counted in send callbacks rather than logged per record, and
+ * progress with an ETA is logged periodically. Bytes are counted from acknowledged records, so a
+ * byte target can be overshot by what is still buffered in the producer when it is reached.
+ */
+public class BulkSeeder {
+    private static final Logger log = LoggerFactory.getLogger(BulkSeeder.class);
+
+    private final DeliveryStats deliveryStats;
+    private final int bufferSize;
+    private final int progressIntervalSeconds;
+    private final List<BulkTask<?>> tasks = new ArrayList<>();
+
+    public BulkSeeder(DeliveryStats deliveryStats, int bufferSize, int progressIntervalSeconds) {
+        this.deliveryStats = deliveryStats;
+        this.bufferSize = bufferSize;
+        this.progressIntervalSeconds = progressIntervalSeconds;
+    }
+
+    /**
+     * Register a topic to fill. Each generator runs on its own thread; records are taken from them in turn.
+     */
+    public <V> void add(Target target, Producer<String, V> producer, List<Supplier<ProducerRecord<String, V>>> generators) {
+        tasks.add(new BulkTask<>(target, producer, generators));
+    }
+
+    /**
+     * Fill all registered topics concurrently and log a summary when every target is reached.
+     */
+    public List<Result> run() {
+        List<BulkTask<?>> pending = List.copyOf(tasks);
+        tasks.clear();
+        pending.forEach(task -> log.info("Bulk seeding {} - {}", task.target.topic(), task.target.describe()));
+
+        ScheduledExecutorService reporter = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "bulk-progress");
+            t.setDaemon(true);
+            return t;
+        });
+        reporter.scheduleAtFixedRate(() -> pending.forEach(BulkTask::logProgress),
+            progressIntervalSeconds, progressIntervalSeconds, TimeUnit.SECONDS);
+
+        List<Thread> senders = new ArrayList<>();
+        for (BulkTask<?> task : pending) {
+            senders.add(Thread.ofPlatform().name("bulk-" + task.target.topic()).start(task::run));
+        }
+        // Once interrupted, stop every task and keep waiting without the flag set, so the
+        // senders finish their final sends before the results are read
+        boolean interrupted = false;
+        for (int i = 0; i < senders.size(); ) {
+            try {
+                senders.get(i).join();
+                i++;
+            } catch (InterruptedException e) {
+                if (!interrupted) {
+                    log.warn("Bulk seeding interrupted");
+                    pending.forEach(BulkTask::stop);
+                    interrupted = true;
+                }
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        reporter.shutdownNow();
+
+        List<Result> results = pending.stream().map(BulkTask::toResult).toList();
+        log.info("====================================================================");
+        log.info("Bulk seeding results");
+        log.info("====================================================================");
+        for (Result r : results) {
+            log.info(String.format("%-32s %14d msgs %10s %10.0f msg/sec %8.1f MB/s %8d failed  (%.1fs)",
+                r.topic(), r.messages(), formatBytes(r.bytes()), r.messages() / r.seconds(),
+                r.bytes() / (1024.0 * 1024.0) / r.seconds(), r.failed(), r.seconds()));
+        }
+        log.info("====================================================================");
+        return results;
+    }
+
+    static String formatBytes(double bytes) {
+        String[] units = {"B", "KB", "MB", "GB", "TB"};
+        int unit = 0;
+        while (bytes >= 1024 && unit < units.length - 1) {
+            bytes /= 1024;
+            unit++;
+        }
+        return String.format(unit == 0 ? "%.0f %s" : "%.1f %s", bytes, units[unit]);
+    }
+
+    private static String formatDuration(long seconds) {
+        if (seconds >= 3600) {
+            return String.format("%dh%02dm", seconds / 3600, seconds % 3600 / 60);
+        }
+        return seconds >= 60 ? String.format("%dm%02ds", seconds / 60, seconds % 60) : seconds + "s";
+    }
+
+    private class BulkTask<V> {
+        private final Target target;
+        private final Producer<String, V> producer;
+        private final List<Supplier<ProducerRecord<String, V>>> generators;
+        private final List<PregeneratedSource<ProducerRecord<String, V>>> sources = new CopyOnWriteArrayList<>();
+        private final AtomicLong acked = new AtomicLong();
+        private final AtomicLong failed = new AtomicLong();
+        private final AtomicLong bytes = new AtomicLong();
+        private volatile long sent;
+        private volatile long startNanos;
+        private volatile long endNanos;
+        private volatile boolean stopped;
+
+        BulkTask(Target target, Producer<String, V> producer, List<Supplier<ProducerRecord<String, V>>> generators) {
+            this.target = target;
+            this.producer = producer;
+            this.generators = generators;
+        }
+
+        void run() {
+            String topic = target.topic();
+            startNanos = System.nanoTime();
+            try {
+                int partitions = producer.partitionsFor(topic).size();
+                for (int i = 0; i < generators.size(); i++) {
+                    sources.add(new PregeneratedSource<>(topic + "#" + i, generators.get(i), bufferSize));
+                }
+
+                long sequence = 0;
+                while (!stopped && !reached(sequence)) {
+                    ProducerRecord<String, V> generated = sources.get((int) (sequence % sources.size())).take();
+                    if (generated == null) {
+                        break;
+                    }
+                    ProducerRecord<String, V> record = new ProducerRecord<>(topic, (int) (sequence % partitions),
+                        generated.key(), generated.value(), generated.headers());
+                    deliveryStats.send(producer, record, (metadata, exception) -> {
+                        if (exception == null) {
+                            acked.incrementAndGet();
+                            bytes.addAndGet(Math.max(0, metadata.serializedKeySize()) + Math.max(0, metadata.serializedValueSize()));
+                        } else if (failed.incrementAndGet() == 1) {
+                            log.warn("Bulk send to {} failed: {}", topic, exception.getMessage());
+                        }
+                    });
+                    sent = ++sequence;
+                }
+                producer.flush();
+            } catch (Exception e) {
+                log.error("Bulk seeding {} failed: {}", topic, e.getMessage());
+            } finally {
+                sources.forEach(PregeneratedSource::stop);
+                endNanos = System.nanoTime();
+            }
+        }
+
+        // Messages count what was sent, bytes what was acknowledged
+        private boolean reached(long sequence) {
+            if (target.messages() > 0 && sequence >= target.messages()) {
+                return true;
+            }
+            return target.bytes() > 0 && bytes.get() >= target.bytes();
+        }
+
+        void stop() {
+            stopped = true;
+            sources.forEach(PregeneratedSource::stop);
+        }
+
+        void logProgress() {
+            if (startNanos == 0 || endNanos != 0) {
+                return;
+            }
+            double seconds = (System.nanoTime() - startNanos) / 1e9;
+            double fraction = Math.max(
+                target.messages() > 0 ? (double) acked.get() / target.messages() : 0,
+                target.bytes() > 0 ? (double) bytes.get() / target.bytes() : 0);
+            String eta = fraction > 0 ? formatDuration((long) (seconds * (1 - fraction) / fraction)) : "?";
+            long generatorStallMs = sources.stream().mapToLong(s -> s.stats().generatorStallMs()).sum();
+            long senderStallMs = sources.stream().mapToLong(s -> s.stats().sendStallMs()).sum();
+            log.info("  {} - {}% ({} msgs, {}) at {} msg/sec, {}/s - ETA {} (stalls: generators {}ms, sender {}ms, {} failed)",
+                target.topic(), String.format("%.1f", Math.min(fraction, 1) * 100), sent, formatBytes(bytes.get()),
+                Math.round(acked.get() / seconds), formatBytes(bytes.get() / seconds), eta,
+                generatorStallMs, senderStallMs, failed.get());
+        }
+
+        Result toResult() {
+            double seconds = Math.max((endNanos - startNanos) / 1e9, 1e-3);
+            return new Result(target.topic(), acked.get(), bytes.get(), failed.get(), seconds);
+        }
+    }
+
+    /**
+     * How much to write to a topic: a message count, a byte size, or both (whichever is reached first).
+     */
+    public record Target(String topic, long messages, long bytes) {
+
+        public Target {
+            if (messages <= 0 && bytes <= 0) {
+                throw new IllegalArgumentException("Bulk target for " + topic + " needs messages or bytes");
+            }
+        }
+
+        public static List<Target> fromConfig(List<Map<String, Object>> configs) {
+            List<Target> targets = new ArrayList<>();
+            for (Map<String, Object> config : configs) {
+                Object messages = config.get("messages");
+                targets.add(new Target((String) config.get("topic"),
+                    messages != null ? ((Number) messages).longValue() : 0,
+                    parseBytes(config.get("bytes"))));
+            }
+            return targets;
+        }
+
+        /**
+         * Parse a size such as 1048576, "512MB" or "50 GB" (binary units).
+         */
+        static long parseBytes(Object value) {
+            if (value == null) {
+                return 0;
+            }
+            if (value instanceof Number number) {
+                return number.longValue();
+            }
+            String text = value.toString().trim().toUpperCase(Locale.ROOT).replace(" ", "");
+            long multiplier = 1;
+            String[] units = {"TB", "GB", "MB", "KB", "B"};
+            long[] multipliers = {1L << 40, 1L << 30, 1L << 20, 1L << 10, 1};
+            for (int i = 0; i < units.length; i++) {
+                if (text.endsWith(units[i])) {
+                    multiplier = multipliers[i];
+                    text = text.substring(0, text.length() - units[i].length());
+                    break;
+                }
+            }
+            return (long) (Double.parseDouble(text) * multiplier);
+        }
+
+        String describe() {
+            if (messages > 0 && bytes > 0) {
+                return messages + " messages or " + formatBytes(bytes);
+            }
+            return messages > 0 ? messages + " messages" : formatBytes(bytes);
+        }
+    }
+
+    /**
+     * Outcome of filling one topic. Bytes are serialized key and value bytes of acknowledged records.
+     */
+    public record Result(String topic, long messages, long bytes, long failed, double seconds) {}
+}
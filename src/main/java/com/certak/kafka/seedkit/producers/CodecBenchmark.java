@@ -0,0 +1,218 @@
+package com.certak.kafka.seedkit.producers;
+
+import com.certak.kafka.seedkit.config.SeedKitConfig;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.AdminClientConfig;
+import org.apache.kafka.clients.admin.LogDirDescription;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.TopicPartitionInfo;
+import org.apache.kafka.common.record.CompressionType;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Compression benchmark sending the same per-topic payload set through every configured codec.
+ *
+ * Each topic and codec pair gets a fresh byte-array producer with identical batching settings.
+ * The payloads are sent from one thread and then flushed. Producer CPU time is the CPU used by the
+ * sending thread, where records are compressed into batches, plus the producer's network thread.
+ * Broker bytes are the growth of the partition leaders' logs, read with describeLogDirs, so topics
+ * should keep the default compression.type=producer for the numbers to reflect the codec under test.
+ */
+public class CodecBenchmark {
+    private static final Logger log = LoggerFactory.getLogger(CodecBenchmark.class);
+    private static final double MB = 1024.0 * 1024.0;
+
+    private final SeedKitConfig config;
+    private final List<Codec> codecs;
+    private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+
+    public CodecBenchmark(SeedKitConfig config) {
+        this.config = config;
+        this.codecs = config.getCodecBenchCodecs().stream().map(Codec::parse).toList();
+    }
+
+    /**
+     * Send each topic's payloads once per codec and log a report.
+     */
+    public List<CodecResult> run(Map<String, List<ProducerRecord<byte[], byte[]>>> payloads) {
+        log.info("Comparing codecs {} on topics {}", codecs, payloads.keySet());
+        Properties props = new Properties();
+        props.put(AdminClientConfig.BOOTSTRAP_SERVERS_CONFIG, config.getBootstrapServers());
+        props.put(AdminClientConfig.CLIENT_ID_CONFIG, "seedkit-codec-bench-admin");
+
+        List<CodecResult> results = new ArrayList<>();
+        try (Admin admin = Admin.create(props)) {
+            payloads.forEach((topic, records) -> {
+                for (Codec codec : codecs) {
+                    results.add(run(admin, topic, records, codec));
+                }
+            });
+        }
+        logReport(results);
+        return results;
+    }
+
+    private CodecResult run(Admin admin, String topic, List<ProducerRecord<byte[], byte[]>> records, Codec codec) {
+        String clientId = "seedkit-codec-bench-" + codec.type() + (codec.level() != null ? "-" + codec.level() : "");
+        AtomicLong acked = new AtomicLong();
+        AtomicLong failed = new AtomicLong();
+        AtomicLong rawBytes = new AtomicLong();
+        long brokerBefore = leaderLogBytes(admin, topic);
+
+        long cpuNanos;
+        double seconds;
+        double wireBytes;
+        try (KafkaProducer<byte[], byte[]> producer = createProducer(clientId, codec)) {
+            Thread networkThread = findThread("kafka-producer-network-thread | " + clientId);
+            long cpuBefore = cpuTime(Thread.currentThread()) + cpuTime(networkThread);
+            long startNanos = System.nanoTime();
+            for (ProducerRecord<byte[], byte[]> record : records) {
+                try {
+                    producer.send(record, (metadata, exception) -> {
+                        if (exception == null) {
+                            acked.incrementAndGet();
+                            rawBytes.addAndGet(Math.max(0, metadata.serializedKeySize()) + Math.max(0, metadata.serializedValueSize()));
+                        } else if (failed.incrementAndGet() == 1) {
+                            log.warn("Codec benchmark send to {} with {} failed: {}", topic, codec, exception.getMessage());
+                        }
+                    });
+                } catch (Exception e) {
+                    if (failed.incrementAndGet() == 1) {
+                        log.warn("Codec benchmark send to {} with {} failed: {}", topic, codec, e.getMessage());
+                    }
+                }
+            }
+            producer.flush();
+            seconds = Math.max((System.nanoTime() - startNanos) / 1e9, 1e-3);
+            // Read before close, which ends the network thread
+            cpuNanos = cpuTime(Thread.currentThread()) + cpuTime(networkThread) - cpuBefore;
+            wireBytes = BlastBenchmark.producerMetric(producer, "outgoing-byte-total");
+        }
+
+        long brokerAfter = leaderLogBytes(admin, topic);
+        long brokerBytes = brokerBefore >= 0 && brokerAfter >= 0 ? brokerAfter - brokerBefore : -1;
+        CodecResult result = new CodecResult(topic, codec.toString(), acked.get(), failed.get(), seconds,
+            rawBytes.get(), (long) wireBytes, brokerBytes, cpuNanos / 1_000_000.0);
+        log.info("  {} {} - {} msgs in {}s, {} ms CPU", topic, codec, result.acked(),
+            String.format("%.1f", seconds), Math.round(result.cpuMillis()));
+        return result;
+    }
+
+    private KafkaProducer<byte[], byte[]> createProducer(String clientId, Codec codec) {
+        Properties props = new Properties();
+        props.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, config.getBootstrapServers());
+        props.put(ProducerConfig.CLIENT_ID_CONFIG, clientId);
+        props.put(ProducerConfig.ACKS_CONFIG, "all");
+        props.put(ProducerConfig.RETRIES_CONFIG, 3);
+        props.put(ProducerConfig.MAX_REQUEST_SIZE_CONFIG, 2097152); // 2MB for large messages
+        props.put(ProducerConfig.BATCH_SIZE_CONFIG, config.getCodecBenchBatchSize());
+        props.put(ProducerConfig.LINGER_MS_CONFIG, config.getCodecBenchLingerMs());
+        props.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, codec.type());
+        if (codec.level() != null) {
+            props.put("compression." + codec.type() + ".level", codec.level());
+        }
+        return new KafkaProducer<>(props, new ByteArraySerializer(), new ByteArraySerializer());
+    }
+
+    /**
+     * Total log size of the topic's partitions on their leaders, or -1 if it cannot be read.
+     */
+    private long leaderLogBytes(Admin admin, String topic) {
+        try {
+            TopicDescription description = admin.describeTopics(List.of(topic)).allTopicNames().get().get(topic);
+            Map<TopicPartition, Integer> leaders = new HashMap<>();
+            for (TopicPartitionInfo partition : description.partitions()) {
+                if (partition.leader() != null) {
+                    leaders.put(new TopicPartition(topic, partition.partition()), partition.leader().id());
+                }
+            }
+            Map<Integer, Map<String, LogDirDescription>> logDirs =
+                admin.describeLogDirs(new HashSet<>(leaders.values())).allDescriptions().get();
+            long total = 0;
+            for (Map.Entry<Integer, Map<String, LogDirDescription>> broker : logDirs.entrySet()) {
+                for (LogDirDescription logDir : broker.getValue().values()) {
+                    for (var replica : logDir.replicaInfos().entrySet()) {
+                        if (broker.getKey().equals(leaders.get(replica.getKey()))) {
+                            total += replica.getValue().size();
+                        }
+                    }
+                }
+            }
+            return total;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return -1;
+        } catch (Exception e) {
+            log.warn("Cannot read log sizes for {}: {}", topic, e.getMessage());
+            return -1;
+        }
+    }
+
+    private static Thread findThread(String name) {
+        return Thread.getAllStackTraces().keySet().stream()
+            .filter(thread -> thread.getName().equals(name))
+            .findFirst()
+            .orElse(null);
+    }
+
+    private long cpuTime(Thread thread) {
+        if (thread == null || !threads.isThreadCpuTimeSupported()) {
+            return 0;
+        }
+        return Math.max(0, threads.getThreadCpuTime(thread.threadId()));
+    }
+
+    /**
+     * Log a table with one row per topic and codec.
+     */
+    public static void logReport(List<CodecResult> results) {
+        log.info("====================================================================");
+        log.info("Codec benchmark results");
+        log.info("====================================================================");
+        log.info(String.format("%-32s %-8s %10s %10s %10s %10s %10s %10s %8s %10s %11s %8s",
+            "topic", "codec", "msgs", "msg/sec", "MB/s raw", "raw MB", "wire MB", "broker MB", "ratio", "cpu ms", "MB/cpu-sec", "failed"));
+        for (CodecResult r : results) {
+            log.info(String.format("%-32s %-8s %10d %10.0f %10.2f %10.1f %10.1f %10s %8s %10.0f %11.1f %8d",
+                r.topic(), r.codec(), r.acked(), r.acked() / r.seconds(), r.rawBytes() / MB / r.seconds(),
+                r.rawBytes() / MB, r.wireBytes() / MB, r.brokerBytes() >= 0 ? String.format("%.1f", r.brokerBytes() / MB) : "n/a",
+                r.brokerBytes() >= 0 && r.rawBytes() > 0 ? String.format("%.3f", (double) r.brokerBytes() / r.rawBytes()) : "n/a",
+                r.cpuMillis(), r.cpuMillis() > 0 ? r.rawBytes() / MB / (r.cpuMillis() / 1000) : 0, r.failed()));
+        }
+        log.info("====================================================================");
+    }
+
+    /**
+     * A compression type with an optional level, written as "zstd" or "zstd:3".
+     */
+    public record Codec(String type, Integer level) {
+
+        public static Codec parse(String spec) {
+            String[] parts = spec.trim().toLowerCase(Locale.ROOT).split(":");
+            CompressionType type = CompressionType.forName(parts[0]);
+            return new Codec(type.name, parts.length > 1 ? Integer.valueOf(parts[1]) : null);
+        }
+
+        @Override
+        public String toString() {
+            return level != null ? type + ":" + level : type;
+        }
+    }
+
+    /**
+     * Outcome of one topic and codec run. Raw bytes are serialized key and value bytes of acknowledged
+     * records, wire bytes what the producer sent, broker bytes the growth of the leaders' logs (-1 if unknown).
+     */
+    public record CodecResult(String topic, String codec, long acked, long failed, double seconds,
+                              long rawBytes, long wireBytes, long brokerBytes, double cpuMillis) {}
+}
@@ -0,0 +1,148 @@
+package com.certak.kafka.seedkit.producers;
+
+import com.certak.kafka.seedkit.metrics.LatencyHeaders;
+import com.certak.kafka.seedkit.metrics.LatencyHistogram;
+import org.apache.kafka.clients.producer.Callback;
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-topic delivery accounting driven by producer callbacks.
+ *
+ * A record counts as attempted when it is handed to the producer and as acked or failed only
+ * once the broker (or the producer, on timeout) completes it. Acked bytes are the serialized key
+ * and value sizes, and ack latency is measured from send to callback in microseconds.
+ * Optionally stamps each record with {@link LatencyHeaders} (produce time and the per-topic
+ * attempt sequence) so consumers can measure end-to-end latency.
+ */
+public class DeliveryStats {
+    private static final Logger log = LoggerFactory.getLogger(DeliveryStats.class);
+
+    private final Map<String, TopicCounters> topics = new ConcurrentHashMap<>();
+    private final boolean stampLatencyHeaders;
+
+    public DeliveryStats(boolean stampLatencyHeaders) {
+        this.stampLatencyHeaders = stampLatencyHeaders;
+    }
+
+    /**
+     * Send a record with delivery tracking. Exceptions thrown by {@code send} count as failures
+     * and are rethrown.
+     */
+    public <K, V> void send(Producer<K, V> producer, ProducerRecord<K, V> record) {
+        send(producer, record, null);
+    }
+
+    /**
+     * Send a record with delivery tracking, then invoke {@code next} on completion.
+     */
+    public <K, V> void send(Producer<K, V> producer, ProducerRecord<K, V> record, Callback next) {
+        TopicCounters counters = counters(record.topic());
+        long sequence = counters.attempted.incrementAndGet();
+        if (stampLatencyHeaders) {
+            LatencyHeaders.stamp(record.headers(), sequence);
+        }
+        Callback callback = completion(counters, next);
+        try {
+            producer.send(record, callback);
+        } catch (RuntimeException e) {
+            callback.onCompletion(null, e);
+            throw e;
+        }
+    }
+
+    /**
+     * Count an attempted send and return the callback that completes its accounting.
+     */
+    public Callback track(String topic, Callback next) {
+        TopicCounters counters = counters(topic);
+        counters.attempted.incrementAndGet();
+        return completion(counters, next);
+    }
+
+    private TopicCounters counters(String topic) {
+        return topics.computeIfAbsent(topic, t -> new TopicCounters());
+    }
+
+    private static Callback completion(TopicCounters counters, Callback next) {
+        long startNanos = System.nanoTime();
+        return (metadata, exception) -> {
+            if (exception == null) {
+                counters.acked.increment();
+                counters.bytes.add(Math.max(0, metadata.serializedKeySize()) + Math.max(0, metadata.serializedValueSize()));
+                counters.ackLatency.record((System.nanoTime() - startNanos) / 1_000);
+            } else {
+                counters.failed.increment();
+                counters.lastError = exception.getMessage();
+            }
+            if (next != null) {
+                next.onCompletion(metadata, exception);
+            }
+        };
+    }
+
+    /**
+     * Delivery statistics per topic, sorted by topic name.
+     */
+    public Map<String, TopicStats> getStats() {
+        Map<String, TopicStats> stats = new TreeMap<>();
+        topics.forEach((topic, counters) -> stats.put(topic, counters.toStats()));
+        return stats;
+    }
+
+    public long getTotalAttempted() {
+        return topics.values().stream().mapToLong(c -> c.attempted.get()).sum();
+    }
+
+    public long getTotalAcked() {
+        return topics.values().stream().mapToLong(c -> c.acked.sum()).sum();
+    }
+
+    public long getTotalFailed() {
+        return topics.values().stream().mapToLong(c -> c.failed.sum()).sum();
+    }
+
+    public void logSummary() {
+        log.info("Producer delivery stats (attempted / acked / failed, MB acked, ack latency p50/p99/max ms):");
+        getStats().forEach((topic, s) -> log.info("  {} - {} / {} / {}, {} MB, {}/{}/{} ms{}",
+            topic, s.attempted(), s.acked(), s.failed(), String.format("%.2f", s.bytes() / (1024.0 * 1024.0)),
+            millis(s.ackLatencyMicros().p50()), millis(s.ackLatencyMicros().p99()), millis(s.ackLatencyMicros().max()),
+            s.lastError() != null ? " (last error: " + s.lastError() + ")" : ""));
+    }
+
+    private static String millis(long micros) {
+        return String.format("%.1f", micros / 1000.0);
+    }
+
+    /**
+     * Delivery counters for one topic. Ack latency is in microseconds.
+     */
+    public record TopicStats(long attempted, long acked, long failed, long bytes,
+                             LatencyHistogram.Snapshot ackLatencyMicros, String lastError) {
+        /** Records handed to the producer that have not completed yet. */
+        public long pending() {
+            return attempted - acked - failed;
+        }
+    }
+
+    private static class TopicCounters {
+        private final AtomicLong attempted = new AtomicLong();
+        private final LongAdder acked = new LongAdder();
+        private final LongAdder failed = new LongAdder();
+        private final LongAdder bytes = new LongAdder();
+        private final LatencyHistogram ackLatency = new LatencyHistogram();
+        private volatile String lastError;
+
+        TopicStats toStats() {
+            return new TopicStats(attempted.get(), acked.sum(), failed.sum(), bytes.sum(), ackLatency.snapshot(), lastError);
+        }
+    }
+}
@@ -0,0 +1,230 @@
+package com.certak.kafka.seedkit.producers;
+
+import java.time.LocalTime;
+import java.util.*;
+
+/**
+ * Declarative traffic shape for continuous producers.
+ *
+ * A profile is a timeline of segments (constant, ramp, step, spike, sine, diurnal) applied to a
+ * set of topics. Each segment yields a multiplier of the topic's base rate as a function of the
+ * time since production started. After the last segment the timeline either repeats or holds its
+ * final value; a final segment without a duration runs indefinitely.
+ *
+ * Topics are matched by exact name or by a prefix ending in {@code *}.
+ */
+public class LoadProfile {
+    private final String name;
+    private final List<String> topics;
+    private final List<Segment> timeline;
+    private final boolean repeat;
+    private final double totalSeconds;
+
+    public LoadProfile(String name, List<String> topics, List<Segment> timeline, boolean repeat) {
+        if (timeline.isEmpty()) {
+            throw new IllegalArgumentException("Load profile " + name + " has an empty timeline");
+        }
+        this.name = name;
+        this.topics = List.copyOf(topics);
+        this.timeline = List.copyOf(timeline);
+        this.repeat = repeat;
+        this.totalSeconds = timeline.stream().mapToDouble(Segment::durationSeconds).sum();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public boolean matches(String topic) {
+        for (String pattern : topics) {
+            if (pattern.endsWith("*") ? topic.startsWith(pattern.substring(0, pattern.length() - 1)) : topic.equals(pattern)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Rate multiplier at the given time since production started.
+     */
+    public double multiplierAt(double elapsedSeconds) {
+        double t = repeat && Double.isFinite(totalSeconds) ? elapsedSeconds % totalSeconds : elapsedSeconds;
+        for (Segment segment : timeline) {
+            if (t < segment.durationSeconds()) {
+                return Math.max(0, segment.shape().valueAt(t, segment.durationSeconds()));
+            }
+            t -= segment.durationSeconds();
+        }
+        Segment last = timeline.get(timeline.size() - 1);
+        return Math.max(0, last.shape().valueAt(last.durationSeconds(), last.durationSeconds()));
+    }
+
+    /**
+     * Highest multiplier anywhere on the timeline, used to size scheduler ticks.
+     */
+    public double peakMultiplier() {
+        return timeline.stream().mapToDouble(segment -> segment.shape().peak()).max().orElse(1);
+    }
+
+    @Override
+    public String toString() {
+        return name + " " + timeline + (repeat ? " (repeating)" : "");
+    }
+
+    // ============================================================
+    // CONFIGURATION
+    // ============================================================
+
+    /**
+     * Build profiles from the {@code seeding.continuous-producer.load-profiles} list.
+     */
+    public static List<LoadProfile> fromConfig(List<Map<String, Object>> configs) {
+        List<LoadProfile> profiles = new ArrayList<>();
+        for (Map<String, Object> config : configs) {
+            profiles.add(fromConfig(config));
+        }
+        return profiles;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static LoadProfile fromConfig(Map<String, Object> config) {
+        String name = (String) config.getOrDefault("name", "unnamed");
+        Object topics = config.get("topics");
+        List<String> topicList = topics instanceof List ? (List<String>) topics : List.of(String.valueOf(topics));
+        List<Segment> timeline = new ArrayList<>();
+        List<Map<String, Object>> segments = (List<Map<String, Object>>) config.getOrDefault("timeline", List.of());
+        for (int i = 0; i < segments.size(); i++) {
+            boolean last = i == segments.size() - 1;
+            try {
+                timeline.add(parseSegment(segments.get(i), last));
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("Invalid segment " + (i + 1) + " in load profile " + name + ": " + e.getMessage(), e);
+            }
+        }
+        return new LoadProfile(name, topicList, timeline, (boolean) config.getOrDefault("repeat", false));
+    }
+
+    private static Segment parseSegment(Map<String, Object> config, boolean last) {
+        String shapeName = String.valueOf(config.get("shape")).toLowerCase();
+        Shape shape = switch (shapeName) {
+            case "constant" -> new Constant(number(config, "level", 1));
+            case "ramp" -> new Ramp(number(config, "from", 0), number(config, "to", 1));
+            case "step" -> new Step(number(config, "from", 0), number(config, "to", 1), (int) number(config, "steps", 2));
+            case "spike" -> new Spike(number(config, "level", 1), number(config, "peak", 10),
+                number(config, "every-seconds", 60), number(config, "spike-seconds", 5));
+            case "sine" -> new Sine(number(config, "level", 1), number(config, "amplitude", 0.5),
+                number(config, "period-seconds", 600));
+            case "diurnal" -> new Diurnal(number(config, "min", 0.2), number(config, "max", 1),
+                number(config, "peak-hour", 14), number(config, "day-length-seconds", 86400),
+                number(config, "start-hour", LocalTime.now().toSecondOfDay() / 3600.0));
+            default -> throw new IllegalArgumentException("unknown shape '" + shapeName + "'");
+        };
+
+        double duration = number(config, "duration-seconds", Double.POSITIVE_INFINITY);
+        if (!(duration > 0)) {
+            throw new IllegalArgumentException("duration-seconds must be positive");
+        }
+        if (Double.isInfinite(duration) && (!last || shape instanceof Ramp || shape instanceof Step)) {
+            throw new IllegalArgumentException("duration-seconds is required for " + shapeName + " segments");
+        }
+        return new Segment(duration, shape);
+    }
+
+    private static double number(Map<String, Object> config, String key, double defaultValue) {
+        Object value = config.get(key);
+        return value != null ? ((Number) value).doubleValue() : defaultValue;
+    }
+
+    // ============================================================
+    // SHAPES
+    // ============================================================
+
+    public record Segment(double durationSeconds, Shape shape) {}
+
+    /**
+     * Rate multiplier over a segment, where {@code t} is the time since the segment started.
+     */
+    public sealed interface Shape permits Constant, Ramp, Step, Spike, Sine, Diurnal {
+        double valueAt(double t, double durationSeconds);
+
+        double peak();
+    }
+
+    public record Constant(double level) implements Shape {
+        public double valueAt(double t, double durationSeconds) {
+            return level;
+        }
+
+        public double peak() {
+            return level;
+        }
+    }
+
+    /**
+     * Linear ramp from {@code from} to {@code to} over the segment.
+     */
+    public record Ramp(double from, double to) implements Shape {
+        public double valueAt(double t, double durationSeconds) {
+            return from + (to - from) * Math.min(1, t / durationSeconds);
+        }
+
+        public double peak() {
+            return Math.max(from, to);
+        }
+    }
+
+    /**
+     * {@code steps} equal-length levels from {@code from} to {@code to}.
+     */
+    public record Step(double from, double to, int steps) implements Shape {
+        public double valueAt(double t, double durationSeconds) {
+            if (steps <= 1) {
+                return from;
+            }
+            int index = (int) Math.min(steps - 1, Math.floor(t / durationSeconds * steps));
+            return from + (to - from) * index / (steps - 1);
+        }
+
+        public double peak() {
+            return Math.max(from, to);
+        }
+    }
+
+    /**
+     * Bursts to {@code peak} for {@code spikeSeconds} at the start of every {@code everySeconds} window.
+     */
+    public record Spike(double level, double peak, double everySeconds, double spikeSeconds) implements Shape {
+        public double valueAt(double t, double durationSeconds) {
+            return t % everySeconds < spikeSeconds ? peak : level;
+        }
+
+        public double peak() {
+            return Math.max(level, peak);
+        }
+    }
+
+    public record Sine(double level, double amplitude, double periodSeconds) implements Shape {
+        public double valueAt(double t, double durationSeconds) {
+            return level + amplitude * Math.sin(2 * Math.PI * t / periodSeconds);
+        }
+
+        public double peak() {
+            return level + Math.abs(amplitude);
+        }
+    }
+
+    /**
+     * 24h curve between {@code min} and {@code max} peaking at {@code peakHour}. The day can be
+     * compressed with {@code dayLengthSeconds}; {@code startHour} is the time of day at the start.
+     */
+    public record Diurnal(double min, double max, double peakHour, double dayLengthSeconds, double startHour) implements Shape {
+        public double valueAt(double t, double durationSeconds) {
+            double hour = (startHour + t * 24 / dayLengthSeconds) % 24;
+            return min + (max - min) * (1 + Math.cos(2 * Math.PI * (hour - peakHour) / 24)) / 2;
+        }
+
+        public double peak() {
+            return Math.max(min, max);
+        }
+    }
+}
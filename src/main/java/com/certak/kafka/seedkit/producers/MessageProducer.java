@@ -1,25 +1,51 @@
 package com.certak.kafka.seedkit.producers;
 
-import io.confluent.kafka.serializers.KafkaAvroSerializer;
-import io.confluent.kafka.serializers.KafkaAvroSerializerConfig;
+import io.confluent.kafka.schemaregistry.client.CachedSchemaRegistryClient;
+import io.confluent.kafka.serializers.AbstractKafkaSchemaSerDeConfig;
+import io.confluent.kafka.serializers.protobuf.KafkaProtobufSerializer;
+import com.certak.kafka.seedkit.config.ClientTuning;
 import com.certak.kafka.seedkit.config.SeedKitConfig;
+import com.certak.kafka.seedkit.corpus.CorpusReplayer;
+import com.certak.kafka.seedkit.corpus.CorpusWriter;
+import com.certak.kafka.seedkit.data.AvroRecordGenerator;
+import com.certak.kafka.seedkit.data.BinarySlab;
 import com.certak.kafka.seedkit.data.DataGenerator;
+import com.certak.kafka.seedkit.data.FakerDictionary;
+import com.certak.kafka.seedkit.data.KeySampler;
+import com.certak.kafka.seedkit.data.PayloadBuffer;
+import com.certak.kafka.seedkit.data.StreamSeeds;
+import com.certak.kafka.seedkit.metrics.PrometheusWriter;
+import com.certak.kafka.seedkit.metrics.SeedKitMetrics;
+import com.certak.kafka.seedkit.proto.CarrierEvent;
+import com.certak.kafka.seedkit.proto.Chargeback;
+import com.certak.kafka.seedkit.proto.FirmwareUpdate;
+import com.certak.kafka.seedkit.proto.TradeExecution;
+import com.certak.kafka.seedkit.proto.TradeOrder;
+import com.certak.kafka.seedkit.schemas.AvroSchemaCache;
+import com.certak.kafka.seedkit.schemas.JsonSchemaPayloads;
+import com.certak.kafka.seedkit.schemas.SchemaManager;
 import com.certak.kafka.seedkit.topics.TopicDefinitions;
+import com.google.protobuf.Message;
 import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericData;
 import org.apache.avro.generic.GenericRecord;
 import org.apache.kafka.clients.producer.*;
 import org.apache.kafka.common.header.internals.RecordHeader;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
 import java.util.*;
 import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Produces messages to Kafka topics - both initial seeding and continuous production.
@@ -41,63 +67,338 @@ public class MessageProducer {
     private final KafkaProducer<String, String> stringProducerSnappy;
     private final KafkaProducer<String, String> stringProducerGzip;
     private final KafkaProducer<String, String> stringProducerNone;
+    // Large payloads are generated straight to UTF-8 bytes and sent without a String copy
+    private final KafkaProducer<String, byte[]> bytesProducerSnappy;
+    private final KafkaProducer<String, byte[]> bytesProducerGzip;
+    // Binary topics carry raw bytes, keys included
+    private final KafkaProducer<byte[], byte[]> binaryProducerLz4;
+    private final BinarySlab binarySlab;
     private final KafkaProducer<String, GenericRecord> avroProducerLz4;
     private final KafkaProducer<String, GenericRecord> avroProducerSnappy;
     private final KafkaProducer<String, GenericRecord> avroProducerNone;
+    private final SeedKitAvroSerializer avroSerializer;
+    // Compiled generators for registered Avro topics without a hand-written generator
+    private final Map<String, AvroRecordGenerator> schemaDriven = new LinkedHashMap<>();
+    private final KafkaProducer<String, Message> protobufProducerLz4;
+    private final KafkaProducer<String, Message> protobufProducerSnappy;
+    private final KafkaProtobufSerializer<Message> protobufSerializer;
+    private final KafkaProducer<String, Object> jsonSchemaProducerLz4;
+    private final KafkaProducer<String, Object> jsonSchemaProducerSnappy;
+    private final SeedKitJsonSchemaSerializer jsonSchemaSerializer;
     private final AtomicBoolean running = new AtomicBoolean(false);
-    private final AtomicLong messageCount = new AtomicLong(0);
+    private final DeliveryStats deliveryStats;
     private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(8);
-    private final List<ScheduledFuture<?>> scheduledTasks = new ArrayList<>();
-    private final Random random = new Random();
+    private final RateController rateController;
+    private List<LoadProfile> loadProfiles = List.of();
+    private final Map<String, PregeneratedSource<?>> pregenerated = new ConcurrentHashMap<>();
+    private final Map<String, Integer> pregenerateCapacities = new ConcurrentHashMap<>();
+    private final Map<String, DataGenerator> streams = new ConcurrentHashMap<>();
+    private final ThreadLocal<DataGenerator> currentStream = new ThreadLocal<>();
+    private final ThreadLocal<DataGenerator> threadStream;
+    // Per-thread Avro records refilled for each message on paths that serialize before generating again
+    private final ThreadLocal<Map<Schema, GenericData.Record>> reusableRecords = ThreadLocal.withInitial(IdentityHashMap::new);
+    private final ThreadLocal<Boolean> reuseRecords = ThreadLocal.withInitial(() -> false);
+    private final Map<String, KeySampler> keySamplers = new HashMap<>();
+    private final Map<String, String> keyPrefixes = new HashMap<>();
+    private final SeedingEngine seedingEngine;
+    private final ClientTuning tuning;
+    // How to build a family producer's variant for a topic group profile, and the variants built so far
+    private final Map<KafkaProducer<?, ?>, java.util.function.Function<String, KafkaProducer<?, ?>>> variantFactories = new ConcurrentHashMap<>();
+    private final Map<KafkaProducer<?, ?>, Map<String, KafkaProducer<?, ?>>> variants = new ConcurrentHashMap<>();
+    private final List<String> metricsClientIds = new CopyOnWriteArrayList<>();
+    private final SeedKitMetrics.Collector metricsCollector = this::collectMetrics;
     
-    public MessageProducer(SeedKitConfig config) {
+    /**
+     * @param seed seed for all generated data; each topic draws from its own stream derived from it
+     */
+    public MessageProducer(SeedKitConfig config, long seed) {
         this.config = config;
-        this.dataGenerator = new DataGenerator();
+        long dictionaryStart = System.currentTimeMillis();
+        this.dataGenerator = new DataGenerator(seed, config.getDictionarySize());
+        FakerDictionary dictionary = dataGenerator.getDictionary();
+        if (dictionary != null) {
+            log.info("Sampled Faker dictionary of {} values per kind (~{} MB) in {}ms", dictionary.getSize(),
+                dictionary.estimateBytes() / (1024 * 1024), System.currentTimeMillis() - dictionaryStart);
+        }
+        this.threadStream = ThreadLocal.withInitial(() -> dataGenerator.forStream("thread:" + Thread.currentThread().getName()));
+        this.rateController = new RateController(scheduler, seed);
+        this.deliveryStats = new DeliveryStats(config.isLatencyHeadersEnabled());
+        this.seedingEngine = new SeedingEngine(config.getSeedingParallelism(), config.getSeedingMaxInFlightRecords(), deliveryStats);
+        this.tuning = new ClientTuning(config);
+        log.info("Client tuning profiles: {}", tuning.describe());
         
         // Create string producers with different compression types
-        this.stringProducerLz4 = createStringProducer("seedkit-string-producer-lz4", COMPRESSION_LZ4);
-        this.stringProducerSnappy = createStringProducer("seedkit-string-producer-snappy", COMPRESSION_SNAPPY);
-        this.stringProducerGzip = createStringProducer("seedkit-string-producer-gzip", COMPRESSION_GZIP);
-        this.stringProducerNone = createStringProducer("seedkit-string-producer-none", COMPRESSION_NONE);
+        this.stringProducerLz4 = createStringProducer("seedkit-string-producer-lz4", "string-lz4", COMPRESSION_LZ4);
+        this.stringProducerSnappy = createStringProducer("seedkit-string-producer-snappy", "string-snappy", COMPRESSION_SNAPPY);
+        this.stringProducerGzip = createStringProducer("seedkit-string-producer-gzip", "string-gzip", COMPRESSION_GZIP);
+        this.stringProducerNone = createStringProducer("seedkit-string-producer-none", "string-none", COMPRESSION_NONE);
+        this.bytesProducerSnappy = createBytesProducer("seedkit-bytes-producer-snappy", "bytes-snappy", COMPRESSION_SNAPPY);
+        this.bytesProducerGzip = createBytesProducer("seedkit-bytes-producer-gzip", "bytes-gzip", COMPRESSION_GZIP);
+        this.binaryProducerLz4 = createBinaryProducer("seedkit-binary-producer-lz4", "binary-lz4", COMPRESSION_LZ4);
+        this.binarySlab = new BinarySlab(StreamSeeds.derive(seed, "binary-slab"), config.getBinarySlabSize(),
+            config.getBinaryMinSize(), config.getBinaryMaxSize(), config.getBinaryEntropy());
+        log.info("Filled {} MB binary payload slab with entropy {}",
+            binarySlab.capacity() / (1024 * 1024), binarySlab.getEntropy());
+        
+        // Create avro producers with different compression types, sharing one serializer
+        this.avroSerializer = new SeedKitAvroSerializer(
+            new CachedSchemaRegistryClient(config.getSchemaRegistryUrl(), 100), config.isAutoRegisterSchemas());
+        this.avroProducerLz4 = createAvroProducer("seedkit-avro-producer-lz4", "avro-lz4", COMPRESSION_LZ4);
+        this.avroProducerSnappy = createAvroProducer("seedkit-avro-producer-snappy", "avro-snappy", COMPRESSION_SNAPPY);
+        this.avroProducerNone = createAvroProducer("seedkit-avro-producer-none", "avro-none", COMPRESSION_NONE);
         
-        // Create avro producers with different compression types
-        this.avroProducerLz4 = createAvroProducer("seedkit-avro-producer-lz4", COMPRESSION_LZ4);
-        this.avroProducerSnappy = createAvroProducer("seedkit-avro-producer-snappy", COMPRESSION_SNAPPY);
-        this.avroProducerNone = createAvroProducer("seedkit-avro-producer-none", COMPRESSION_NONE);
+        // Create protobuf producers for the generated message classes, sharing one serializer
+        // that caches each message type's schema and ID
+        this.protobufSerializer = new KafkaProtobufSerializer<>(
+            new CachedSchemaRegistryClient(config.getSchemaRegistryUrl(), 100), Map.of(
+                AbstractKafkaSchemaSerDeConfig.SCHEMA_REGISTRY_URL_CONFIG, config.getSchemaRegistryUrl(),
+                AbstractKafkaSchemaSerDeConfig.AUTO_REGISTER_SCHEMAS, config.isAutoRegisterSchemas()));
+        this.protobufProducerLz4 = createProtobufProducer("seedkit-protobuf-producer-lz4", "protobuf-lz4", COMPRESSION_LZ4);
+        this.protobufProducerSnappy = createProtobufProducer("seedkit-protobuf-producer-snappy", "protobuf-snappy", COMPRESSION_SNAPPY);
         
-        log.info("Created producers with compression types: lz4, snappy, gzip, none");
+        // Create JSON Schema producers for the annotated payload classes, sharing one serializer
+        this.jsonSchemaSerializer = new SeedKitJsonSchemaSerializer(
+            new CachedSchemaRegistryClient(config.getSchemaRegistryUrl(), 100), config.getSchemaRegistryUrl(),
+            config.isAutoRegisterSchemas(), SeedKitJsonSchemaSerializer.Validation.parse(config.getJsonSchemaValidation()),
+            config.getJsonSchemaValidateFirst());
+        this.jsonSchemaProducerLz4 = createJsonSchemaProducer("seedkit-json-schema-producer-lz4", "json-schema-lz4", COMPRESSION_LZ4);
+        this.jsonSchemaProducerSnappy = createJsonSchemaProducer("seedkit-json-schema-producer-snappy", "json-schema-snappy", COMPRESSION_SNAPPY);
+        log.info("JSON Schema validation: {}", jsonSchemaSerializer.getValidation());
+        
+        log.info("Created producer families: string-lz4/snappy/gzip/none, bytes-snappy/gzip, binary-lz4, "
+            + "avro-lz4/snappy/none, protobuf-lz4/snappy, json-schema-lz4/snappy");
+        log.info("Avro schema cache warmed with {} schemas", AvroSchemaCache.warmUp());
+        
+        compileSchemaDrivenGenerators();
+        resolveSchemaIds();
+        configureKeyDistributions();
+        SeedKitMetrics.registerCollector(metricsCollector);
     }
     
-    private KafkaProducer<String, String> createStringProducer(String clientId, String compression) {
-        Properties props = new Properties();
-        props.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, config.getBootstrapServers());
-        props.put(ProducerConfig.CLIENT_ID_CONFIG, clientId);
+    /**
+     * Apply configured key distributions: pool distributions skew which customers, products, devices
+     * and symbols records refer to (and are keyed by), topic distributions replace a topic's record keys.
+     */
+    private void configureKeyDistributions() {
+        config.getPoolKeyDistributions().forEach((pool, settings) -> {
+            KeySampler sampler = KeySampler.fromConfig(settings, dataGenerator.getPoolSize(pool));
+            dataGenerator.setPoolDistribution(pool, sampler);
+            log.info("Key distribution for {} pool: {}", pool, sampler);
+        });
+        config.getTopicKeyDistributions().forEach((topic, settings) -> {
+            KeySampler sampler = KeySampler.fromConfig(settings, 1000);
+            keySamplers.put(topic, sampler);
+            keyPrefixes.put(topic, (String) settings.getOrDefault("key-prefix", "key-"));
+            log.info("Key distribution for {}: {}", topic, sampler);
+        });
+    }
+    
+    private KafkaProducer<String, String> createStringProducer(String clientId, String family, String compression) {
+        KafkaProducer<String, String> producer = createStringProducer(clientId, compression, tuning.producer(family));
+        variantFactories.put(producer, profile ->
+            createStringProducer(clientId + "-" + profile, compression, tuning.producer(family, profile)));
+        return producer;
+    }
+    
+    private KafkaProducer<String, String> createStringProducer(String clientId, String compression, Map<String, Object> settings) {
+        Properties props = producerProperties(clientId, compression, settings);
         props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class.getName());
         props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class.getName());
-        props.put(ProducerConfig.ACKS_CONFIG, "all");
-        props.put(ProducerConfig.RETRIES_CONFIG, 3);
-        props.put(ProducerConfig.MAX_REQUEST_SIZE_CONFIG, 2097152); // 2MB for large messages
-        props.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, compression);
-        return new KafkaProducer<>(props);
+        return registerMetrics(clientId, new KafkaProducer<>(props));
+    }
+    
+    private KafkaProducer<String, byte[]> createBytesProducer(String clientId, String family, String compression) {
+        KafkaProducer<String, byte[]> producer = createBytesProducer(clientId, compression, tuning.producer(family));
+        variantFactories.put(producer, profile ->
+            createBytesProducer(clientId + "-" + profile, compression, tuning.producer(family, profile)));
+        return producer;
+    }
+    
+    private KafkaProducer<String, byte[]> createBytesProducer(String clientId, String compression, Map<String, Object> settings) {
+        Properties props = producerProperties(clientId, compression, settings);
+        return registerMetrics(clientId, new KafkaProducer<>(props, new StringSerializer(), new ByteArraySerializer()));
+    }
+    
+    private KafkaProducer<byte[], byte[]> createBinaryProducer(String clientId, String family, String compression) {
+        KafkaProducer<byte[], byte[]> producer = createBinaryProducer(clientId, compression, tuning.producer(family));
+        variantFactories.put(producer, profile ->
+            createBinaryProducer(clientId + "-" + profile, compression, tuning.producer(family, profile)));
+        return producer;
+    }
+    
+    private KafkaProducer<byte[], byte[]> createBinaryProducer(String clientId, String compression, Map<String, Object> settings) {
+        Properties props = producerProperties(clientId, compression, settings);
+        return registerMetrics(clientId, new KafkaProducer<>(props, new ByteArraySerializer(), new ByteArraySerializer()));
+    }
+    
+    private KafkaProducer<String, GenericRecord> createAvroProducer(String clientId, String family, String compression) {
+        KafkaProducer<String, GenericRecord> producer = createAvroProducer(clientId, compression, tuning.producer(family));
+        variantFactories.put(producer, profile ->
+            createAvroProducer(clientId + "-" + profile, compression, tuning.producer(family, profile)));
+        return producer;
+    }
+    
+    private KafkaProducer<String, GenericRecord> createAvroProducer(String clientId, String compression, Map<String, Object> settings) {
+        Properties props = producerProperties(clientId, compression, settings);
+        return registerMetrics(clientId, new KafkaProducer<>(props, new StringSerializer(), avroSerializer));
+    }
+    
+    private KafkaProducer<String, Message> createProtobufProducer(String clientId, String family, String compression) {
+        KafkaProducer<String, Message> producer = createProtobufProducer(clientId, compression, tuning.producer(family));
+        variantFactories.put(producer, profile ->
+            createProtobufProducer(clientId + "-" + profile, compression, tuning.producer(family, profile)));
+        return producer;
+    }
+    
+    private KafkaProducer<String, Message> createProtobufProducer(String clientId, String compression, Map<String, Object> settings) {
+        Properties props = producerProperties(clientId, compression, settings);
+        return registerMetrics(clientId, new KafkaProducer<>(props, new StringSerializer(), protobufSerializer));
     }
     
-    private KafkaProducer<String, GenericRecord> createAvroProducer(String clientId, String compression) {
+    private KafkaProducer<String, Object> createJsonSchemaProducer(String clientId, String family, String compression) {
+        KafkaProducer<String, Object> producer = createJsonSchemaProducer(clientId, compression, tuning.producer(family));
+        variantFactories.put(producer, profile ->
+            createJsonSchemaProducer(clientId + "-" + profile, compression, tuning.producer(family, profile)));
+        return producer;
+    }
+    
+    private KafkaProducer<String, Object> createJsonSchemaProducer(String clientId, String compression, Map<String, Object> settings) {
+        Properties props = producerProperties(clientId, compression, settings);
+        return registerMetrics(clientId, new KafkaProducer<>(props, new StringSerializer(), jsonSchemaSerializer));
+    }
+    
+    // Fixed defaults, then the tuned settings; compression always belongs to the producer family
+    private Properties producerProperties(String clientId, String compression, Map<String, Object> settings) {
         Properties props = new Properties();
         props.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, config.getBootstrapServers());
         props.put(ProducerConfig.CLIENT_ID_CONFIG, clientId);
-        props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class.getName());
-        props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, KafkaAvroSerializer.class.getName());
-        props.put(KafkaAvroSerializerConfig.SCHEMA_REGISTRY_URL_CONFIG, config.getSchemaRegistryUrl());
-        props.put(KafkaAvroSerializerConfig.AUTO_REGISTER_SCHEMAS, true);
         props.put(ProducerConfig.ACKS_CONFIG, "all");
         props.put(ProducerConfig.RETRIES_CONFIG, 3);
+        props.put(ProducerConfig.MAX_REQUEST_SIZE_CONFIG, 2097152); // 2MB for large messages
+        props.putAll(settings);
         props.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, compression);
-        return new KafkaProducer<>(props);
+        return props;
+    }
+    
+    /**
+     * The family producer, or its variant tuned for the topic's group when that group has a profile.
+     * Variants are created on first use.
+     */
+    @SuppressWarnings("unchecked")
+    private <K, V> KafkaProducer<K, V> tuned(KafkaProducer<K, V> producer, String topic) {
+        String profile = tuning.topicProfile(topic);
+        java.util.function.Function<String, KafkaProducer<?, ?>> factory = variantFactories.get(producer);
+        if (profile == null || factory == null) {
+            return producer;
+        }
+        return (KafkaProducer<K, V>) variants.computeIfAbsent(producer, p -> new ConcurrentHashMap<>())
+            .computeIfAbsent(profile, factory);
+    }
+    
+    private <K, V> KafkaProducer<K, V> registerMetrics(String clientId, KafkaProducer<K, V> producer) {
+        SeedKitMetrics.registerClient(clientId, producer::metrics);
+        metricsClientIds.add(clientId);
+        return producer;
+    }
+    
+    /**
+     * Export per-topic delivery stats and continuous producer rates to the metrics endpoint.
+     */
+    private void collectMetrics(PrometheusWriter writer) {
+        deliveryStats.getStats().forEach((topic, stats) -> {
+            writer.counter("seedkit_producer_records_attempted_total", stats.attempted(), "topic", topic);
+            writer.counter("seedkit_producer_records_acked_total", stats.acked(), "topic", topic);
+            writer.counter("seedkit_producer_records_failed_total", stats.failed(), "topic", topic);
+            writer.counter("seedkit_producer_acked_bytes_total", stats.bytes(), "topic", topic);
+            writer.summary("seedkit_producer_ack_latency_seconds", stats.ackLatencyMicros(), "topic", topic);
+        });
+        rateController.getRateStats().forEach((topic, stats) -> {
+            writer.gauge("seedkit_producer_target_rate", stats.targetRate(), "topic", topic);
+            writer.gauge("seedkit_producer_achieved_rate", stats.achievedRate(), "topic", topic);
+        });
+        getPregenerationStats().forEach((topic, stats) -> {
+            writer.gauge("seedkit_pregenerate_buffer_fill", stats.fill(), "topic", topic);
+            writer.gauge("seedkit_pregenerate_buffer_capacity", stats.capacity(), "topic", topic);
+            writer.counter("seedkit_pregenerate_generator_stall_seconds_total", stats.generatorStallMs() / 1000.0, "topic", topic);
+            writer.counter("seedkit_pregenerate_send_stall_seconds_total", stats.sendStallMs() / 1000.0, "topic", topic);
+            writer.counter("seedkit_pregenerate_inline_total", stats.generatedInline(), "topic", topic);
+        });
+    }
+    
+    /**
+     * Compile generators for the registered Avro value subjects that have no hand-written generator,
+     * writing each with its subject's latest schema version. Subjects whose schema can't be compiled
+     * are logged and skipped.
+     */
+    private void compileSchemaDrivenGenerators() {
+        if (!config.isSchemaDrivenEnabled()) {
+            return;
+        }
+        Set<String> handWritten = avroSources().keySet();
+        List<String> excluded = config.getSchemaDrivenExcludeTopics();
+        SchemaManager.latestAvroValueSchemas().forEach((topic, schemaJson) -> {
+            if (!handWritten.contains(topic) && !excluded.contains(topic) && getTopicDef(topic) != null) {
+                Schema schema = AvroSchemaCache.register(AvroSchemaCache.PRODUCER_VERSION, schemaJson);
+                try {
+                    schemaDriven.put(topic, AvroRecordGenerator.compile(schema, config.getSchemaDrivenNullRate()));
+                } catch (IllegalArgumentException e) {
+                    // One schema the generator can't handle shouldn't stop the others from being produced
+                    log.warn("Skipping schema-driven generator for {}: {}", topic, e.getMessage());
+                }
+            }
+        });
+        log.info("Compiled schema-driven generators for {} Avro topics: {}", schemaDriven.size(), schemaDriven.keySet());
+    }
+    
+    /**
+     * Resolve schema IDs for every topic/schema pair the producers write, so the send path
+     * never waits on Schema Registry. Runs after SchemaManager has registered all schemas.
+     */
+    private void resolveSchemaIds() {
+        Map<String, Schema> topicSchemas = new LinkedHashMap<>();
+        topicSchemas.put("ecommerce.orders", ORDER_SCHEMA);
+        topicSchemas.put("ecommerce.page-views", PAGE_VIEW_SCHEMA);
+        topicSchemas.put("ecommerce.cart-events", CART_EVENT_SCHEMA);
+        topicSchemas.put("payments.transactions", TRANSACTION_SCHEMA);
+        topicSchemas.put("iot.sensor-readings", SENSOR_READING_SCHEMA);
+        topicSchemas.put("iot.device-status", DEVICE_STATUS_SCHEMA);
+        topicSchemas.put("notifications.email-outbound", EMAIL_NOTIFICATION_SCHEMA);
+        topicSchemas.put("trading.market-data", MARKET_DATA_SCHEMA);
+        topicSchemas.put("metrics.application", APP_METRIC_SCHEMA);
+        topicSchemas.put("audit.system-events", AUDIT_EVENT_SCHEMA);
+        schemaDriven.forEach((topic, generator) -> topicSchemas.put(topic, generator.getSchema()));
+        
+        topicSchemas.forEach((topic, schema) -> {
+            try {
+                int id = avroSerializer.resolve(topic, schema);
+                log.debug("Resolved schema ID {} for {}", id, topic);
+            } catch (Exception e) {
+                log.warn("Could not resolve schema ID for {} (will retry on first send): {}", topic, e.getMessage());
+            }
+        });
+        log.info("Resolved Avro schema IDs for {} topics", topicSchemas.size());
+        
+        // Serializing a default instance resolves and caches the ID for the message type's descriptor
+        Map<String, Message> topicTypes = new LinkedHashMap<>();
+        topicTypes.put("payments.chargebacks", Chargeback.getDefaultInstance());
+        topicTypes.put("iot.firmware-updates", FirmwareUpdate.getDefaultInstance());
+        topicTypes.put("shipping.carrier-events", CarrierEvent.getDefaultInstance());
+        topicTypes.put("trading.orders", TradeOrder.getDefaultInstance());
+        topicTypes.put("trading.executions", TradeExecution.getDefaultInstance());
+        
+        topicTypes.forEach((topic, message) -> {
+            try {
+                protobufSerializer.serialize(topic, message);
+            } catch (Exception e) {
+                log.warn("Could not resolve Protobuf schema ID for {} (will retry on first send): {}", topic, e.getMessage());
+            }
+        });
+        log.info("Resolved Protobuf schema IDs for {} topics", topicTypes.size());
     }
     
     // Helper to get a random string producer
     private KafkaProducer<String, String> getRandomStringProducer() {
-        return switch (random.nextInt(4)) {
+        return switch (random().nextInt(4)) {
             case 0 -> stringProducerLz4;
             case 1 -> stringProducerSnappy;
             case 2 -> stringProducerGzip;
@@ -107,15 +408,26 @@ public class MessageProducer {
     
     // Helper to get a random avro producer
     private KafkaProducer<String, GenericRecord> getRandomAvroProducer() {
-        return switch (random.nextInt(3)) {
+        return switch (random().nextInt(3)) {
             case 0 -> avroProducerLz4;
             case 1 -> avroProducerSnappy;
             default -> avroProducerNone;
         };
     }
     
+    // Helper to get a random protobuf producer
+    private KafkaProducer<String, Message> getRandomProtobufProducer() {
+        return random().nextBoolean() ? protobufProducerLz4 : protobufProducerSnappy;
+    }
+    
+    // Helper to get a random JSON Schema producer
+    private KafkaProducer<String, Object> getRandomJsonSchemaProducer() {
+        return random().nextBoolean() ? jsonSchemaProducerLz4 : jsonSchemaProducerSnappy;
+    }
+    
     /**
      * Seed all topics with initial data.
+     * Topic seeders run concurrently and all producers are flushed once at the end.
      */
     public void seedInitialData() {
         log.info("Seeding initial data to all topics...");
@@ -135,21 +447,40 @@ public class MessageProducer {
         seedAvroTopic("metrics.application", msgCount, this::generateAppMetricRecord);
         seedAvroTopic("audit.system-events", msgCount / 2, this::generateAuditEventRecord);
         
+        // Seed the remaining Avro topics from their registered schemas
+        schemaDriven.forEach((topic, generator) ->
+            seedAvroTopic(topic, msgCount / 2, () -> generateSchemaDrivenRecord(topic, generator)));
+        
+        // Seed Protobuf topics
+        seedProtobufTopic("payments.chargebacks", msgCount / 4, this::generateChargebackMessage);
+        seedProtobufTopic("iot.firmware-updates", msgCount / 4, this::generateFirmwareUpdateMessage);
+        seedProtobufTopic("shipping.carrier-events", msgCount, this::generateCarrierEventMessage);
+        seedProtobufTopic("trading.orders", msgCount * 2, this::generateTradeOrderMessage);
+        seedProtobufTopic("trading.executions", msgCount * 2, this::generateTradeExecutionMessage);
+        
+        // Seed JSON Schema topics
+        seedJsonSchemaTopic("ecommerce.product-reviews", msgCount / 2, this::generateProductReview);
+        seedJsonSchemaTopic("inventory.reorder-alerts", msgCount / 4, this::generateReorderAlert);
+        seedJsonSchemaTopic("customers.feedback", msgCount / 2, this::generateCustomerFeedback);
+        seedJsonSchemaTopic("notifications.in-app", msgCount, this::generateInAppNotification);
+        seedJsonSchemaTopic("shipping.route-optimization", msgCount / 4, this::generateRouteOptimization);
+        seedJsonSchemaTopic("ml.model-metrics", msgCount / 2, this::generateModelMetrics);
+        
         // Seed JSON topics (no schema)
-        seedJsonTopic("logs.application", msgCount * 2, () -> dataGenerator.generateApplicationLog());
-        seedJsonTopic("logs.infrastructure", msgCount, () -> dataGenerator.generateApplicationLog());
+        seedJsonTopic("logs.application", msgCount * 2, () -> data().generateApplicationLog());
+        seedJsonTopic("logs.infrastructure", msgCount, () -> data().generateApplicationLog());
         seedJsonTopic("ecommerce.search-queries", msgCount, () -> generateSearchQueryJson());
         seedJsonTopic("integration.webhook-inbound", msgCount / 2, () -> generateWebhookJson());
         seedJsonTopic("metrics.custom-events", msgCount / 2, () -> generateCustomEventJson());
         
         // Seed plain text topics
-        seedPlainTextTopic("logs.access", msgCount * 2, () -> dataGenerator.generateAccessLog());
+        seedPlainTextTopic("logs.access", msgCount * 2, () -> data().generateAccessLog());
         seedPlainTextTopic("integration.legacy-mainframe", msgCount / 4, () -> generateMainframeRecord());
         seedPlainTextTopic("healthcare.hl7-messages", msgCount / 4, () -> generateHl7Message());
         
         // Seed XML topics
-        seedXmlTopic("integration.erp-sync", msgCount / 2, () -> dataGenerator.generateErpSyncXml());
-        seedXmlTopic("integration.crm-events", msgCount / 2, () -> dataGenerator.generateCrmXml());
+        seedXmlTopic("integration.erp-sync", msgCount / 2, () -> data().generateErpSyncXml());
+        seedXmlTopic("integration.crm-events", msgCount / 2, () -> data().generateCrmXml());
         
         // Seed large message topics
         seedLargeJsonTopic("data.bulk-imports", largeMsgCount, 150);
@@ -160,11 +491,15 @@ public class MessageProducer {
         // Seed binary topics
         seedBinaryTopic("data.binary-blobs", largeMsgCount / 2);
         seedBinaryTopic("iot.raw-telemetry", msgCount);
+        seedBinaryTopic("_internal.dead-letter-queue", largeMsgCount);
         
         // Seed CSV batches
         seedCsvTopic("data.csv-batches", largeMsgCount);
         
-        log.info("Initial seeding completed. Total messages: {}", messageCount.get());
+        seedingEngine.run(this::flushAllProducers);
+        
+        log.info("Initial seeding completed. Total messages: {} acked, {} failed",
+            deliveryStats.getTotalAcked(), deliveryStats.getTotalFailed());
     }
     
     /**
@@ -181,6 +516,8 @@ public class MessageProducer {
         
         int minInterval = config.getMinIntervalMs();
         int maxInterval = config.getMaxIntervalMs();
+        loadProfiles = LoadProfile.fromConfig(config.getLoadProfileConfigs());
+        loadProfiles.forEach(profile -> log.info("Load profile {}", profile));
         
         // Schedule continuous producers for different topics with varying intervals
         scheduleContinuousProducer("ecommerce.orders", minInterval, maxInterval, this::produceOrderMessage);
@@ -194,30 +531,40 @@ public class MessageProducer {
         scheduleContinuousProducer("notifications.email-outbound", minInterval * 2, maxInterval * 2, this::produceEmailNotificationMessage);
         scheduleContinuousProducer("trading.market-data", minInterval / 2, maxInterval / 2, this::produceMarketDataMessage);
         scheduleContinuousProducer("metrics.application", minInterval, maxInterval, this::produceAppMetricMessage);
+        scheduleContinuousProducer("payments.chargebacks", minInterval * 4, maxInterval * 4, this::produceChargebackMessage);
+        scheduleContinuousProducer("iot.firmware-updates", minInterval * 4, maxInterval * 4, this::produceFirmwareUpdateMessage);
+        scheduleContinuousProducer("shipping.carrier-events", minInterval, maxInterval, this::produceCarrierEventMessage);
+        scheduleContinuousProducer("ecommerce.product-reviews", minInterval * 2, maxInterval * 2,
+            () -> produceJsonSchemaMessage("ecommerce.product-reviews", jsonSchemaProducerSnappy, this::generateProductReview));
+        scheduleContinuousProducer("inventory.reorder-alerts", minInterval * 4, maxInterval * 4,
+            () -> produceJsonSchemaMessage("inventory.reorder-alerts", jsonSchemaProducerLz4, this::generateReorderAlert));
+        scheduleContinuousProducer("customers.feedback", minInterval * 2, maxInterval * 2,
+            () -> produceJsonSchemaMessage("customers.feedback", jsonSchemaProducerSnappy, this::generateCustomerFeedback));
+        scheduleContinuousProducer("notifications.in-app", minInterval, maxInterval,
+            () -> produceJsonSchemaMessage("notifications.in-app", jsonSchemaProducerLz4, this::generateInAppNotification));
+        scheduleContinuousProducer("shipping.route-optimization", minInterval * 4, maxInterval * 4,
+            () -> produceJsonSchemaMessage("shipping.route-optimization", jsonSchemaProducerSnappy, this::generateRouteOptimization));
+        scheduleContinuousProducer("ml.model-metrics", minInterval * 2, maxInterval * 2,
+            () -> produceJsonSchemaMessage("ml.model-metrics", jsonSchemaProducerLz4, this::generateModelMetrics));
+        schemaDriven.forEach((topic, generator) -> scheduleContinuousProducer(topic, minInterval * 2, maxInterval * 2,
+            () -> produceSchemaDrivenMessage(topic, generator)));
         
         // High-frequency producer - produces at least once per second (targeting ~10 messages/sec)
         scheduleHighFrequencyProducer("iot.high-frequency-telemetry", 100, this::produceHighFrequencyTelemetry);
         
-        log.info("Continuous production started for {} topics (including high-frequency producer)", scheduledTasks.size());
+        // Protobuf order flow - ~100 orders/sec and ~50 executions/sec unless topic-rates raises them
+        scheduleHighFrequencyProducer("trading.orders", 10, this::produceTradeOrderMessage);
+        scheduleHighFrequencyProducer("trading.executions", 20, this::produceTradeExecutionMessage);
+        
+        rateController.startReporting(config.getRateReportIntervalSeconds());
+        log.info("Continuous production started for {} topics (including high-frequency producers)", rateController.getTopicCount());
     }
     
     /**
-     * Schedules a high-frequency producer that produces at a fixed rate (at least 1 msg/sec).
+     * Schedules a high-frequency producer at a fixed rate with no jitter (at least 1 msg/sec).
      */
     private void scheduleHighFrequencyProducer(String topic, int intervalMs, Runnable producer) {
-        ScheduledFuture<?> future = scheduler.scheduleAtFixedRate(() -> {
-            if (running.get()) {
-                try {
-                    producer.run();
-                } catch (Exception e) {
-                    log.error("Error in high-frequency producer for {}: {}", topic, e.getMessage());
-                }
-            }
-        }, 0, intervalMs, TimeUnit.MILLISECONDS);
-        
-        scheduledTasks.add(future);
-        log.info("Started high-frequency producer for {} at {}ms interval (~{} msg/sec)", 
-            topic, intervalMs, 1000 / intervalMs);
+        registerRate(topic, 1000.0 / intervalMs, TokenBucket.Jitter.NONE, producer);
     }
     
     /**
@@ -225,39 +572,68 @@ public class MessageProducer {
      */
     private void produceHighFrequencyTelemetry() {
         try {
-            String key = "device-hf-" + random.nextInt(100);
+            String key = "device-hf-" + keyIndex("iot.high-frequency-telemetry", 100);
             String value = String.format(
                 "{\"deviceId\":\"%s\",\"timestamp\":%d,\"readings\":{\"temp\":%.2f,\"humidity\":%.2f,\"pressure\":%.2f}}",
                 key,
                 Instant.now().toEpochMilli(),
-                20 + random.nextDouble() * 15,
-                30 + random.nextDouble() * 50,
-                980 + random.nextDouble() * 40
+                20 + random().nextDouble() * 15,
+                30 + random().nextDouble() * 50,
+                980 + random().nextDouble() * 40
             );
             ProducerRecord<String, String> record = new ProducerRecord<>("iot.high-frequency-telemetry", key, value);
             record.headers().add(new RecordHeader("frequency", "high".getBytes()));
-            stringProducerLz4.send(record); // Use lz4 for high-frequency data
-            messageCount.incrementAndGet();
+            deliveryStats.send(tuned(stringProducerLz4, record.topic()), record); // Use lz4 for high-frequency data
         } catch (Exception e) {
             log.error("Error producing high-frequency telemetry: {}", e.getMessage());
         }
     }
     
+    /**
+     * Schedules a continuous producer. By default the mean gap between messages is halfway between
+     * the min and max interval, and uniform jitter keeps individual gaps within [min, max].
+     */
     private void scheduleContinuousProducer(String topic, int minIntervalMs, int maxIntervalMs, Runnable producer) {
-        ScheduledFuture<?> future = scheduler.scheduleAtFixedRate(() -> {
-            if (running.get()) {
-                try {
-                    producer.run();
-                    // Add some randomness to the interval
-                    int jitter = random.nextInt(Math.max(1, (maxIntervalMs - minIntervalMs) / 2));
-                    Thread.sleep(jitter);
-                } catch (Exception e) {
-                    log.error("Error in continuous producer for {}: {}", topic, e.getMessage());
-                }
-            }
-        }, random.nextInt(1000), (minIntervalMs + maxIntervalMs) / 2, TimeUnit.MILLISECONDS);
+        double rate = 2000.0 / (minIntervalMs + maxIntervalMs);
+        double spread = (double) (maxIntervalMs - minIntervalMs) / (maxIntervalMs + minIntervalMs);
+        registerRate(topic, rate, TokenBucket.Jitter.parse(config.getContinuousJitter(), spread), producer);
+    }
+    
+    // Applies any per-topic rate/jitter override and the first matching load profile from configuration
+    private void registerRate(String topic, double defaultRate, TokenBucket.Jitter defaultJitter, Runnable producer) {
+        double rate = defaultRate;
+        TokenBucket.Jitter jitter = defaultJitter;
+        Map<String, Object> override = config.getTopicRateOverride(topic);
+        if (override != null) {
+            rate = ((Number) override.getOrDefault("messages-per-second", defaultRate)).doubleValue();
+            jitter = TokenBucket.Jitter.parse(
+                (String) override.getOrDefault("jitter", defaultJitter.type().name()),
+                ((Number) override.getOrDefault("jitter-spread", defaultJitter.spread())).doubleValue());
+        }
+        LoadProfile profile = loadProfiles.stream().filter(p -> p.matches(topic)).findFirst().orElse(null);
         
-        scheduledTasks.add(future);
+        // Pre-generate about lookahead-ms worth of messages at the topic's peak rate
+        double peakRate = profile != null ? rate * profile.peakMultiplier() : rate;
+        pregenerateCapacities.put(topic, (int) Math.clamp((long) Math.ceil(peakRate * config.getPregenerateLookaheadMs() / 1000.0),
+            2, config.getPregenerateMaxBufferSize()));
+        
+        rateController.register(topic, rate, jitter, profile, inStream(topic, producer));
+    }
+    
+    /**
+     * Next value for a continuous producer, taken from the topic's pre-generation buffer when enabled.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> T nextGenerated(String topic, java.util.function.Supplier<T> generator) {
+        if (!config.isPregenerateEnabled()) {
+            // Sent right away, so Avro records can be reused; buffered ones below cannot
+            return reusingRecords(() -> generate(topic, generator));
+        }
+        // Values made inline while the buffer is dry come from a second stream, as the fill thread owns the topic's
+        PregeneratedSource<T> source = (PregeneratedSource<T>) pregenerated.computeIfAbsent(topic,
+            t -> new PregeneratedSource<>(t, () -> generate(t, generator), () -> generate(t, t + "#inline", generator),
+                pregenerateCapacities.getOrDefault(t, 16)));
+        return source.next();
     }
     
     // ============================================================
@@ -265,155 +641,194 @@ public class MessageProducer {
     // ============================================================
     
     private void seedAvroTopic(String topic, int count, RecordSupplier supplier) {
-        log.debug("Seeding {} messages to {}", count, topic);
-        for (int i = 0; i < count; i++) {
-            try {
-                AvroMessage msg = supplier.get();
-                ProducerRecord<String, GenericRecord> record = new ProducerRecord<>(topic, msg.key(), msg.value());
-                if (msg.headers() != null) {
-                    msg.headers().forEach((k, v) -> record.headers().add(new RecordHeader(k, v.getBytes(StandardCharsets.UTF_8))));
+        seedingEngine.add(topic, inStream(topic, () -> {
+            log.debug("Seeding {} messages to {}", count, topic);
+            for (int i = 0; i < count; i++) {
+                try {
+                    AvroMessage msg = reusingRecords(() -> generate(topic, supplier::get));
+                    ProducerRecord<String, GenericRecord> record = new ProducerRecord<>(topic, msg.key(), msg.value());
+                    if (msg.headers() != null) {
+                        msg.headers().forEach((k, v) -> record.headers().add(new RecordHeader(k, v.getBytes(StandardCharsets.UTF_8))));
+                    }
+                    seedingEngine.send(tuned(getRandomAvroProducer(), topic), record);
+                } catch (Exception e) {
+                    log.error("Error seeding message to {}: {}", topic, e.getMessage());
                 }
-                getRandomAvroProducer().send(record);
-                messageCount.incrementAndGet();
-            } catch (Exception e) {
-                log.error("Error seeding message to {}: {}", topic, e.getMessage());
             }
-        }
-        flushAllAvroProducers();
+        }));
+    }
+    
+    private void seedProtobufTopic(String topic, int count, java.util.function.Supplier<ProtobufMessage> supplier) {
+        seedingEngine.add(topic, inStream(topic, () -> {
+            log.debug("Seeding {} Protobuf messages to {}", count, topic);
+            for (int i = 0; i < count; i++) {
+                try {
+                    ProtobufMessage msg = generate(topic, supplier);
+                    seedingEngine.send(tuned(getRandomProtobufProducer(), topic), protobufRecord(topic, msg));
+                } catch (Exception e) {
+                    log.error("Error seeding Protobuf message to {}: {}", topic, e.getMessage());
+                }
+            }
+        }));
+    }
+    
+    private void seedJsonSchemaTopic(String topic, int count, java.util.function.Supplier<JsonSchemaMessage> supplier) {
+        seedingEngine.add(topic, inStream(topic, () -> {
+            log.debug("Seeding {} JSON Schema messages to {}", count, topic);
+            for (int i = 0; i < count; i++) {
+                try {
+                    JsonSchemaMessage msg = generate(topic, supplier);
+                    seedingEngine.send(tuned(getRandomJsonSchemaProducer(), topic), new ProducerRecord<>(topic, msg.key(), msg.value()));
+                } catch (Exception e) {
+                    log.error("Error seeding JSON Schema message to {}: {}", topic, e.getMessage());
+                }
+            }
+        }));
     }
     
     private void seedJsonTopic(String topic, int count, java.util.function.Supplier<String> supplier) {
-        log.debug("Seeding {} JSON messages to {}", count, topic);
-        TopicDefinitions.TopicDef def = getTopicDef(topic);
-        
-        for (int i = 0; i < count; i++) {
-            try {
-                String key = def != null && def.hasKeys() ? UUID.randomUUID().toString() : null;
-                String value = supplier.get();
-                ProducerRecord<String, String> record = new ProducerRecord<>(topic, key, value);
-                if (def != null && def.hasHeaders()) {
-                    record.headers().add(new RecordHeader("content-type", "application/json".getBytes()));
-                    record.headers().add(new RecordHeader("source", "seedkit".getBytes()));
+        seedingEngine.add(topic, inStream(topic, () -> {
+            log.debug("Seeding {} JSON messages to {}", count, topic);
+            TopicDefinitions.TopicDef def = getTopicDef(topic);
+            
+            for (int i = 0; i < count; i++) {
+                try {
+                    String key = def != null && def.hasKeys() ? recordKey(topic) : null;
+                    String value = generate(topic, supplier);
+                    ProducerRecord<String, String> record = new ProducerRecord<>(topic, key, value);
+                    if (def != null && def.hasHeaders()) {
+                        record.headers().add(new RecordHeader("content-type", "application/json".getBytes()));
+                        record.headers().add(new RecordHeader("source", "seedkit".getBytes()));
+                    }
+                    seedingEngine.send(tuned(getRandomStringProducer(), topic), record);
+                } catch (Exception e) {
+                    log.error("Error seeding JSON message to {}: {}", topic, e.getMessage());
                 }
-                getRandomStringProducer().send(record);
-                messageCount.incrementAndGet();
-            } catch (Exception e) {
-                log.error("Error seeding JSON message to {}: {}", topic, e.getMessage());
             }
-        }
-        flushAllStringProducers();
+        }));
     }
     
     private void seedPlainTextTopic(String topic, int count, java.util.function.Supplier<String> supplier) {
-        log.debug("Seeding {} plain text messages to {}", count, topic);
-        TopicDefinitions.TopicDef def = getTopicDef(topic);
-        
-        for (int i = 0; i < count; i++) {
-            try {
-                String key = def != null && def.hasKeys() ? UUID.randomUUID().toString() : null;
-                getRandomStringProducer().send(new ProducerRecord<>(topic, key, supplier.get()));
-                messageCount.incrementAndGet();
-            } catch (Exception e) {
-                log.error("Error seeding plain text message to {}: {}", topic, e.getMessage());
+        seedingEngine.add(topic, inStream(topic, () -> {
+            log.debug("Seeding {} plain text messages to {}", count, topic);
+            TopicDefinitions.TopicDef def = getTopicDef(topic);
+            
+            for (int i = 0; i < count; i++) {
+                try {
+                    String key = def != null && def.hasKeys() ? recordKey(topic) : null;
+                    seedingEngine.send(tuned(getRandomStringProducer(), topic), new ProducerRecord<>(topic, key, generate(topic, supplier)));
+                } catch (Exception e) {
+                    log.error("Error seeding plain text message to {}: {}", topic, e.getMessage());
+                }
             }
-        }
-        flushAllStringProducers();
+        }));
     }
     
     private void seedXmlTopic(String topic, int count, java.util.function.Supplier<String> supplier) {
-        log.debug("Seeding {} XML messages to {}", count, topic);
-        TopicDefinitions.TopicDef def = getTopicDef(topic);
-        
-        for (int i = 0; i < count; i++) {
-            try {
-                String key = def != null && def.hasKeys() ? UUID.randomUUID().toString() : null;
-                ProducerRecord<String, String> record = new ProducerRecord<>(topic, key, supplier.get());
-                record.headers().add(new RecordHeader("content-type", "application/xml".getBytes()));
-                getRandomStringProducer().send(record);
-                messageCount.incrementAndGet();
-            } catch (Exception e) {
-                log.error("Error seeding XML message to {}: {}", topic, e.getMessage());
+        seedingEngine.add(topic, inStream(topic, () -> {
+            log.debug("Seeding {} XML messages to {}", count, topic);
+            TopicDefinitions.TopicDef def = getTopicDef(topic);
+            
+            for (int i = 0; i < count; i++) {
+                try {
+                    String key = def != null && def.hasKeys() ? recordKey(topic) : null;
+                    ProducerRecord<String, String> record = new ProducerRecord<>(topic, key, generate(topic, supplier));
+                    record.headers().add(new RecordHeader("content-type", "application/xml".getBytes()));
+                    seedingEngine.send(tuned(getRandomStringProducer(), topic), record);
+                } catch (Exception e) {
+                    log.error("Error seeding XML message to {}: {}", topic, e.getMessage());
+                }
             }
-        }
-        flushAllStringProducers();
+        }));
     }
     
     private void seedLargeJsonTopic(String topic, int count, int targetSizeKb) {
-        log.debug("Seeding {} large JSON messages (~{}KB) to {}", count, targetSizeKb, topic);
-        for (int i = 0; i < count; i++) {
-            try {
-                String key = UUID.randomUUID().toString();
-                String value = dataGenerator.generateLargeJson(targetSizeKb);
-                ProducerRecord<String, String> record = new ProducerRecord<>(topic, key, value);
-                record.headers().add(new RecordHeader("content-type", "application/json".getBytes()));
-                record.headers().add(new RecordHeader("size-kb", String.valueOf(value.length() / 1024).getBytes()));
-                // Use gzip for large messages
-                stringProducerGzip.send(record);
-                messageCount.incrementAndGet();
-            } catch (Exception e) {
-                log.error("Error seeding large JSON message to {}: {}", topic, e.getMessage());
+        seedingEngine.add(topic, inStream(topic, () -> {
+            log.debug("Seeding {} large JSON messages (~{}KB) to {}", count, targetSizeKb, topic);
+            for (int i = 0; i < count; i++) {
+                try {
+                    String key = recordKey(topic);
+                    byte[] value = generate(topic, () -> data().generateLargeJsonUtf8(targetSizeKb));
+                    ProducerRecord<String, byte[]> record = new ProducerRecord<>(topic, key, value);
+                    record.headers().add(new RecordHeader("content-type", "application/json".getBytes()));
+                    record.headers().add(new RecordHeader("size-kb", String.valueOf(value.length / 1024).getBytes()));
+                    // Use gzip for large messages
+                    seedingEngine.send(tuned(bytesProducerGzip, topic), record);
+                } catch (Exception e) {
+                    log.error("Error seeding large JSON message to {}: {}", topic, e.getMessage());
+                }
             }
-        }
-        stringProducerGzip.flush();
+        }));
     }
     
     private void seedLargeXmlTopic(String topic, int count, int targetSizeKb) {
-        log.debug("Seeding {} large XML messages (~{}KB) to {}", count, targetSizeKb, topic);
-        for (int i = 0; i < count; i++) {
-            try {
-                String key = UUID.randomUUID().toString();
-                String value = dataGenerator.generateLargeXml(targetSizeKb);
-                ProducerRecord<String, String> record = new ProducerRecord<>(topic, key, value);
-                record.headers().add(new RecordHeader("content-type", "application/xml".getBytes()));
-                // Use gzip for large messages
-                stringProducerGzip.send(record);
-                messageCount.incrementAndGet();
-            } catch (Exception e) {
-                log.error("Error seeding large XML message to {}: {}", topic, e.getMessage());
+        seedingEngine.add(topic, inStream(topic, () -> {
+            log.debug("Seeding {} large XML messages (~{}KB) to {}", count, targetSizeKb, topic);
+            for (int i = 0; i < count; i++) {
+                try {
+                    String key = recordKey(topic);
+                    byte[] value = generate(topic, () -> data().generateLargeXmlUtf8(targetSizeKb));
+                    ProducerRecord<String, byte[]> record = new ProducerRecord<>(topic, key, value);
+                    record.headers().add(new RecordHeader("content-type", "application/xml".getBytes()));
+                    // Use gzip for large messages
+                    seedingEngine.send(tuned(bytesProducerGzip, topic), record);
+                } catch (Exception e) {
+                    log.error("Error seeding large XML message to {}: {}", topic, e.getMessage());
+                }
             }
-        }
-        stringProducerGzip.flush();
+        }));
     }
     
     private void seedBinaryTopic(String topic, int count) {
-        log.debug("Seeding {} binary messages to {}", count, topic);
-        for (int i = 0; i < count; i++) {
-            try {
-                String key = UUID.randomUUID().toString();
-                byte[] data = new byte[1024 + random.nextInt(50000)];
-                random.nextBytes(data);
-                ProducerRecord<String, String> record = new ProducerRecord<>(topic, key, Base64.getEncoder().encodeToString(data));
-                record.headers().add(new RecordHeader("content-type", "application/octet-stream".getBytes()));
-                // Use lz4 for binary data (fast compression)
-                stringProducerLz4.send(record);
-                messageCount.incrementAndGet();
-            } catch (Exception e) {
-                log.error("Error seeding binary message to {}: {}", topic, e.getMessage());
+        seedingEngine.add(topic, inStream(topic, () -> {
+            log.debug("Seeding {} binary messages to {}", count, topic);
+            for (int i = 0; i < count; i++) {
+                try {
+                    byte[] key = recordKey(topic).getBytes(StandardCharsets.UTF_8);
+                    ProducerRecord<byte[], byte[]> record = new ProducerRecord<>(topic, key, generate(topic, this::generateBinaryBlob));
+                    record.headers().add(new RecordHeader("content-type", "application/octet-stream".getBytes()));
+                    // Use lz4 for binary data (fast compression)
+                    seedingEngine.send(tuned(binaryProducerLz4, topic), record);
+                } catch (Exception e) {
+                    log.error("Error seeding binary message to {}: {}", topic, e.getMessage());
+                }
             }
-        }
-        stringProducerLz4.flush();
+        }));
     }
     
     private void seedCsvTopic(String topic, int count) {
-        log.debug("Seeding {} CSV batch messages to {}", count, topic);
-        for (int i = 0; i < count; i++) {
-            try {
-                String key = UUID.randomUUID().toString();
-                String value = generateCsvBatch(100 + random.nextInt(400));
-                ProducerRecord<String, String> record = new ProducerRecord<>(topic, key, value);
-                record.headers().add(new RecordHeader("content-type", "text/csv".getBytes()));
-                record.headers().add(new RecordHeader("batch-id", key.getBytes()));
-                // Use snappy for CSV (good balance)
-                stringProducerSnappy.send(record);
-                messageCount.incrementAndGet();
-            } catch (Exception e) {
-                log.error("Error seeding CSV message to {}: {}", topic, e.getMessage());
+        seedingEngine.add(topic, inStream(topic, () -> {
+            log.debug("Seeding {} CSV batch messages to {}", count, topic);
+            for (int i = 0; i < count; i++) {
+                try {
+                    String key = recordKey(topic);
+                    byte[] value = generate(topic, () -> generateCsvBatchUtf8(100 + random().nextInt(400)));
+                    ProducerRecord<String, byte[]> record = new ProducerRecord<>(topic, key, value);
+                    record.headers().add(new RecordHeader("content-type", "text/csv".getBytes()));
+                    record.headers().add(new RecordHeader("batch-id", key.getBytes()));
+                    // Use snappy for CSV (good balance)
+                    seedingEngine.send(tuned(bytesProducerSnappy, topic), record);
+                } catch (Exception e) {
+                    log.error("Error seeding CSV message to {}: {}", topic, e.getMessage());
+                }
             }
-        }
-        stringProducerSnappy.flush();
+        }));
     }
     
     // Flush helpers
+    private void flushAllProducers() {
+        flushAllStringProducers();
+        bytesProducerSnappy.flush();
+        bytesProducerGzip.flush();
+        binaryProducerLz4.flush();
+        protobufProducerLz4.flush();
+        protobufProducerSnappy.flush();
+        jsonSchemaProducerLz4.flush();
+        jsonSchemaProducerSnappy.flush();
+        variants.values().forEach(byProfile -> byProfile.values().forEach(KafkaProducer::flush));
+        flushAllAvroProducers();
+    }
+    
     private void flushAllStringProducers() {
         stringProducerLz4.flush();
         stringProducerSnappy.flush();
@@ -427,19 +842,399 @@ public class MessageProducer {
         avroProducerNone.flush();
     }
     
+    // ============================================================
+    // BLAST BENCHMARK
+    // ============================================================
+    
+    /**
+     * Drive each configured producer family flat out, one after another, and log a throughput report.
+     * String families write to the configured string topics, the binary family to the binary topics,
+     * Avro, Protobuf and JSON Schema families to the topics configured for them.
+     */
+    public List<BlastBenchmark.BlastResult> runBlast() {
+        BlastBenchmark benchmark = new BlastBenchmark(
+            config.getBlastDurationSeconds(), config.getBlastMessageCount(), config.getBlastThreads());
+        Map<String, java.util.function.Supplier<String>> stringSources = stringSources();
+        Map<String, java.util.function.Supplier<byte[]>> byteSources = byteSources();
+        Map<String, RecordSupplier> avroSources = avroSources();
+        Map<String, java.util.function.Supplier<ProtobufMessage>> protobufSources = protobufSources();
+        Map<String, java.util.function.Supplier<JsonSchemaMessage>> jsonSchemaSources = jsonSchemaSources();
+        List<String> stringTopics = supportedTopics(config.getBlastStringTopics(), stringSources.keySet());
+        List<String> binaryTopics = supportedTopics(config.getBlastBinaryTopics(), byteSources.keySet());
+        List<String> avroTopics = supportedTopics(config.getBlastAvroTopics(), avroSources.keySet());
+        List<String> protobufTopics = supportedTopics(config.getBlastProtobufTopics(), protobufSources.keySet());
+        List<String> jsonSchemaTopics = supportedTopics(config.getBlastJsonSchemaTopics(), jsonSchemaSources.keySet());
+        
+        List<BlastBenchmark.BlastResult> results = new ArrayList<>();
+        for (String family : config.getBlastProducers()) {
+            KafkaProducer<String, String> stringProducer = switch (family) {
+                case "string-lz4" -> stringProducerLz4;
+                case "string-snappy" -> stringProducerSnappy;
+                case "string-gzip" -> stringProducerGzip;
+                case "string-none" -> stringProducerNone;
+                default -> null;
+            };
+            KafkaProducer<String, GenericRecord> avroProducer = switch (family) {
+                case "avro-lz4" -> avroProducerLz4;
+                case "avro-snappy" -> avroProducerSnappy;
+                case "avro-none" -> avroProducerNone;
+                default -> null;
+            };
+            KafkaProducer<String, Message> protobufProducer = switch (family) {
+                case "protobuf-lz4" -> protobufProducerLz4;
+                case "protobuf-snappy" -> protobufProducerSnappy;
+                default -> null;
+            };
+            KafkaProducer<String, Object> jsonSchemaProducer = switch (family) {
+                case "json-schema-lz4" -> jsonSchemaProducerLz4;
+                case "json-schema-snappy" -> jsonSchemaProducerSnappy;
+                default -> null;
+            };
+            boolean binary = family.equals("binary-lz4");
+            
+            if (stringProducer != null && !stringTopics.isEmpty()) {
+                results.add(benchmark.run(family, stringProducer, stringTopics,
+                    topic -> new ProducerRecord<>(topic, recordKey(topic), stringSources.get(topic).get())));
+            } else if (binary && !binaryTopics.isEmpty()) {
+                results.add(benchmark.run(family, binaryProducerLz4, binaryTopics,
+                    topic -> new ProducerRecord<>(topic, recordKey(topic).getBytes(StandardCharsets.UTF_8), byteSources.get(topic).get())));
+            } else if (avroProducer != null && !avroTopics.isEmpty()) {
+                results.add(benchmark.run(family, avroProducer, avroTopics, topic -> {
+                    AvroMessage msg = reusingRecords(avroSources.get(topic)::get);
+                    return new ProducerRecord<>(topic, msg.key(), msg.value());
+                }));
+            } else if (protobufProducer != null && !protobufTopics.isEmpty()) {
+                results.add(benchmark.run(family, protobufProducer, protobufTopics,
+                    topic -> protobufRecord(topic, protobufSources.get(topic).get())));
+            } else if (jsonSchemaProducer != null && !jsonSchemaTopics.isEmpty()) {
+                results.add(benchmark.run(family, jsonSchemaProducer, jsonSchemaTopics, topic -> {
+                    JsonSchemaMessage msg = jsonSchemaSources.get(topic).get();
+                    return new ProducerRecord<>(topic, msg.key(), msg.value());
+                }));
+            } else if (stringProducer == null && avroProducer == null && protobufProducer == null && jsonSchemaProducer == null && !binary) {
+                log.warn("Unknown blast producer '{}', expected string-lz4/snappy/gzip/none, binary-lz4, avro-lz4/snappy/none, "
+                    + "protobuf-lz4/snappy or json-schema-lz4/snappy", family);
+            } else {
+                log.warn("No topics configured for blast producer {}", family);
+            }
+        }
+        
+        BlastBenchmark.logReport(results);
+        return results;
+    }
+    
+    /**
+     * Fill the configured topics to their target message count or size with dedicated,
+     * throughput-tuned producers, then close them.
+     */
+    public List<BulkSeeder.Result> runBulk() {
+        Map<String, java.util.function.Supplier<String>> stringSources = stringSources();
+        Map<String, java.util.function.Supplier<byte[]>> byteSources = byteSources();
+        Map<String, RecordSupplier> avroSources = avroSources();
+        Map<String, java.util.function.Supplier<ProtobufMessage>> protobufSources = protobufSources();
+        Map<String, java.util.function.Supplier<JsonSchemaMessage>> jsonSchemaSources = jsonSchemaSources();
+        Map<String, Object> settings = tuning.producer("bulk", Map.of(
+            ProducerConfig.BATCH_SIZE_CONFIG, config.getBulkBatchSize(),
+            ProducerConfig.LINGER_MS_CONFIG, config.getBulkLingerMs(),
+            ProducerConfig.BUFFER_MEMORY_CONFIG, config.getBulkBufferMemory()));
+        KafkaProducer<String, String> stringProducer = createStringProducer("seedkit-bulk-string", config.getBulkCompression(), settings);
+        KafkaProducer<String, byte[]> bytesProducer = createBytesProducer("seedkit-bulk-bytes", config.getBulkCompression(), settings);
+        KafkaProducer<String, GenericRecord> avroProducer = createAvroProducer("seedkit-bulk-avro", config.getBulkCompression(), settings);
+        KafkaProducer<String, Message> protobufProducer = createProtobufProducer("seedkit-bulk-protobuf", config.getBulkCompression(), settings);
+        KafkaProducer<String, Object> jsonSchemaProducer = createJsonSchemaProducer("seedkit-bulk-json-schema", config.getBulkCompression(), settings);
+        
+        BulkSeeder seeder = new BulkSeeder(deliveryStats, config.getBulkBufferSize(), config.getBulkProgressIntervalSeconds());
+        int threads = Math.max(1, config.getBulkGeneratorThreads());
+        for (BulkSeeder.Target target : BulkSeeder.Target.fromConfig(config.getBulkTargetConfigs())) {
+            String topic = target.topic();
+            if (stringSources.containsKey(topic)) {
+                TopicDefinitions.TopicDef def = getTopicDef(topic);
+                boolean keyed = def != null && def.hasKeys();
+                List<java.util.function.Supplier<ProducerRecord<String, String>>> generators = new ArrayList<>();
+                for (int i = 0; i < threads; i++) {
+                    // Each generator thread draws from its own stream so the data stays reproducible
+                    String stream = topic + "#" + i;
+                    generators.add(() -> generate(topic, stream,
+                        () -> new ProducerRecord<>(topic, keyed ? recordKey(topic) : null, stringSources.get(topic).get())));
+                }
+                seeder.add(target, stringProducer, generators);
+            } else if (byteSources.containsKey(topic)) {
+                List<java.util.function.Supplier<ProducerRecord<String, byte[]>>> generators = new ArrayList<>();
+                for (int i = 0; i < threads; i++) {
+                    String stream = topic + "#" + i;
+                    generators.add(() -> generate(topic, stream,
+                        () -> new ProducerRecord<>(topic, recordKey(topic), byteSources.get(topic).get())));
+                }
+                seeder.add(target, bytesProducer, generators);
+            } else if (avroSources.containsKey(topic)) {
+                List<java.util.function.Supplier<ProducerRecord<String, GenericRecord>>> generators = new ArrayList<>();
+                for (int i = 0; i < threads; i++) {
+                    String stream = topic + "#" + i;
+                    generators.add(() -> generate(topic, stream, () -> {
+                        AvroMessage msg = avroSources.get(topic).get();
+                        ProducerRecord<String, GenericRecord> record = new ProducerRecord<>(topic, msg.key(), msg.value());
+                        if (msg.headers() != null) {
+                            msg.headers().forEach((k, v) -> record.headers().add(new RecordHeader(k, v.getBytes(StandardCharsets.UTF_8))));
+                        }
+                        return record;
+                    }));
+                }
+                seeder.add(target, avroProducer, generators);
+            } else if (protobufSources.containsKey(topic)) {
+                List<java.util.function.Supplier<ProducerRecord<String, Message>>> generators = new ArrayList<>();
+                for (int i = 0; i < threads; i++) {
+                    String stream = topic + "#" + i;
+                    generators.add(() -> generate(topic, stream, () -> protobufRecord(topic, protobufSources.get(topic).get())));
+                }
+                seeder.add(target, protobufProducer, generators);
+            } else if (jsonSchemaSources.containsKey(topic)) {
+                List<java.util.function.Supplier<ProducerRecord<String, Object>>> generators = new ArrayList<>();
+                for (int i = 0; i < threads; i++) {
+                    String stream = topic + "#" + i;
+                    generators.add(() -> generate(topic, stream, () -> {
+                        JsonSchemaMessage msg = jsonSchemaSources.get(topic).get();
+                        return new ProducerRecord<>(topic, msg.key(), msg.value());
+                    }));
+                }
+                seeder.add(target, jsonSchemaProducer, generators);
+            } else {
+                log.warn("Cannot generate data for {}, supported topics: {}, {}, {}, {} and {}", topic, stringSources.keySet(),
+                    byteSources.keySet(), avroSources.keySet(), protobufSources.keySet(), jsonSchemaSources.keySet());
+            }
+        }
+        
+        try {
+            return seeder.run();
+        } finally {
+            for (String clientId : List.of("seedkit-bulk-string", "seedkit-bulk-bytes", "seedkit-bulk-avro",
+                    "seedkit-bulk-protobuf", "seedkit-bulk-json-schema")) {
+                SeedKitMetrics.unregisterClient(clientId);
+                metricsClientIds.remove(clientId);
+            }
+            stringProducer.close();
+            bytesProducer.close();
+            avroProducer.close();
+            protobufProducer.close();
+            jsonSchemaProducer.close();
+        }
+    }
+    
+    // Value generators for string topics, used by blast, corpus and bulk modes
+    private Map<String, java.util.function.Supplier<String>> stringSources() {
+        Map<String, java.util.function.Supplier<String>> sources = new LinkedHashMap<>();
+        sources.put("logs.application", () -> data().generateApplicationLog());
+        sources.put("logs.infrastructure", () -> data().generateApplicationLog());
+        sources.put("logs.access", () -> data().generateAccessLog());
+        sources.put("ecommerce.search-queries", () -> generateSearchQueryJson());
+        sources.put("integration.webhook-inbound", () -> generateWebhookJson());
+        sources.put("metrics.custom-events", () -> generateCustomEventJson());
+        sources.put("integration.legacy-mainframe", () -> generateMainframeRecord());
+        sources.put("healthcare.hl7-messages", () -> generateHl7Message());
+        sources.put("integration.erp-sync", () -> data().generateErpSyncXml());
+        sources.put("integration.crm-events", () -> data().generateCrmXml());
+        return sources;
+    }
+    
+    // Byte generators for large, batch and binary topics, used by blast (binary family), corpus and bulk modes
+    private Map<String, java.util.function.Supplier<byte[]>> byteSources() {
+        Map<String, java.util.function.Supplier<byte[]>> sources = new LinkedHashMap<>();
+        sources.put("data.csv-batches", () -> generateCsvBatchUtf8(100 + random().nextInt(400)));
+        sources.put("data.bulk-imports", () -> data().generateLargeJsonUtf8(150));
+        sources.put("ml.experiment-results", () -> data().generateLargeJsonUtf8(200));
+        sources.put("healthcare.fhir-resources", () -> data().generateLargeJsonUtf8(100));
+        sources.put("data.xml-transforms", () -> data().generateLargeXmlUtf8(150));
+        sources.put("data.binary-blobs", this::generateBinaryBlob);
+        sources.put("iot.raw-telemetry", this::generateBinaryBlob);
+        sources.put("_internal.dead-letter-queue", this::generateBinaryBlob);
+        return sources;
+    }
+    
+    // Record generators for Avro topics, used by blast, corpus and bulk modes
+    private Map<String, RecordSupplier> avroSources() {
+        Map<String, RecordSupplier> sources = new LinkedHashMap<>();
+        sources.put("ecommerce.orders", this::generateOrderRecord);
+        sources.put("ecommerce.page-views", this::generatePageViewRecord);
+        sources.put("ecommerce.cart-events", this::generateCartEventRecord);
+        sources.put("payments.transactions", this::generateTransactionRecord);
+        sources.put("iot.sensor-readings", this::generateSensorReadingRecord);
+        sources.put("iot.device-status", this::generateDeviceStatusRecord);
+        sources.put("notifications.email-outbound", this::generateEmailNotificationRecord);
+        sources.put("trading.market-data", this::generateMarketDataRecord);
+        sources.put("metrics.application", this::generateAppMetricRecord);
+        sources.put("audit.system-events", this::generateAuditEventRecord);
+        schemaDriven.forEach((topic, generator) -> sources.put(topic, () -> generateSchemaDrivenRecord(topic, generator)));
+        return sources;
+    }
+    
+    // Message generators for Protobuf topics, used by blast, corpus and bulk modes
+    private Map<String, java.util.function.Supplier<ProtobufMessage>> protobufSources() {
+        Map<String, java.util.function.Supplier<ProtobufMessage>> sources = new LinkedHashMap<>();
+        sources.put("payments.chargebacks", this::generateChargebackMessage);
+        sources.put("iot.firmware-updates", this::generateFirmwareUpdateMessage);
+        sources.put("shipping.carrier-events", this::generateCarrierEventMessage);
+        sources.put("trading.orders", this::generateTradeOrderMessage);
+        sources.put("trading.executions", this::generateTradeExecutionMessage);
+        return sources;
+    }
+    
+    // Payload generators for JSON Schema topics, used by blast, corpus and bulk modes
+    private Map<String, java.util.function.Supplier<JsonSchemaMessage>> jsonSchemaSources() {
+        Map<String, java.util.function.Supplier<JsonSchemaMessage>> sources = new LinkedHashMap<>();
+        sources.put("ecommerce.product-reviews", this::generateProductReview);
+        sources.put("inventory.reorder-alerts", this::generateReorderAlert);
+        sources.put("customers.feedback", this::generateCustomerFeedback);
+        sources.put("notifications.in-app", this::generateInAppNotification);
+        sources.put("shipping.route-optimization", this::generateRouteOptimization);
+        sources.put("ml.model-metrics", this::generateModelMetrics);
+        return sources;
+    }
+    
+    private List<String> supportedTopics(List<String> topics, Set<String> supported) {
+        List<String> result = new ArrayList<>();
+        for (String topic : topics) {
+            if (supported.contains(topic)) {
+                result.add(topic);
+            } else {
+                log.warn("Cannot generate data for {}, supported topics: {}", topic, supported);
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Generate a corpus file per configured topic for later replay with {@link CorpusReplayer}.
+     * Avro, Protobuf and JSON Schema values are stored in wire format, so the embedded schema IDs belong to the current registry.
+     */
+    public void buildCorpus() throws IOException {
+        Path directory = Path.of(config.getCorpusDirectory());
+        int count = config.getCorpusMessagesPerTopic();
+        Map<String, java.util.function.Supplier<ProducerRecord<byte[], byte[]>>> sources = serializedSources();
+        
+        for (String topic : supportedTopics(config.getCorpusTopics(), sources.keySet())) {
+            Path file = directory.resolve(topic + ".corpus");
+            long start = System.currentTimeMillis();
+            // Keys and values both come from the topic's stream, so a seed always yields the same corpus
+            DataGenerator previous = bindStream(topic);
+            try (CorpusWriter writer = new CorpusWriter(file, topic)) {
+                for (int i = 0; i < count; i++) {
+                    ProducerRecord<byte[], byte[]> record = sources.get(topic).get();
+                    writer.write(record.key(), record.headers(), record.value());
+                }
+                log.info("Wrote {} records to {} ({} MB) in {}ms", writer.getRecordCount(), file,
+                    String.format("%.1f", writer.getSize() / (1024.0 * 1024.0)), System.currentTimeMillis() - start);
+            } finally {
+                restoreStream(previous);
+            }
+        }
+    }
+    
+    /**
+     * Send the same generated payload set for each configured topic through every configured codec
+     * and log ratio, CPU time, throughput and broker bytes per topic and codec.
+     */
+    public List<CodecBenchmark.CodecResult> runCodecBenchmark() {
+        return new CodecBenchmark(config).run(generatePayloads(config.getCodecBenchTopics(),
+            config.getCodecBenchMessagesPerTopic(), config.getCodecBenchMaxBytesPerTopic()));
+    }
+    
+    /**
+     * Search producer batching settings for each configured topic family and log the best settings
+     * under the latency SLO as a tuning profile.
+     */
+    public List<ProducerAutoTuner.Trial> runAutoTune() {
+        ProducerAutoTuner tuner = new ProducerAutoTuner(config);
+        List<ProducerAutoTuner.Trial> results = new ArrayList<>();
+        for (ProducerAutoTuner.Family family : ProducerAutoTuner.Family.fromConfig(config.getAutoTuneFamilies())) {
+            Map<String, List<ProducerRecord<byte[], byte[]>>> byTopic = generatePayloads(family.topics(),
+                config.getAutoTunePayloadsPerTopic(), config.getAutoTuneMaxBytesPerTopic());
+            if (byTopic.isEmpty()) {
+                log.warn("No payloads for auto-tune family {}, skipping", family.name());
+                continue;
+            }
+            // Interleave the topics so every batch window sees the whole family
+            List<ProducerRecord<byte[], byte[]>> payloads = new ArrayList<>();
+            int longest = byTopic.values().stream().mapToInt(List::size).max().orElse(0);
+            for (int i = 0; i < longest; i++) {
+                for (List<ProducerRecord<byte[], byte[]>> records : byTopic.values()) {
+                    if (i < records.size()) {
+                        payloads.add(records.get(i));
+                    }
+                }
+            }
+            results.add(tuner.tune(family, tuning.producer(family.name()), payloads));
+        }
+        return results;
+    }
+    
+    // Serialized records per topic, generated up front up to a count or a byte size
+    private Map<String, List<ProducerRecord<byte[], byte[]>>> generatePayloads(List<String> topics, int count, long maxBytes) {
+        Map<String, java.util.function.Supplier<ProducerRecord<byte[], byte[]>>> sources = serializedSources();
+        Map<String, List<ProducerRecord<byte[], byte[]>>> payloads = new LinkedHashMap<>();
+        for (String topic : supportedTopics(topics, sources.keySet())) {
+            DataGenerator previous = bindStream(topic);
+            try {
+                List<ProducerRecord<byte[], byte[]>> records = new ArrayList<>();
+                long bytes = 0;
+                while (records.size() < count && bytes < maxBytes) {
+                    ProducerRecord<byte[], byte[]> record = sources.get(topic).get();
+                    bytes += (record.key() != null ? record.key().length : 0) + record.value().length;
+                    records.add(record);
+                }
+                log.info("Generated {} payloads for {} ({} MB)", records.size(), topic,
+                    String.format("%.1f", bytes / (1024.0 * 1024.0)));
+                payloads.put(topic, records);
+            } finally {
+                restoreStream(previous);
+            }
+        }
+        return payloads;
+    }
+    
+    // Fully serialized records per topic across all families, as they go on the wire
+    private Map<String, java.util.function.Supplier<ProducerRecord<byte[], byte[]>>> serializedSources() {
+        Map<String, java.util.function.Supplier<ProducerRecord<byte[], byte[]>>> sources = new LinkedHashMap<>();
+        stringSources().forEach((topic, values) -> sources.put(topic, () -> new ProducerRecord<>(topic,
+            recordKey(topic).getBytes(StandardCharsets.UTF_8), values.get().getBytes(StandardCharsets.UTF_8))));
+        byteSources().forEach((topic, values) -> sources.put(topic, () -> new ProducerRecord<>(topic,
+            recordKey(topic).getBytes(StandardCharsets.UTF_8), values.get())));
+        avroSources().forEach((topic, values) -> sources.put(topic, () -> {
+            AvroMessage msg = reusingRecords(values::get);
+            RecordHeaders headers = new RecordHeaders();
+            if (msg.headers() != null) {
+                msg.headers().forEach((k, v) -> headers.add(k, v.getBytes(StandardCharsets.UTF_8)));
+            }
+            return new ProducerRecord<>(topic, null, msg.key() == null ? null : msg.key().getBytes(StandardCharsets.UTF_8),
+                avroSerializer.serialize(topic, msg.value()), headers);
+        }));
+        protobufSources().forEach((topic, values) -> sources.put(topic, () -> {
+            ProtobufMessage msg = values.get();
+            RecordHeaders headers = new RecordHeaders();
+            if (msg.headers() != null) {
+                msg.headers().forEach((k, v) -> headers.add(k, v.getBytes(StandardCharsets.UTF_8)));
+            }
+            return new ProducerRecord<>(topic, null, msg.key().getBytes(StandardCharsets.UTF_8),
+                protobufSerializer.serialize(topic, msg.value()), headers);
+        }));
+        jsonSchemaSources().forEach((topic, values) -> sources.put(topic, () -> {
+            JsonSchemaMessage msg = values.get();
+            return new ProducerRecord<>(topic, msg.key().getBytes(StandardCharsets.UTF_8),
+                jsonSchemaSerializer.serialize(topic, msg.value()));
+        }));
+        return sources;
+    }
+    
     // ============================================================
     // CONTINUOUS PRODUCTION METHODS
     // ============================================================
     
     private void produceOrderMessage() {
         try {
-            AvroMessage msg = generateOrderRecord();
+            AvroMessage msg = nextGenerated("ecommerce.orders", this::generateOrderRecord);
             ProducerRecord<String, GenericRecord> record = new ProducerRecord<>("ecommerce.orders", msg.key(), msg.value());
             if (msg.headers() != null) {
                 msg.headers().forEach((k, v) -> record.headers().add(new RecordHeader(k, v.getBytes(StandardCharsets.UTF_8))));
             }
-            avroProducerSnappy.send(record);
-            messageCount.incrementAndGet();
+            deliveryStats.send(tuned(avroProducerSnappy, record.topic()), record);
         } catch (Exception e) {
             log.error("Error producing order message: {}", e.getMessage());
         }
@@ -447,9 +1242,8 @@ public class MessageProducer {
     
     private void producePageViewMessage() {
         try {
-            AvroMessage msg = generatePageViewRecord();
-            avroProducerLz4.send(new ProducerRecord<>("ecommerce.page-views", msg.key(), msg.value()));
-            messageCount.incrementAndGet();
+            AvroMessage msg = nextGenerated("ecommerce.page-views", this::generatePageViewRecord);
+            deliveryStats.send(tuned(avroProducerLz4, "ecommerce.page-views"), new ProducerRecord<>("ecommerce.page-views", msg.key(), msg.value()));
         } catch (Exception e) {
             log.error("Error producing page view message: {}", e.getMessage());
         }
@@ -457,9 +1251,8 @@ public class MessageProducer {
     
     private void produceCartEventMessage() {
         try {
-            AvroMessage msg = generateCartEventRecord();
-            avroProducerNone.send(new ProducerRecord<>("ecommerce.cart-events", msg.key(), msg.value()));
-            messageCount.incrementAndGet();
+            AvroMessage msg = nextGenerated("ecommerce.cart-events", this::generateCartEventRecord);
+            deliveryStats.send(tuned(avroProducerNone, "ecommerce.cart-events"), new ProducerRecord<>("ecommerce.cart-events", msg.key(), msg.value()));
         } catch (Exception e) {
             log.error("Error producing cart event message: {}", e.getMessage());
         }
@@ -467,13 +1260,12 @@ public class MessageProducer {
     
     private void produceTransactionMessage() {
         try {
-            AvroMessage msg = generateTransactionRecord();
+            AvroMessage msg = nextGenerated("payments.transactions", this::generateTransactionRecord);
             ProducerRecord<String, GenericRecord> record = new ProducerRecord<>("payments.transactions", msg.key(), msg.value());
             if (msg.headers() != null) {
                 msg.headers().forEach((k, v) -> record.headers().add(new RecordHeader(k, v.getBytes(StandardCharsets.UTF_8))));
             }
-            avroProducerSnappy.send(record);
-            messageCount.incrementAndGet();
+            deliveryStats.send(tuned(avroProducerSnappy, record.topic()), record);
         } catch (Exception e) {
             log.error("Error producing transaction message: {}", e.getMessage());
         }
@@ -481,13 +1273,12 @@ public class MessageProducer {
     
     private void produceSensorReadingMessage() {
         try {
-            AvroMessage msg = generateSensorReadingRecord();
+            AvroMessage msg = nextGenerated("iot.sensor-readings", this::generateSensorReadingRecord);
             ProducerRecord<String, GenericRecord> record = new ProducerRecord<>("iot.sensor-readings", msg.key(), msg.value());
             if (msg.headers() != null) {
                 msg.headers().forEach((k, v) -> record.headers().add(new RecordHeader(k, v.getBytes(StandardCharsets.UTF_8))));
             }
-            avroProducerLz4.send(record);
-            messageCount.incrementAndGet();
+            deliveryStats.send(tuned(avroProducerLz4, record.topic()), record);
         } catch (Exception e) {
             log.error("Error producing sensor reading message: {}", e.getMessage());
         }
@@ -495,9 +1286,8 @@ public class MessageProducer {
     
     private void produceDeviceStatusMessage() {
         try {
-            AvroMessage msg = generateDeviceStatusRecord();
-            avroProducerNone.send(new ProducerRecord<>("iot.device-status", msg.key(), msg.value()));
-            messageCount.incrementAndGet();
+            AvroMessage msg = nextGenerated("iot.device-status", this::generateDeviceStatusRecord);
+            deliveryStats.send(tuned(avroProducerNone, "iot.device-status"), new ProducerRecord<>("iot.device-status", msg.key(), msg.value()));
         } catch (Exception e) {
             log.error("Error producing device status message: {}", e.getMessage());
         }
@@ -505,9 +1295,8 @@ public class MessageProducer {
     
     private void produceApplicationLogMessage() {
         try {
-            String logMsg = dataGenerator.generateApplicationLog();
-            stringProducerSnappy.send(new ProducerRecord<>("logs.application", null, logMsg));
-            messageCount.incrementAndGet();
+            String logMsg = nextGenerated("logs.application", () -> data().generateApplicationLog());
+            deliveryStats.send(tuned(stringProducerSnappy, "logs.application"), new ProducerRecord<>("logs.application", null, logMsg));
         } catch (Exception e) {
             log.error("Error producing application log message: {}", e.getMessage());
         }
@@ -515,9 +1304,8 @@ public class MessageProducer {
     
     private void produceInfraLogMessage() {
         try {
-            String logMsg = dataGenerator.generateApplicationLog();
-            stringProducerGzip.send(new ProducerRecord<>("logs.infrastructure", null, logMsg));
-            messageCount.incrementAndGet();
+            String logMsg = nextGenerated("logs.infrastructure", () -> data().generateApplicationLog());
+            deliveryStats.send(tuned(stringProducerGzip, "logs.infrastructure"), new ProducerRecord<>("logs.infrastructure", null, logMsg));
         } catch (Exception e) {
             log.error("Error producing infra log message: {}", e.getMessage());
         }
@@ -525,13 +1313,12 @@ public class MessageProducer {
     
     private void produceEmailNotificationMessage() {
         try {
-            AvroMessage msg = generateEmailNotificationRecord();
+            AvroMessage msg = nextGenerated("notifications.email-outbound", this::generateEmailNotificationRecord);
             ProducerRecord<String, GenericRecord> record = new ProducerRecord<>("notifications.email-outbound", msg.key(), msg.value());
             if (msg.headers() != null) {
                 msg.headers().forEach((k, v) -> record.headers().add(new RecordHeader(k, v.getBytes(StandardCharsets.UTF_8))));
             }
-            avroProducerNone.send(record);
-            messageCount.incrementAndGet();
+            deliveryStats.send(tuned(avroProducerNone, record.topic()), record);
         } catch (Exception e) {
             log.error("Error producing email notification message: {}", e.getMessage());
         }
@@ -539,9 +1326,8 @@ public class MessageProducer {
     
     private void produceMarketDataMessage() {
         try {
-            AvroMessage msg = generateMarketDataRecord();
-            avroProducerLz4.send(new ProducerRecord<>("trading.market-data", msg.key(), msg.value()));
-            messageCount.incrementAndGet();
+            AvroMessage msg = nextGenerated("trading.market-data", this::generateMarketDataRecord);
+            deliveryStats.send(tuned(avroProducerLz4, "trading.market-data"), new ProducerRecord<>("trading.market-data", msg.key(), msg.value()));
         } catch (Exception e) {
             log.error("Error producing market data message: {}", e.getMessage());
         }
@@ -549,21 +1335,101 @@ public class MessageProducer {
     
     private void produceAppMetricMessage() {
         try {
-            AvroMessage msg = generateAppMetricRecord();
-            avroProducerSnappy.send(new ProducerRecord<>("metrics.application", msg.key(), msg.value()));
-            messageCount.incrementAndGet();
+            AvroMessage msg = nextGenerated("metrics.application", this::generateAppMetricRecord);
+            deliveryStats.send(tuned(avroProducerSnappy, "metrics.application"), new ProducerRecord<>("metrics.application", msg.key(), msg.value()));
         } catch (Exception e) {
             log.error("Error producing app metric message: {}", e.getMessage());
         }
     }
     
+    private void produceSchemaDrivenMessage(String topic, AvroRecordGenerator generator) {
+        try {
+            AvroMessage msg = nextGenerated(topic, () -> generateSchemaDrivenRecord(topic, generator));
+            deliveryStats.send(tuned(avroProducerLz4, topic), new ProducerRecord<>(topic, msg.key(), msg.value()));
+        } catch (Exception e) {
+            log.error("Error producing schema-driven message to {}: {}", topic, e.getMessage());
+        }
+    }
+    
+    private void produceChargebackMessage() {
+        try {
+            ProtobufMessage msg = nextGenerated("payments.chargebacks", this::generateChargebackMessage);
+            deliveryStats.send(tuned(protobufProducerSnappy, "payments.chargebacks"), protobufRecord("payments.chargebacks", msg));
+        } catch (Exception e) {
+            log.error("Error producing chargeback message: {}", e.getMessage());
+        }
+    }
+    
+    private void produceFirmwareUpdateMessage() {
+        try {
+            ProtobufMessage msg = nextGenerated("iot.firmware-updates", this::generateFirmwareUpdateMessage);
+            deliveryStats.send(tuned(protobufProducerSnappy, "iot.firmware-updates"), protobufRecord("iot.firmware-updates", msg));
+        } catch (Exception e) {
+            log.error("Error producing firmware update message: {}", e.getMessage());
+        }
+    }
+    
+    private void produceCarrierEventMessage() {
+        try {
+            ProtobufMessage msg = nextGenerated("shipping.carrier-events", this::generateCarrierEventMessage);
+            deliveryStats.send(tuned(protobufProducerSnappy, "shipping.carrier-events"), protobufRecord("shipping.carrier-events", msg));
+        } catch (Exception e) {
+            log.error("Error producing carrier event message: {}", e.getMessage());
+        }
+    }
+    
+    private void produceTradeOrderMessage() {
+        try {
+            ProtobufMessage msg = nextGenerated("trading.orders", this::generateTradeOrderMessage);
+            deliveryStats.send(tuned(protobufProducerLz4, "trading.orders"), protobufRecord("trading.orders", msg));
+        } catch (Exception e) {
+            log.error("Error producing trade order message: {}", e.getMessage());
+        }
+    }
+    
+    private void produceTradeExecutionMessage() {
+        try {
+            ProtobufMessage msg = nextGenerated("trading.executions", this::generateTradeExecutionMessage);
+            deliveryStats.send(tuned(protobufProducerLz4, "trading.executions"), protobufRecord("trading.executions", msg));
+        } catch (Exception e) {
+            log.error("Error producing trade execution message: {}", e.getMessage());
+        }
+    }
+    
+    private void produceJsonSchemaMessage(String topic, KafkaProducer<String, Object> producer,
+                                          java.util.function.Supplier<JsonSchemaMessage> generator) {
+        try {
+            JsonSchemaMessage msg = nextGenerated(topic, generator);
+            deliveryStats.send(tuned(producer, topic), new ProducerRecord<>(topic, msg.key(), msg.value()));
+        } catch (Exception e) {
+            log.error("Error producing JSON Schema message to {}: {}", topic, e.getMessage());
+        }
+    }
+    
+    private ProducerRecord<String, Message> protobufRecord(String topic, ProtobufMessage msg) {
+        ProducerRecord<String, Message> record = new ProducerRecord<>(topic, msg.key(), msg.value());
+        if (msg.headers() != null) {
+            msg.headers().forEach((k, v) -> record.headers().add(new RecordHeader(k, v.getBytes(StandardCharsets.UTF_8))));
+        }
+        return record;
+    }
+    
     // ============================================================
-    // RECORD GENERATION METHODS
+    // PRODUCER SCHEMAS - parsed once and shared by every record
     // ============================================================
+    // Order, sensor reading and market data are package-private for AvroSerializerBenchmark
+    
+    // The typed fills in DataGenerator write by position, so each schema must list their fields in the same order
+    private static Schema positional(List<String> fields, Schema schema) {
+        List<String> names = schema.getFields().stream().map(Schema.Field::name).toList();
+        if (!names.equals(fields)) {
+            throw new IllegalStateException("Fields of " + schema.getFullName() + " " + names
+                + " do not match the generator's field order " + fields);
+        }
+        return schema;
+    }
     
-    private AvroMessage generateOrderRecord() {
-        Map<String, Object> data = dataGenerator.generateOrder();
-        String schemaJson = """
+    static final Schema ORDER_SCHEMA = positional(DataGenerator.ORDER_FIELDS, AvroSchemaCache.register(AvroSchemaCache.PRODUCER_VERSION, """
             {"type":"record","name":"Order","namespace":"com.certak.kafka.ecommerce","fields":[
                 {"name":"orderId","type":"string"},
                 {"name":"customerId","type":"string"},
@@ -578,34 +1444,9 @@ public class MessageProducer {
                 {"name":"createdAt","type":"long"},
                 {"name":"updatedAt","type":["null","long"],"default":null}
             ]}
-            """;
-        
-        Schema schema = new Schema.Parser().parse(schemaJson);
-        GenericRecord record = new GenericData.Record(schema);
-        record.put("orderId", data.get("orderId"));
-        record.put("customerId", data.get("customerId"));
-        record.put("customerEmail", data.get("customerEmail"));
-        record.put("totalAmount", data.get("totalAmount"));
-        record.put("taxAmount", data.get("taxAmount"));
-        record.put("discountAmount", data.get("discountAmount"));
-        record.put("currency", data.get("currency"));
-        record.put("status", data.get("status"));
-        record.put("paymentMethod", data.get("paymentMethod"));
-        record.put("notes", data.get("notes"));
-        record.put("createdAt", data.get("createdAt"));
-        record.put("updatedAt", data.get("updatedAt"));
-        
-        Map<String, String> headers = Map.of(
-            "event-type", "order.created",
-            "correlation-id", UUID.randomUUID().toString()
-        );
-        
-        return new AvroMessage((String) data.get("orderId"), record, headers);
-    }
+            """));
     
-    private AvroMessage generatePageViewRecord() {
-        Map<String, Object> data = dataGenerator.generatePageView();
-        String schemaJson = """
+    private static final Schema PAGE_VIEW_SCHEMA = positional(DataGenerator.PAGE_VIEW_FIELDS, AvroSchemaCache.register(AvroSchemaCache.PRODUCER_VERSION, """
             {"type":"record","name":"PageView","namespace":"com.certak.kafka.analytics","fields":[
                 {"name":"viewId","type":"string"},
                 {"name":"userId","type":"string"},
@@ -622,31 +1463,9 @@ public class MessageProducer {
                 {"name":"timestamp","type":"long"},
                 {"name":"durationMs","type":["null","long"],"default":null}
             ]}
-            """;
-        
-        Schema schema = new Schema.Parser().parse(schemaJson);
-        GenericRecord record = new GenericData.Record(schema);
-        record.put("viewId", data.get("viewId"));
-        record.put("userId", data.get("userId"));
-        record.put("sessionId", data.get("sessionId"));
-        record.put("pageUrl", data.get("pageUrl"));
-        record.put("pageTitle", data.get("pageTitle"));
-        record.put("referrer", data.get("referrer"));
-        record.put("userAgent", data.get("userAgent"));
-        record.put("ipAddress", data.get("ipAddress"));
-        record.put("country", data.get("country"));
-        record.put("region", data.get("region"));
-        record.put("deviceType", data.get("deviceType"));
-        record.put("browser", data.get("browser"));
-        record.put("timestamp", data.get("timestamp"));
-        record.put("durationMs", ((Number) data.get("durationMs")).longValue());
-        
-        return new AvroMessage((String) data.get("userId"), record, null);
-    }
+            """));
     
-    private AvroMessage generateCartEventRecord() {
-        Map<String, Object> data = dataGenerator.generateCartEvent();
-        String schemaJson = """
+    private static final Schema CART_EVENT_SCHEMA = positional(DataGenerator.CART_EVENT_FIELDS, AvroSchemaCache.register(AvroSchemaCache.PRODUCER_VERSION, """
             {"type":"record","name":"CartEvent","namespace":"com.certak.kafka.ecommerce","fields":[
                 {"name":"eventId","type":"string"},
                 {"name":"cartId","type":"string"},
@@ -656,24 +1475,9 @@ public class MessageProducer {
                 {"name":"quantity","type":["null","int"],"default":null},
                 {"name":"timestamp","type":"long"}
             ]}
-            """;
-        
-        Schema schema = new Schema.Parser().parse(schemaJson);
-        GenericRecord record = new GenericData.Record(schema);
-        record.put("eventId", data.get("eventId"));
-        record.put("cartId", data.get("cartId"));
-        record.put("userId", data.get("userId"));
-        record.put("eventType", data.get("eventType"));
-        record.put("productId", data.get("productId"));
-        record.put("quantity", data.get("quantity"));
-        record.put("timestamp", data.get("timestamp"));
-        
-        return new AvroMessage((String) data.get("userId"), record, null);
-    }
+            """));
     
-    private AvroMessage generateTransactionRecord() {
-        Map<String, Object> data = dataGenerator.generateTransaction();
-        String schemaJson = """
+    private static final Schema TRANSACTION_SCHEMA = positional(DataGenerator.TRANSACTION_FIELDS, AvroSchemaCache.register(AvroSchemaCache.PRODUCER_VERSION, """
             {"type":"record","name":"Transaction","namespace":"com.certak.kafka.payments","fields":[
                 {"name":"transactionId","type":"string"},
                 {"name":"orderId","type":"string"},
@@ -691,37 +1495,9 @@ public class MessageProducer {
                 {"name":"timestamp","type":"long"},
                 {"name":"processedAt","type":["null","long"],"default":null}
             ]}
-            """;
-        
-        Schema schema = new Schema.Parser().parse(schemaJson);
-        GenericRecord record = new GenericData.Record(schema);
-        record.put("transactionId", data.get("transactionId"));
-        record.put("orderId", data.get("orderId"));
-        record.put("customerId", data.get("customerId"));
-        record.put("amount", data.get("amount"));
-        record.put("fee", data.get("fee"));
-        record.put("netAmount", data.get("netAmount"));
-        record.put("currency", data.get("currency"));
-        record.put("paymentMethod", data.get("paymentMethod"));
-        record.put("cardLast4", data.get("cardLast4"));
-        record.put("cardBrand", data.get("cardBrand"));
-        record.put("status", data.get("status"));
-        record.put("gatewayResponse", data.get("gatewayResponse"));
-        record.put("riskScore", data.get("riskScore"));
-        record.put("timestamp", data.get("timestamp"));
-        record.put("processedAt", data.get("processedAt"));
-        
-        Map<String, String> headers = Map.of(
-            "event-type", "payment.processed",
-            "idempotency-key", UUID.randomUUID().toString()
-        );
-        
-        return new AvroMessage((String) data.get("transactionId"), record, headers);
-    }
+            """));
     
-    private AvroMessage generateSensorReadingRecord() {
-        Map<String, Object> data = dataGenerator.generateSensorReading();
-        String schemaJson = """
+    static final Schema SENSOR_READING_SCHEMA = positional(DataGenerator.SENSOR_READING_FIELDS, AvroSchemaCache.register(AvroSchemaCache.PRODUCER_VERSION, """
             {"type":"record","name":"SensorReading","namespace":"com.certak.kafka.iot","fields":[
                 {"name":"readingId","type":"string"},
                 {"name":"deviceId","type":"string"},
@@ -733,31 +1509,9 @@ public class MessageProducer {
                 {"name":"timestamp","type":"long"},
                 {"name":"receivedAt","type":["null","long"],"default":null}
             ]}
-            """;
-        
-        Schema schema = new Schema.Parser().parse(schemaJson);
-        GenericRecord record = new GenericData.Record(schema);
-        record.put("readingId", data.get("readingId"));
-        record.put("deviceId", data.get("deviceId"));
-        record.put("sensorId", data.get("sensorId"));
-        record.put("sensorType", data.get("sensorType"));
-        record.put("value", data.get("value"));
-        record.put("unit", data.get("unit"));
-        record.put("quality", data.get("quality"));
-        record.put("timestamp", data.get("timestamp"));
-        record.put("receivedAt", data.get("receivedAt"));
-        
-        Map<String, String> headers = Map.of(
-            "device-id", (String) data.get("deviceId"),
-            "sensor-type", (String) data.get("sensorType")
-        );
-        
-        return new AvroMessage((String) data.get("deviceId"), record, headers);
-    }
+            """));
     
-    private AvroMessage generateDeviceStatusRecord() {
-        Map<String, Object> data = dataGenerator.generateDeviceStatus();
-        String schemaJson = """
+    private static final Schema DEVICE_STATUS_SCHEMA = positional(DataGenerator.DEVICE_STATUS_FIELDS, AvroSchemaCache.register(AvroSchemaCache.PRODUCER_VERSION, """
             {"type":"record","name":"DeviceStatus","namespace":"com.certak.kafka.iot","fields":[
                 {"name":"deviceId","type":"string"},
                 {"name":"status","type":"string"},
@@ -767,24 +1521,9 @@ public class MessageProducer {
                 {"name":"lastSeen","type":"long"},
                 {"name":"errorMessage","type":["null","string"],"default":null}
             ]}
-            """;
-        
-        Schema schema = new Schema.Parser().parse(schemaJson);
-        GenericRecord record = new GenericData.Record(schema);
-        record.put("deviceId", data.get("deviceId"));
-        record.put("status", data.get("status"));
-        record.put("batteryLevel", data.get("batteryLevel"));
-        record.put("signalStrength", data.get("signalStrength"));
-        record.put("firmwareVersion", data.get("firmwareVersion"));
-        record.put("lastSeen", data.get("lastSeen"));
-        record.put("errorMessage", data.get("errorMessage"));
-        
-        return new AvroMessage((String) data.get("deviceId"), record, null);
-    }
+            """));
     
-    private AvroMessage generateEmailNotificationRecord() {
-        Map<String, Object> data = dataGenerator.generateEmailNotification();
-        String schemaJson = """
+    private static final Schema EMAIL_NOTIFICATION_SCHEMA = positional(DataGenerator.EMAIL_NOTIFICATION_FIELDS, AvroSchemaCache.register(AvroSchemaCache.PRODUCER_VERSION, """
             {"type":"record","name":"EmailNotification","namespace":"com.certak.kafka.notifications","fields":[
                 {"name":"notificationId","type":"string"},
                 {"name":"recipientEmail","type":"string"},
@@ -795,30 +1534,9 @@ public class MessageProducer {
                 {"name":"scheduledAt","type":["null","long"],"default":null},
                 {"name":"createdAt","type":"long"}
             ]}
-            """;
-        
-        Schema schema = new Schema.Parser().parse(schemaJson);
-        GenericRecord record = new GenericData.Record(schema);
-        record.put("notificationId", data.get("notificationId"));
-        record.put("recipientEmail", data.get("recipientEmail"));
-        record.put("recipientName", data.get("recipientName"));
-        record.put("subject", data.get("subject"));
-        record.put("templateId", data.get("templateId"));
-        record.put("priority", data.get("priority"));
-        record.put("scheduledAt", data.get("scheduledAt"));
-        record.put("createdAt", data.get("createdAt"));
-        
-        Map<String, String> headers = Map.of(
-            "template-id", (String) data.get("templateId"),
-            "priority", (String) data.get("priority")
-        );
-        
-        return new AvroMessage((String) data.get("notificationId"), record, headers);
-    }
+            """));
     
-    private AvroMessage generateMarketDataRecord() {
-        Map<String, Object> data = dataGenerator.generateMarketData();
-        String schemaJson = """
+    static final Schema MARKET_DATA_SCHEMA = positional(DataGenerator.MARKET_DATA_FIELDS, AvroSchemaCache.register(AvroSchemaCache.PRODUCER_VERSION, """
             {"type":"record","name":"MarketData","namespace":"com.certak.kafka.trading","fields":[
                 {"name":"symbol","type":"string"},
                 {"name":"exchange","type":"string"},
@@ -835,31 +1553,9 @@ public class MessageProducer {
                 {"name":"previousClose","type":["null","double"],"default":null},
                 {"name":"timestamp","type":"long"}
             ]}
-            """;
-        
-        Schema schema = new Schema.Parser().parse(schemaJson);
-        GenericRecord record = new GenericData.Record(schema);
-        record.put("symbol", data.get("symbol"));
-        record.put("exchange", data.get("exchange"));
-        record.put("price", data.get("price"));
-        record.put("bid", data.get("bid"));
-        record.put("ask", data.get("ask"));
-        record.put("bidSize", data.get("bidSize"));
-        record.put("askSize", data.get("askSize"));
-        record.put("volume", ((Number) data.get("volume")).longValue());
-        record.put("vwap", data.get("vwap"));
-        record.put("open", data.get("open"));
-        record.put("high", data.get("high"));
-        record.put("low", data.get("low"));
-        record.put("previousClose", data.get("previousClose"));
-        record.put("timestamp", data.get("timestamp"));
-        
-        return new AvroMessage((String) data.get("symbol"), record, null);
-    }
+            """));
     
-    private AvroMessage generateAppMetricRecord() {
-        Map<String, Object> data = dataGenerator.generateAppMetric();
-        String schemaJson = """
+    private static final Schema APP_METRIC_SCHEMA = positional(DataGenerator.APP_METRIC_FIELDS, AvroSchemaCache.register(AvroSchemaCache.PRODUCER_VERSION, """
             {"type":"record","name":"ApplicationMetric","namespace":"com.certak.kafka.metrics","fields":[
                 {"name":"metricId","type":"string"},
                 {"name":"serviceName","type":"string"},
@@ -869,24 +1565,9 @@ public class MessageProducer {
                 {"name":"value","type":"double"},
                 {"name":"timestamp","type":"long"}
             ]}
-            """;
-        
-        Schema schema = new Schema.Parser().parse(schemaJson);
-        GenericRecord record = new GenericData.Record(schema);
-        record.put("metricId", data.get("metricId"));
-        record.put("serviceName", data.get("serviceName"));
-        record.put("instanceId", data.get("instanceId"));
-        record.put("metricName", data.get("metricName"));
-        record.put("metricType", data.get("metricType"));
-        record.put("value", data.get("value"));
-        record.put("timestamp", data.get("timestamp"));
-        
-        return new AvroMessage((String) data.get("serviceName") + "-" + data.get("instanceId"), record, null);
-    }
+            """));
     
-    private AvroMessage generateAuditEventRecord() {
-        Map<String, Object> data = dataGenerator.generateAuditEvent();
-        String schemaJson = """
+    private static final Schema AUDIT_EVENT_SCHEMA = positional(DataGenerator.AUDIT_EVENT_FIELDS, AvroSchemaCache.register(AvroSchemaCache.PRODUCER_VERSION, """
             {"type":"record","name":"AuditEvent","namespace":"com.certak.kafka.audit","fields":[
                 {"name":"eventId","type":"string"},
                 {"name":"eventType","type":"string"},
@@ -899,27 +1580,527 @@ public class MessageProducer {
                 {"name":"newState","type":["null","string"],"default":null},
                 {"name":"timestamp","type":"long"}
             ]}
-            """;
+            """));
+    
+    // ============================================================
+    // RECORD GENERATION METHODS
+    // ============================================================
+    
+    /**
+     * Record to fill for a schema: the calling thread's reusable one inside {@link #reusingRecords},
+     * otherwise a new one. Every field is overwritten by the fill, so nothing leaks between records.
+     */
+    private GenericData.Record avroRecord(Schema schema) {
+        if (!reuseRecords.get()) {
+            return new GenericData.Record(schema);
+        }
+        return reusableRecords.get().computeIfAbsent(schema, GenericData.Record::new);
+    }
+    
+    /**
+     * Runs a generation step whose records are serialized before the thread generates the next one,
+     * so they can share the thread's reusable records. Buffered records (pre-generation, bulk) must not.
+     */
+    private <T> T reusingRecords(java.util.function.Supplier<T> step) {
+        if (reuseRecords.get()) {
+            return step.get();
+        }
+        reuseRecords.set(true);
+        try {
+            return step.get();
+        } finally {
+            reuseRecords.set(false);
+        }
+    }
+    
+    private AvroMessage generateOrderRecord() {
+        GenericData.Record record = avroRecord(ORDER_SCHEMA);
+        data().fillOrder(record);
+        
+        Map<String, String> headers = Map.of(
+            "event-type", "order.created",
+            "correlation-id", data().uuid()
+        );
+        
+        return new AvroMessage(recordKey("ecommerce.orders", (String) record.get("orderId")), record, headers);
+    }
+    
+    private AvroMessage generatePageViewRecord() {
+        GenericData.Record record = avroRecord(PAGE_VIEW_SCHEMA);
+        data().fillPageView(record);
+        
+        return new AvroMessage(recordKey("ecommerce.page-views", (String) record.get("userId")), record, null);
+    }
+    
+    private AvroMessage generateCartEventRecord() {
+        GenericData.Record record = avroRecord(CART_EVENT_SCHEMA);
+        data().fillCartEvent(record);
+        
+        return new AvroMessage(recordKey("ecommerce.cart-events", (String) record.get("userId")), record, null);
+    }
+    
+    private AvroMessage generateTransactionRecord() {
+        GenericData.Record record = avroRecord(TRANSACTION_SCHEMA);
+        data().fillTransaction(record);
+        
+        Map<String, String> headers = Map.of(
+            "event-type", "payment.processed",
+            "idempotency-key", data().uuid()
+        );
+        
+        return new AvroMessage(recordKey("payments.transactions", (String) record.get("transactionId")), record, headers);
+    }
+    
+    private AvroMessage generateSensorReadingRecord() {
+        GenericData.Record record = avroRecord(SENSOR_READING_SCHEMA);
+        data().fillSensorReading(record);
+        
+        Map<String, String> headers = Map.of(
+            "device-id", (String) record.get("deviceId"),
+            "sensor-type", (String) record.get("sensorType")
+        );
+        
+        return new AvroMessage(recordKey("iot.sensor-readings", (String) record.get("deviceId")), record, headers);
+    }
+    
+    private AvroMessage generateDeviceStatusRecord() {
+        GenericData.Record record = avroRecord(DEVICE_STATUS_SCHEMA);
+        data().fillDeviceStatus(record);
+        
+        return new AvroMessage(recordKey("iot.device-status", (String) record.get("deviceId")), record, null);
+    }
+    
+    private AvroMessage generateEmailNotificationRecord() {
+        GenericData.Record record = avroRecord(EMAIL_NOTIFICATION_SCHEMA);
+        data().fillEmailNotification(record);
+        
+        Map<String, String> headers = Map.of(
+            "template-id", (String) record.get("templateId"),
+            "priority", (String) record.get("priority")
+        );
+        
+        return new AvroMessage(recordKey("notifications.email-outbound", (String) record.get("notificationId")), record, headers);
+    }
+    
+    private AvroMessage generateMarketDataRecord() {
+        GenericData.Record record = avroRecord(MARKET_DATA_SCHEMA);
+        data().fillMarketData(record);
+        
+        return new AvroMessage(recordKey("trading.market-data", (String) record.get("symbol")), record, null);
+    }
+    
+    private AvroMessage generateAppMetricRecord() {
+        GenericData.Record record = avroRecord(APP_METRIC_SCHEMA);
+        data().fillAppMetric(record);
+        
+        return new AvroMessage(recordKey("metrics.application", record.get("serviceName") + "-" + record.get("instanceId")), record, null);
+    }
+    
+    private AvroMessage generateAuditEventRecord() {
+        GenericData.Record record = avroRecord(AUDIT_EVENT_SCHEMA);
+        data().fillAuditEvent(record);
+        
+        Map<String, String> headers = Map.of(
+            "entity-type", (String) record.get("entityType"),
+            "action", (String) record.get("action")
+        );
+        
+        return new AvroMessage(recordKey("audit.system-events", (String) record.get("eventId")), record, headers);
+    }
+    
+    // Keyed by the record's first ID field, or a random key if its schema has none
+    private AvroMessage generateSchemaDrivenRecord(String topic, AvroRecordGenerator generator) {
+        GenericRecord record = generator.generate(data());
+        String key = generator.key(record);
+        return new AvroMessage(key != null ? recordKey(topic, key) : recordKey(topic), record, null);
+    }
+    
+    // ============================================================
+    // PROTOBUF MESSAGE GENERATION - built directly on the generated classes
+    // ============================================================
+    
+    private static final List<Chargeback.ChargebackStatus> CHARGEBACK_STATUSES = List.of(
+        Chargeback.ChargebackStatus.PENDING, Chargeback.ChargebackStatus.UNDER_REVIEW, Chargeback.ChargebackStatus.WON,
+        Chargeback.ChargebackStatus.LOST, Chargeback.ChargebackStatus.ACCEPTED);
+    private static final List<Map.Entry<String, String>> CHARGEBACK_REASONS = List.of(
+        Map.entry("10.4", "Fraud - card absent environment"),
+        Map.entry("12.6", "Duplicate processing"),
+        Map.entry("13.1", "Merchandise/services not received"),
+        Map.entry("13.2", "Cancelled recurring transaction"),
+        Map.entry("13.3", "Not as described or defective merchandise"));
+    private static final List<FirmwareUpdate.UpdatePriority> UPDATE_PRIORITIES = List.of(
+        FirmwareUpdate.UpdatePriority.LOW, FirmwareUpdate.UpdatePriority.NORMAL, FirmwareUpdate.UpdatePriority.NORMAL,
+        FirmwareUpdate.UpdatePriority.HIGH, FirmwareUpdate.UpdatePriority.CRITICAL);
+    private static final List<CarrierEvent.CarrierEventType> CARRIER_EVENT_TYPES = List.of(
+        CarrierEvent.CarrierEventType.PICKED_UP, CarrierEvent.CarrierEventType.IN_TRANSIT, CarrierEvent.CarrierEventType.IN_TRANSIT,
+        CarrierEvent.CarrierEventType.IN_TRANSIT, CarrierEvent.CarrierEventType.OUT_FOR_DELIVERY, CarrierEvent.CarrierEventType.DELIVERED,
+        CarrierEvent.CarrierEventType.DELIVERY_ATTEMPT, CarrierEvent.CarrierEventType.EXCEPTION, CarrierEvent.CarrierEventType.RETURNED);
+    private static final List<TradeOrder.OrderType> ORDER_TYPES = List.of(
+        TradeOrder.OrderType.MARKET, TradeOrder.OrderType.MARKET, TradeOrder.OrderType.LIMIT, TradeOrder.OrderType.LIMIT,
+        TradeOrder.OrderType.STOP, TradeOrder.OrderType.STOP_LIMIT);
+    private static final List<TradeOrder.TimeInForce> TIMES_IN_FORCE = List.of(
+        TradeOrder.TimeInForce.DAY, TradeOrder.TimeInForce.DAY, TradeOrder.TimeInForce.GTC,
+        TradeOrder.TimeInForce.IOC, TradeOrder.TimeInForce.FOK);
+    private static final List<TradeOrder.OrderStatus> ORDER_STATUSES = List.of(
+        TradeOrder.OrderStatus.PENDING, TradeOrder.OrderStatus.OPEN, TradeOrder.OrderStatus.OPEN,
+        TradeOrder.OrderStatus.PARTIALLY_FILLED, TradeOrder.OrderStatus.FILLED, TradeOrder.OrderStatus.FILLED,
+        TradeOrder.OrderStatus.FILLED, TradeOrder.OrderStatus.CANCELLED, TradeOrder.OrderStatus.REJECTED,
+        TradeOrder.OrderStatus.EXPIRED);
+    private static final List<String> EXCHANGES = List.of("NYSE", "NASDAQ", "BATS", "IEX", "ARCA");
+    
+    private ProtobufMessage generateChargebackMessage() {
+        long initiatedAt = Instant.now().minusSeconds(random().nextInt(86400 * 30)).toEpochMilli();
+        Chargeback.ChargebackStatus status = randomFrom(CHARGEBACK_STATUSES);
+        Map.Entry<String, String> reason = randomFrom(CHARGEBACK_REASONS);
+        Chargeback.Builder chargeback = Chargeback.newBuilder()
+            .setChargebackId("CB-" + data().uuid().substring(0, 8))
+            .setTransactionId(data().getRandomTransactionId())
+            .setOrderId(data().getRandomOrderId())
+            .setAmount(roundTo2(10 + random().nextDouble() * 990))
+            .setCurrency(randomFrom(List.of("USD", "USD", "EUR", "GBP")))
+            .setReasonCode(reason.getKey())
+            .setReasonDescription(reason.getValue())
+            .setStatus(status)
+            .setCardLast4(String.format("%04d", random().nextInt(10000)))
+            .setCardBrand(randomFrom(List.of("VISA", "MASTERCARD", "AMEX", "DISCOVER")))
+            .setInitiatedAt(initiatedAt)
+            .setDueDate(initiatedAt + 30L * 86_400_000);
+        if (status == Chargeback.ChargebackStatus.WON || status == Chargeback.ChargebackStatus.LOST
+                || status == Chargeback.ChargebackStatus.ACCEPTED) {
+            chargeback.setResolvedAt(initiatedAt + (1 + random().nextInt(30)) * 86_400_000L)
+                .setResolution(status == Chargeback.ChargebackStatus.WON ? "REVERSED" : "DEBITED");
+        }
+        int documents = status == Chargeback.ChargebackStatus.PENDING ? 0 : 1 + random().nextInt(3);
+        for (int i = 0; i < documents; i++) {
+            String type = randomFrom(List.of("RECEIPT", "PROOF_OF_DELIVERY", "CORRESPONDENCE", "REFUND_POLICY"));
+            chargeback.addDocuments(Chargeback.Document.newBuilder()
+                .setDocumentId("DOC-" + data().uuid().substring(0, 8))
+                .setDocumentType(type)
+                .setFileName(type.toLowerCase(Locale.ROOT) + "-" + (i + 1) + ".pdf")
+                .setUploadedAt(initiatedAt + (i + 1) * 3_600_000L));
+        }
         
-        Schema schema = new Schema.Parser().parse(schemaJson);
-        GenericRecord record = new GenericData.Record(schema);
-        record.put("eventId", data.get("eventId"));
-        record.put("eventType", data.get("eventType"));
-        record.put("entityType", data.get("entityType"));
-        record.put("entityId", data.get("entityId"));
-        record.put("action", data.get("action"));
-        record.put("actorId", data.get("actorId"));
-        record.put("actorType", data.get("actorType"));
-        record.put("previousState", data.get("previousState"));
-        record.put("newState", data.get("newState"));
-        record.put("timestamp", data.get("timestamp"));
+        Map<String, String> headers = Map.of("event-type", "chargeback." + status.name().toLowerCase(Locale.ROOT));
+        return new ProtobufMessage(recordKey("payments.chargebacks", chargeback.getTransactionId()), chargeback.build(), headers);
+    }
+    
+    private ProtobufMessage generateFirmwareUpdateMessage() {
+        String deviceId = data().getRandomDeviceId();
+        int major = 1 + random().nextInt(4);
+        int minor = random().nextInt(10);
+        String targetVersion = major + "." + (minor + 1) + ".0";
+        FirmwareUpdate.UpdatePriority priority = randomFrom(UPDATE_PRIORITIES);
+        long createdAt = Instant.now().toEpochMilli();
+        FirmwareUpdate update = FirmwareUpdate.newBuilder()
+            .setUpdateId("FW-" + data().uuid().substring(0, 8))
+            .setDeviceId(deviceId)
+            .setCurrentVersion(major + "." + minor + "." + random().nextInt(20))
+            .setTargetVersion(targetVersion)
+            .setFirmwareUrl("https://firmware.example.com/releases/" + targetVersion + "/image.bin")
+            .setChecksum(data().uuid().replace("-", "") + data().uuid().replace("-", ""))
+            .setChecksumType(FirmwareUpdate.ChecksumType.SHA256)
+            .setFileSize(1_048_576L + random().nextInt(63 * 1_048_576))
+            .setPriority(priority)
+            .setForceUpdate(priority == FirmwareUpdate.UpdatePriority.CRITICAL)
+            .setScheduledAt(createdAt + random().nextInt(86400) * 1000L)
+            .setCreatedAt(createdAt)
+            .putMetadata("hardware-revision", "rev-" + (char) ('A' + random().nextInt(4)))
+            .putMetadata("rollout-wave", String.valueOf(1 + random().nextInt(5)))
+            .build();
         
         Map<String, String> headers = Map.of(
-            "entity-type", (String) data.get("entityType"),
-            "action", (String) data.get("action")
+            "command-type", "firmware.update",
+            "correlation-id", data().uuid()
         );
+        return new ProtobufMessage(recordKey("iot.firmware-updates", deviceId), update, headers);
+    }
+    
+    private ProtobufMessage generateCarrierEventMessage() {
+        CarrierEvent.CarrierEventType type = randomFrom(CARRIER_EVENT_TYPES);
+        long timestamp = Instant.now().toEpochMilli();
+        CarrierEvent.Builder event = CarrierEvent.newBuilder()
+            .setEventId(data().uuid())
+            .setTrackingNumber("1Z" + data().uuid().replace("-", "").substring(0, 16).toUpperCase(Locale.ROOT))
+            .setCarrierCode(randomFrom(List.of("UPS", "FEDEX", "USPS", "DHL", "ONTRAC")))
+            .setEventType(type)
+            .setLocationCity(randomCity())
+            .setLocationState(randomState())
+            .setLocationCountry("US")
+            .setLocationPostalCode(randomZip())
+            .setEventTimestamp(timestamp)
+            .setDescription(switch (type) {
+                case PICKED_UP -> "Shipment picked up";
+                case IN_TRANSIT -> "Arrived at carrier facility";
+                case OUT_FOR_DELIVERY -> "Out for delivery";
+                case DELIVERED -> "Delivered";
+                case DELIVERY_ATTEMPT -> "Delivery attempted";
+                case EXCEPTION -> "Delivery exception";
+                case RETURNED -> "Returned to sender";
+                default -> "Status update";
+            });
+        if (type == CarrierEvent.CarrierEventType.EXCEPTION || type == CarrierEvent.CarrierEventType.DELIVERY_ATTEMPT) {
+            Map.Entry<String, String> exception = randomFrom(List.of(
+                Map.entry("NA", "Recipient not available"),
+                Map.entry("AD", "Incorrect address"),
+                Map.entry("WX", "Weather delay"),
+                Map.entry("DM", "Package damaged")));
+            event.setExceptionCode(exception.getKey()).setExceptionDescription(exception.getValue());
+        }
+        if (type == CarrierEvent.CarrierEventType.DELIVERED && random().nextBoolean()) {
+            event.setSignature(CarrierEvent.SignatureInfo.newBuilder()
+                .setSignerName(randomName())
+                .setSignedAt(timestamp)
+                .setRelationship(randomFrom(List.of("RECIPIENT", "FAMILY", "NEIGHBOR", "FRONT_DESK"))));
+        }
+        
+        return new ProtobufMessage(recordKey("shipping.carrier-events", event.getTrackingNumber()), event.build(), null);
+    }
+    
+    private ProtobufMessage generateTradeOrderMessage() {
+        String symbol = data().getRandomSymbol();
+        double price = data().getQuotePrice(symbol);
+        TradeOrder.OrderType type = randomFrom(ORDER_TYPES);
+        TradeOrder.OrderStatus status = randomFrom(ORDER_STATUSES);
+        long quantity = (1 + random().nextInt(100)) * 10L;
+        long filled = switch (status) {
+            case FILLED -> quantity;
+            case PARTIALLY_FILLED -> quantity * (1 + random().nextInt(9)) / 10;
+            default -> 0;
+        };
+        long createdAt = Instant.now().toEpochMilli() - random().nextInt(60_000);
+        TradeOrder.Builder order = TradeOrder.newBuilder()
+            .setOrderId(data().nextTradeOrderId())
+            .setAccountId("ACC-" + (100000 + random().nextInt(5000)))
+            .setSymbol(symbol)
+            .setSide(random().nextBoolean() ? TradeOrder.OrderSide.BUY : TradeOrder.OrderSide.SELL)
+            .setOrderType(type)
+            .setTimeInForce(randomFrom(TIMES_IN_FORCE))
+            .setQuantity(quantity)
+            .setFilledQuantity(filled)
+            .setStatus(status)
+            .setExchange(randomFrom(EXCHANGES))
+            .setCreatedAt(createdAt)
+            .setUpdatedAt(createdAt + random().nextInt(5_000))
+            .setClientOrderId("C-" + data().uuid().substring(0, 8));
+        if (type == TradeOrder.OrderType.LIMIT || type == TradeOrder.OrderType.STOP_LIMIT) {
+            order.setLimitPrice(roundTo2(price * (0.99 + random().nextDouble() * 0.02)));
+        }
+        if (type == TradeOrder.OrderType.STOP || type == TradeOrder.OrderType.STOP_LIMIT) {
+            order.setStopPrice(roundTo2(price * (0.97 + random().nextDouble() * 0.06)));
+        }
+        if (filled > 0) {
+            order.setAverageFillPrice(price);
+        }
+        if (status == TradeOrder.OrderStatus.REJECTED) {
+            order.setRejectReason(randomFrom(List.of("INSUFFICIENT_FUNDS", "PRICE_OUT_OF_BAND", "SYMBOL_HALTED", "MAX_ORDER_SIZE")));
+        }
         
-        return new AvroMessage((String) data.get("eventId"), record, headers);
+        Map<String, String> headers = Map.of(
+            "event-type", "order." + status.name().toLowerCase(Locale.ROOT),
+            "correlation-id", data().uuid()
+        );
+        return new ProtobufMessage(recordKey("trading.orders", symbol), order.build(), headers);
+    }
+    
+    private ProtobufMessage generateTradeExecutionMessage() {
+        String symbol = data().getRandomSymbol();
+        long quantity = (1 + random().nextInt(50)) * 10L;
+        long executedAt = Instant.now().toEpochMilli();
+        TradeExecution execution = TradeExecution.newBuilder()
+            .setExecutionId("EX-" + data().uuid().substring(0, 13))
+            .setOrderId(data().getRandomTradeOrderId())
+            .setAccountId("ACC-" + (100000 + random().nextInt(5000)))
+            .setSymbol(symbol)
+            .setSide(random().nextBoolean() ? TradeExecution.ExecutionSide.BUY : TradeExecution.ExecutionSide.SELL)
+            .setQuantity(quantity)
+            .setPrice(data().getQuotePrice(symbol))
+            .setCommission(roundTo2(Math.max(1.0, quantity * 0.005)))
+            .setExchange(randomFrom(EXCHANGES))
+            .setLiquidityIndicator(random().nextInt(3) == 0 ? "R" : "A")
+            .setExecutedAt(executedAt)
+            .setSettlementDate(LocalDate.ofInstant(Instant.ofEpochMilli(executedAt), ZoneOffset.UTC).plusDays(1).toString())
+            .build();
+        
+        Map<String, String> headers = Map.of(
+            "event-type", "execution.fill",
+            "correlation-id", data().uuid()
+        );
+        return new ProtobufMessage(recordKey("trading.executions", symbol), execution, headers);
+    }
+    
+    // ============================================================
+    // JSON SCHEMA MESSAGE GENERATION
+    // ============================================================
+    
+    private static final List<String> REVIEW_TITLES = List.of("Disappointed", "Not great", "It's okay", "Really good", "Excellent!");
+    private static final List<String> REVIEW_PROS = List.of("Great value", "Fast shipping", "Easy to use", "Well built", "Looks great", "Long battery life");
+    private static final List<String> REVIEW_CONS = List.of("Pricey", "Flimsy packaging", "Instructions unclear", "Runs small", "Noisy", "Short cable");
+    private static final List<String> FEEDBACK_TYPES = List.of("NPS", "CSAT", "CES", "GENERAL", "COMPLAINT", "SUGGESTION");
+    private static final List<String> FEEDBACK_CHANNELS = List.of("WEB", "MOBILE_APP", "EMAIL", "PHONE", "CHAT", "SOCIAL");
+    private static final List<String> ML_MODELS = List.of("fraud-detector", "churn-predictor", "recommendation-ranker", "demand-forecaster", "price-optimizer");
+    private static final List<String> ML_FEATURES = List.of("order_value", "account_age_days", "sessions_7d", "avg_basket_size", "days_since_last_order", "device_type");
+    
+    private JsonSchemaMessage generateProductReview() {
+        int rating = 1 + random().nextInt(5);
+        long createdAt = Instant.now().minusSeconds(random().nextInt(86400 * 90)).toEpochMilli();
+        String productId = data().getRandomProductId();
+        List<String> pros = rating >= 3 ? List.of(randomFrom(REVIEW_PROS), randomFrom(REVIEW_PROS)) : List.of();
+        List<String> cons = rating <= 3 ? List.of(randomFrom(REVIEW_CONS)) : List.of();
+        List<JsonSchemaPayloads.ReviewImage> images = random().nextInt(4) == 0
+            ? List.of(new JsonSchemaPayloads.ReviewImage(
+                "https://images.example.com/reviews/" + data().uuid().substring(0, 8) + ".jpg", "Customer photo"))
+            : List.of();
+        String text = REVIEW_TITLES.get(rating - 1) + ". "
+            + (pros.isEmpty() ? "" : pros.get(0) + ". ")
+            + (cons.isEmpty() ? "" : "Only complaint: " + cons.get(0).toLowerCase(Locale.ROOT) + ". ")
+            + (rating >= 4 ? "Would recommend." : "Would not buy again.");
+        JsonSchemaPayloads.ProductReview review = new JsonSchemaPayloads.ProductReview(
+            "REV-" + data().uuid().substring(0, 8), productId, data().getRandomCustomerId(), rating,
+            REVIEW_TITLES.get(rating - 1), text, pros, cons, random().nextDouble() < 0.8, random().nextInt(50), images,
+            createdAt, random().nextInt(5) == 0 ? createdAt + random().nextInt(86_400_000) : null);
+        return new JsonSchemaMessage(recordKey("ecommerce.product-reviews", productId), review);
+    }
+    
+    private JsonSchemaMessage generateReorderAlert() {
+        String productId = data().getRandomProductId();
+        int reorderPoint = 50 + random().nextInt(200);
+        int currentStock = random().nextInt(reorderPoint);
+        double salesVelocity = roundTo2(1 + random().nextDouble() * 40);
+        double daysUntilStockout = roundTo2(currentStock / salesVelocity);
+        String priority = daysUntilStockout < 2 ? "CRITICAL" : daysUntilStockout < 5 ? "HIGH" : daysUntilStockout < 10 ? "MEDIUM" : "LOW";
+        JsonSchemaPayloads.ReorderAlert alert = new JsonSchemaPayloads.ReorderAlert(
+            "RA-" + data().uuid().substring(0, 8), productId, "SKU-" + productId.substring(5),
+            randomCategory() + " - " + randomSearchTerm(), data().getRandomWarehouseId(), currentStock, reorderPoint,
+            reorderPoint * 2, "SUP-" + (100 + random().nextInt(50)), 3 + random().nextInt(18), priority,
+            salesVelocity, daysUntilStockout, Instant.now().toEpochMilli());
+        return new JsonSchemaMessage(recordKey("inventory.reorder-alerts", productId), alert);
+    }
+    
+    private JsonSchemaMessage generateCustomerFeedback() {
+        String type = randomFrom(FEEDBACK_TYPES);
+        Integer score = switch (type) {
+            case "NPS" -> random().nextInt(11);
+            case "CSAT" -> 1 + random().nextInt(5);
+            case "CES" -> 1 + random().nextInt(7);
+            default -> null;
+        };
+        String sentiment = switch (type) {
+            case "COMPLAINT" -> "NEGATIVE";
+            case "NPS" -> score >= 9 ? "POSITIVE" : score >= 7 ? "NEUTRAL" : "NEGATIVE";
+            case "CSAT" -> score >= 4 ? "POSITIVE" : score == 3 ? "NEUTRAL" : "NEGATIVE";
+            case "CES" -> score >= 5 ? "POSITIVE" : score >= 3 ? "NEUTRAL" : "NEGATIVE";
+            default -> randomFrom(List.of("POSITIVE", "NEUTRAL", "NEGATIVE"));
+        };
+        String channel = randomFrom(FEEDBACK_CHANNELS);
+        String customerId = data().getRandomCustomerId();
+        JsonSchemaPayloads.CustomerFeedback feedback = new JsonSchemaPayloads.CustomerFeedback(
+            "FB-" + data().uuid().substring(0, 8), customerId,
+            random().nextInt(10) < 7 ? data().getRandomOrderId() : null, type, score,
+            switch (sentiment) {
+                case "POSITIVE" -> "Everything arrived on time, thanks!";
+                case "NEGATIVE" -> "My order was late and support took days to reply.";
+                default -> "It was fine.";
+            },
+            randomFrom(List.of("DELIVERY", "PRODUCT", "SUPPORT", "CHECKOUT")), null, sentiment, channel,
+            channel.equals("PHONE") || channel.equals("CHAT") ? "AGENT-" + (100 + random().nextInt(200)) : null,
+            random().nextBoolean(), sentiment.equals("NEGATIVE"),
+            sentiment.equals("NEGATIVE") ? List.of("escalate", channel.toLowerCase(Locale.ROOT)) : List.of(channel.toLowerCase(Locale.ROOT)),
+            Instant.now().toEpochMilli());
+        return new JsonSchemaMessage(recordKey("customers.feedback", customerId), feedback);
+    }
+    
+    private JsonSchemaMessage generateInAppNotification() {
+        String type = randomFrom(List.of("INFO", "SUCCESS", "WARNING", "ERROR", "PROMOTION", "SYSTEM"));
+        String userId = data().getRandomCustomerId();
+        String orderId = data().getRandomOrderId();
+        long createdAt = Instant.now().toEpochMilli();
+        boolean read = random().nextInt(3) == 0;
+        String[] content = switch (type) {
+            case "SUCCESS" -> new String[] {"Order confirmed", "Your order " + orderId + " has been placed."};
+            case "WARNING" -> new String[] {"Payment expiring", "Your saved card expires this month."};
+            case "ERROR" -> new String[] {"Payment failed", "We couldn't charge your card for order " + orderId + "."};
+            case "PROMOTION" -> new String[] {"20% off " + randomCategory(), "Save on " + randomCategory().toLowerCase(Locale.ROOT) + " this weekend only."};
+            case "SYSTEM" -> new String[] {"Scheduled maintenance", "Some features may be unavailable tonight from 1-3am."};
+            default -> new String[] {"Order shipped", "Order " + orderId + " is on its way."};
+        };
+        JsonSchemaPayloads.InAppNotification notification = new JsonSchemaPayloads.InAppNotification(
+            "IAN-" + data().uuid().substring(0, 8), userId, content[0], content[1], type, type.toLowerCase(Locale.ROOT),
+            "https://cdn.example.com/icons/" + type.toLowerCase(Locale.ROOT) + ".png",
+            "https://app.example.com/orders/" + orderId, "View", Map.of("orderId", orderId),
+            type.equals("ERROR") ? "HIGH" : type.equals("PROMOTION") ? "LOW" : "NORMAL", read,
+            read ? createdAt + random().nextInt(3_600_000) : null,
+            type.equals("PROMOTION") ? createdAt + 7L * 86_400_000 : null, createdAt);
+        return new JsonSchemaMessage(recordKey("notifications.in-app", userId), notification);
+    }
+    
+    private JsonSchemaMessage generateRouteOptimization() {
+        int stopCount = 5 + random().nextInt(16);
+        double depotLatitude = 30 + random().nextDouble() * 15;
+        double depotLongitude = -120 + random().nextDouble() * 45;
+        long createdAt = Instant.now().toEpochMilli();
+        long eta = createdAt + 3_600_000;
+        double distanceKm = 0;
+        List<JsonSchemaPayloads.RouteStop> stops = new ArrayList<>(stopCount);
+        for (int i = 0; i < stopCount; i++) {
+            double legKm = 1 + random().nextDouble() * 8;
+            int serviceMinutes = 2 + random().nextInt(10);
+            distanceKm += legKm;
+            eta += (long) (legKm * 2 + serviceMinutes) * 60_000;
+            stops.add(new JsonSchemaPayloads.RouteStop("STOP-" + data().uuid().substring(0, 8), data().getRandomOrderId(), i + 1,
+                Math.round((depotLatitude + (random().nextDouble() - 0.5) * 0.4) * 1e5) / 1e5,
+                Math.round((depotLongitude + (random().nextDouble() - 0.5) * 0.4) * 1e5) / 1e5,
+                randomStreet() + ", " + randomCity(), eta, eta - 1_800_000, eta + 1_800_000, serviceMinutes,
+                random().nextInt(5) == 0 ? "HIGH" : "NORMAL"));
+        }
+        String routeId = "ROUTE-" + data().uuid().substring(0, 8);
+        JsonSchemaPayloads.RouteOptimization route = new JsonSchemaPayloads.RouteOptimization(
+            routeId, "DRV-" + (1000 + random().nextInt(500)), "VEH-" + (100 + random().nextInt(200)),
+            new JsonSchemaPayloads.Location(Math.round(depotLatitude * 1e5) / 1e5, Math.round(depotLongitude * 1e5) / 1e5,
+                randomStreet() + ", " + randomCity()),
+            stops, roundTo2(distanceKm), (int) ((eta - createdAt - 3_600_000) / 60_000),
+            roundTo2(0.7 + random().nextDouble() * 0.3), randomFrom(List.of("OR-TOOLS", "GENETIC", "SAVINGS", "NEAREST_NEIGHBOR")),
+            new JsonSchemaPayloads.RouteConstraints(25, 250.0, 600, 1200.0),
+            randomFrom(List.of("PLANNED", "PLANNED", "IN_PROGRESS", "COMPLETED", "CANCELLED")), createdAt, null);
+        return new JsonSchemaMessage(recordKey("shipping.route-optimization", routeId), route);
+    }
+    
+    private JsonSchemaMessage generateModelMetrics() {
+        String modelId = randomFrom(ML_MODELS);
+        boolean regression = modelId.equals("demand-forecaster") || modelId.equals("price-optimizer");
+        long predictions = 10_000 + random().nextInt(990_000);
+        JsonSchemaPayloads.ConfusionMatrix matrix = null;
+        Double accuracy = null, precision = null, recall = null, f1 = null, auc = null, rmse = null, mae = null;
+        if (regression) {
+            rmse = roundTo2(1 + random().nextDouble() * 20);
+            mae = roundTo2(rmse * (0.6 + random().nextDouble() * 0.3));
+        } else {
+            // Metrics derived from one confusion matrix, so they stay mutually consistent
+            long positives = (long) (predictions * (0.05 + random().nextDouble() * 0.3));
+            long truePositives = (long) (positives * (0.7 + random().nextDouble() * 0.29));
+            long falsePositives = (long) ((predictions - positives) * random().nextDouble() * 0.05);
+            matrix = new JsonSchemaPayloads.ConfusionMatrix(truePositives, predictions - positives - falsePositives,
+                falsePositives, positives - truePositives);
+            accuracy = Math.round((double) (predictions - falsePositives - (positives - truePositives)) / predictions * 1e4) / 1e4;
+            precision = Math.round((double) truePositives / Math.max(1, truePositives + falsePositives) * 1e4) / 1e4;
+            recall = Math.round((double) truePositives / Math.max(1, positives) * 1e4) / 1e4;
+            f1 = precision + recall > 0 ? Math.round(2 * precision * recall / (precision + recall) * 1e4) / 1e4 : 0.0;
+            auc = Math.round((0.8 + random().nextDouble() * 0.19) * 1e4) / 1e4;
+        }
+        Map<String, Double> importance = new LinkedHashMap<>();
+        double remaining = 1.0;
+        for (int i = 0; i < 4; i++) {
+            double share = i == 3 ? remaining : remaining * (0.3 + random().nextDouble() * 0.4);
+            importance.put(ML_FEATURES.get((i + modelId.length()) % ML_FEATURES.size()), Math.round(share * 1e4) / 1e4);
+            remaining -= share;
+        }
+        double avgLatency = roundTo2(2 + random().nextDouble() * 30);
+        JsonSchemaPayloads.ModelMetrics metrics = new JsonSchemaPayloads.ModelMetrics(
+            "MM-" + data().uuid().substring(0, 8), modelId, "v" + (1 + random().nextInt(5)) + "." + random().nextInt(10),
+            randomFrom(List.of("DEVELOPMENT", "STAGING", "PRODUCTION", "PRODUCTION")),
+            accuracy, precision, recall, f1, auc, rmse, mae, matrix, importance, predictions, avgLatency,
+            roundTo2(avgLatency * (2 + random().nextDouble() * 3)), Math.round(random().nextDouble() * 0.02 * 1e4) / 1e4,
+            1_000_000L + random().nextInt(9_000_000), 600 + random().nextInt(7200), Instant.now().toEpochMilli());
+        return new JsonSchemaMessage(recordKey("ml.model-metrics", modelId), metrics);
     }
     
     // ============================================================
@@ -930,11 +2111,11 @@ public class MessageProducer {
         return String.format("""
             {"queryId":"%s","userId":"%s","query":"%s","filters":%s,"results":%d,"timestamp":%d}
             """,
-            UUID.randomUUID().toString(),
-            dataGenerator.getRandomCustomerId(),
+            data().uuid(),
+            data().getRandomCustomerId(),
             randomSearchTerm(),
             "{\"category\":\"" + randomCategory() + "\"}",
-            random.nextInt(500),
+            random().nextInt(500),
             Instant.now().toEpochMilli()
         ).trim();
     }
@@ -943,10 +2124,10 @@ public class MessageProducer {
         return String.format("""
             {"webhookId":"%s","source":"%s","eventType":"%s","payload":%s,"receivedAt":%d}
             """,
-            UUID.randomUUID().toString(),
+            data().uuid(),
             randomFrom(List.of("stripe", "shopify", "sendgrid", "twilio", "github")),
             randomFrom(List.of("payment.completed", "order.created", "email.delivered", "message.sent")),
-            "{\"id\":\"" + UUID.randomUUID().toString().substring(0, 8) + "\"}",
+            "{\"id\":\"" + data().uuid().substring(0, 8) + "\"}",
             Instant.now().toEpochMilli()
         ).trim();
     }
@@ -955,9 +2136,9 @@ public class MessageProducer {
         return String.format("""
             {"eventId":"%s","eventName":"%s","properties":%s,"timestamp":%d}
             """,
-            UUID.randomUUID().toString(),
+            data().uuid(),
             randomFrom(List.of("button_click", "form_submit", "video_play", "scroll_depth", "feature_used")),
-            "{\"element\":\"button-" + random.nextInt(100) + "\",\"value\":" + random.nextInt(1000) + "}",
+            "{\"element\":\"button-" + random().nextInt(100) + "\",\"value\":" + random().nextInt(1000) + "}",
             Instant.now().toEpochMilli()
         ).trim();
     }
@@ -965,11 +2146,11 @@ public class MessageProducer {
     private String generateMainframeRecord() {
         // Fixed-width mainframe-style record
         return String.format("%-10s%-30s%-20s%010d%015.2f%-8s%n",
-            "TXN" + String.format("%07d", random.nextInt(10000000)),
+            "TXN" + String.format("%07d", random().nextInt(10000000)),
             padRight(randomName(), 30),
             padRight(randomCity(), 20),
-            random.nextInt(1000000000),
-            random.nextDouble() * 10000,
+            random().nextInt(1000000000),
+            random().nextDouble() * 10000,
             Instant.now().toString().substring(0, 8).replace("-", "")
         );
     }
@@ -983,13 +2164,13 @@ public class MessageProducer {
             PV1|1|I|WARD^ROOM^BED|||||||ATT^%s^%s
             """,
             timestamp,
-            UUID.randomUUID().toString().substring(0, 8).toUpperCase(),
+            data().uuid().substring(0, 8).toUpperCase(),
             timestamp,
-            String.format("%08d", random.nextInt(100000000)),
+            String.format("%08d", random().nextInt(100000000)),
             randomLastName().toUpperCase(),
             randomFirstName().toUpperCase(),
             randomDate(),
-            random.nextBoolean() ? "M" : "F",
+            random().nextBoolean() ? "M" : "F",
             randomStreet(),
             randomCity(),
             randomState(),
@@ -999,22 +2180,26 @@ public class MessageProducer {
         );
     }
     
-    private String generateCsvBatch(int rows) {
-        StringBuilder sb = new StringBuilder();
-        sb.append("id,name,email,company,amount,currency,status,created_at\n");
+    // A slice of the pre-filled slab, so no per-message random fill
+    private byte[] generateBinaryBlob() {
+        return binarySlab.next(random());
+    }
+    
+    // Written as UTF-8 straight into the thread's payload buffer, one allocation per batch
+    private byte[] generateCsvBatchUtf8(int rows) {
+        PayloadBuffer out = PayloadBuffer.acquire();
+        out.append("id,name,email,company,amount,currency,status,created_at\n");
         for (int i = 0; i < rows; i++) {
-            sb.append(String.format("%s,%s,%s,%s,%.2f,%s,%s,%s\n",
-                UUID.randomUUID().toString().substring(0, 8),
-                randomName(),
-                randomEmail(),
-                randomCompany().replace(",", ""),
-                random.nextDouble() * 10000,
-                "USD",
-                randomFrom(List.of("PENDING", "COMPLETED", "FAILED")),
-                Instant.now().minusSeconds(random.nextInt(86400 * 30)).toString()
-            ));
+            out.append(data().uuid().substring(0, 8)).append(",")
+                .append(randomName()).append(",")
+                .append(randomEmail()).append(",")
+                .append(randomCompany().replace(",", "")).append(",")
+                .appendDecimal2(random().nextDouble() * 10000).append(",")
+                .append("USD").append(",")
+                .append(randomFrom(List.of("PENDING", "COMPLETED", "FAILED"))).append(",")
+                .append(Instant.now().minusSeconds(random().nextInt(86400 * 30)).toString()).append("\n");
         }
-        return sb.toString();
+        return out.toByteArray();
     }
     
     // Simple random data helpers
@@ -1047,7 +2232,7 @@ public class MessageProducer {
     }
     
     private String randomStreet() {
-        return random.nextInt(9999) + " " + randomFrom(List.of("Main", "Oak", "Maple", "Cedar", "Pine")) + " " + randomFrom(List.of("St", "Ave", "Blvd", "Dr"));
+        return random().nextInt(9999) + " " + randomFrom(List.of("Main", "Oak", "Maple", "Cedar", "Pine")) + " " + randomFrom(List.of("St", "Ave", "Blvd", "Dr"));
     }
     
     private String randomCity() {
@@ -1059,22 +2244,101 @@ public class MessageProducer {
     }
     
     private String randomZip() {
-        return String.format("%05d", random.nextInt(100000));
+        return String.format("%05d", random().nextInt(100000));
     }
     
     private String randomDate() {
-        int year = 1950 + random.nextInt(50);
-        int month = 1 + random.nextInt(12);
-        int day = 1 + random.nextInt(28);
+        int year = 1950 + random().nextInt(50);
+        int month = 1 + random().nextInt(12);
+        int day = 1 + random().nextInt(28);
         return String.format("%04d%02d%02d", year, month, day);
     }
     
+    private static double roundTo2(double value) {
+        return Math.round(value * 100.0) / 100.0;
+    }
+    
     private String padRight(String s, int n) {
         return String.format("%-" + n + "s", s).substring(0, n);
     }
     
     private <T> T randomFrom(List<T> list) {
-        return list.get(random.nextInt(list.size()));
+        return list.get(random().nextInt(list.size()));
+    }
+    
+    // Runs a generator, recording the time spent generating data for the topic
+    private <T> T generate(String topic, java.util.function.Supplier<T> generator) {
+        return generate(topic, topic, generator);
+    }
+    
+    // Generates for a topic from a named random stream, for topics with more than one generator thread
+    private <T> T generate(String topic, String stream, java.util.function.Supplier<T> generator) {
+        DataGenerator previous = bindStream(stream);
+        try {
+            return SeedKitMetrics.time("seedkit_generator", generator, "topic", topic);
+        } finally {
+            restoreStream(previous);
+        }
+    }
+    
+    // ============================================================
+    // RANDOM STREAMS
+    // ============================================================
+    
+    /**
+     * Generator for the calling thread: the bound topic's stream, or the thread's own stream for
+     * code that runs outside any topic (e.g. blast workers), so no generator is shared between threads.
+     */
+    private DataGenerator data() {
+        DataGenerator stream = currentStream.get();
+        return stream != null ? stream : threadStream.get();
+    }
+    
+    private Random random() {
+        return data().getRandom();
+    }
+    
+    // Key for a topic normally keyed by random IDs, from its configured key space if it has one
+    private String recordKey(String topic) {
+        KeySampler sampler = keySamplers.get(topic);
+        return sampler != null ? keyPrefixes.get(topic) + data().nextKey(sampler) : data().uuid();
+    }
+    
+    // Key for a topic keyed by an entity ID, replaced by its configured key space if it has one
+    private String recordKey(String topic, String defaultKey) {
+        KeySampler sampler = keySamplers.get(topic);
+        return sampler != null ? keyPrefixes.get(topic) + data().nextKey(sampler) : defaultKey;
+    }
+    
+    private int keyIndex(String topic, int defaultSize) {
+        KeySampler sampler = keySamplers.get(topic);
+        return sampler != null ? data().nextKey(sampler) : random().nextInt(defaultSize);
+    }
+    
+    // Runs a seeder or continuous producer with the topic's random stream bound to its thread
+    private Runnable inStream(String topic, Runnable task) {
+        return () -> {
+            DataGenerator previous = bindStream(topic);
+            try {
+                task.run();
+            } finally {
+                restoreStream(previous);
+            }
+        };
+    }
+    
+    private DataGenerator bindStream(String stream) {
+        DataGenerator previous = currentStream.get();
+        currentStream.set(streams.computeIfAbsent(stream, dataGenerator::forStream));
+        return previous;
+    }
+    
+    private void restoreStream(DataGenerator previous) {
+        if (previous != null) {
+            currentStream.set(previous);
+        } else {
+            currentStream.remove();
+        }
     }
     
     private TopicDefinitions.TopicDef getTopicDef(String topicName) {
@@ -1086,7 +2350,11 @@ public class MessageProducer {
     
     public void stop() {
         running.set(false);
-        scheduledTasks.forEach(f -> f.cancel(false));
+        SeedKitMetrics.unregisterCollector(metricsCollector);
+        pregenerated.values().forEach(PregeneratedSource::stop);
+        logPregenerationStats();
+        metricsClientIds.forEach(SeedKitMetrics::unregisterClient);
+        rateController.stop();
         scheduler.shutdown();
         try {
             scheduler.awaitTermination(5, TimeUnit.SECONDS);
@@ -1098,15 +2366,56 @@ public class MessageProducer {
         stringProducerSnappy.close();
         stringProducerGzip.close();
         stringProducerNone.close();
+        bytesProducerSnappy.close();
+        bytesProducerGzip.close();
+        binaryProducerLz4.close();
+        variants.values().forEach(byProfile -> byProfile.values().forEach(KafkaProducer::close));
         // Close all avro producers
         avroProducerLz4.close();
         avroProducerSnappy.close();
         avroProducerNone.close();
-        log.info("Message producer stopped. Total messages produced: {}", messageCount.get());
+        // Close all protobuf producers
+        protobufProducerLz4.close();
+        protobufProducerSnappy.close();
+        // Close all JSON Schema producers
+        jsonSchemaProducerLz4.close();
+        jsonSchemaProducerSnappy.close();
+        deliveryStats.logSummary();
+        log.info("Message producer stopped. Total messages: {} attempted, {} acked, {} failed",
+            deliveryStats.getTotalAttempted(), deliveryStats.getTotalAcked(), deliveryStats.getTotalFailed());
     }
     
+    /**
+     * Number of messages acknowledged by the broker.
+     */
     public long getMessageCount() {
-        return messageCount.get();
+        return deliveryStats.getTotalAcked();
+    }
+    
+    /**
+     * Get per-topic pre-generation buffer fill and stall times for continuous producers.
+     */
+    public Map<String, PregeneratedSource.Stats> getPregenerationStats() {
+        Map<String, PregeneratedSource.Stats> stats = new TreeMap<>();
+        pregenerated.forEach((topic, source) -> stats.put(topic, source.stats()));
+        return stats;
+    }
+    
+    private void logPregenerationStats() {
+        Map<String, PregeneratedSource.Stats> stats = getPregenerationStats();
+        if (stats.isEmpty()) {
+            return;
+        }
+        log.info("Pre-generation (fill/capacity, generator stall ms, send stall ms, inline/generated):");
+        stats.forEach((topic, s) -> log.info("  {} - {}/{}, {} ms, {} ms, {}/{}",
+            topic, s.fill(), s.capacity(), s.generatorStallMs(), s.sendStallMs(), s.generatedInline(), s.generated()));
+    }
+    
+    /**
+     * Get per-topic delivery statistics (attempted, acked, failed, bytes, ack latency).
+     */
+    public Map<String, DeliveryStats.TopicStats> getProducerStats() {
+        return deliveryStats.getStats();
     }
     
     @FunctionalInterface
@@ -1115,4 +2424,8 @@ public class MessageProducer {
     }
     
     private record AvroMessage(String key, GenericRecord value, Map<String, String> headers) {}
+    
+    private record ProtobufMessage(String key, Message value, Map<String, String> headers) {}
+    
+    private record JsonSchemaMessage(String key, Object value) {}
 }
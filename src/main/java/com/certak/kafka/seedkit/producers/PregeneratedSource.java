@@ -0,0 +1,144 @@
+package com.certak.kafka.seedkit.producers;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * Generates values for one topic ahead of time on a dedicated thread.
+ *
+ * The generator thread keeps an {@link SpscRingBuffer} topped up and parks while it is full;
+ * the send path only takes ready values. If the buffer runs dry the value is generated inline
+ * so the send rate is kept, and the time spent doing so is counted as send stall. Generator stall
+ * (buffer full) therefore means sending is the bottleneck, and send stall means generation is.
+ */
+public class PregeneratedSource<T> {
+    private static final Logger log = LoggerFactory.getLogger(PregeneratedSource.class);
+
+    private static final long MAX_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long TAKE_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    private final String topic;
+    private final Supplier<T> generator;
+    private final Supplier<T> inlineGenerator;
+    private final SpscRingBuffer<T> buffer;
+    private final Thread thread;
+    private final AtomicLong generated = new AtomicLong();
+    private final AtomicLong generatedInline = new AtomicLong();
+    private final AtomicLong generatorStallNanos = new AtomicLong();
+    private final AtomicLong sendStallNanos = new AtomicLong();
+    private volatile boolean running = true;
+
+    /**
+     * A source read only with {@link #take()}, which never generates on the caller's thread.
+     */
+    public PregeneratedSource(String topic, Supplier<T> generator, int capacity) {
+        this(topic, generator, () -> {
+            throw new IllegalStateException("Source for " + topic + " is read with take()");
+        }, capacity);
+    }
+
+    /**
+     * @param generator       runs on the source's own thread
+     * @param inlineGenerator runs on the send path when the buffer is empty, possibly while {@code generator}
+     *                        is running, so the two must not share unsynchronized state
+     */
+    public PregeneratedSource(String topic, Supplier<T> generator, Supplier<T> inlineGenerator, int capacity) {
+        this.topic = topic;
+        this.generator = generator;
+        this.inlineGenerator = inlineGenerator;
+        this.buffer = new SpscRingBuffer<>(capacity);
+        this.thread = Thread.ofPlatform().daemon().name("pregenerate-" + topic).start(this::fill);
+    }
+
+    /**
+     * Take the next pre-generated value, generating inline if none is ready.
+     */
+    public T next() {
+        T value = buffer.poll();
+        if (value != null) {
+            LockSupport.unpark(thread);
+            return value;
+        }
+        long start = System.nanoTime();
+        try {
+            return inlineGenerator.get();
+        } finally {
+            generatedInline.incrementAndGet();
+            sendStallNanos.addAndGet(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Take the next pre-generated value, waiting for the generator if none is ready. Unlike
+     * {@link #next()} this never generates on the caller's thread, so values keep the generator's
+     * order. Returns null once the source is stopped.
+     */
+    public T take() {
+        long start = 0;
+        int spins = 0;
+        T value;
+        while ((value = buffer.poll()) == null) {
+            if (!running) {
+                return null;
+            }
+            if (start == 0) {
+                start = System.nanoTime();
+            }
+            if (++spins < 100) {
+                Thread.onSpinWait();
+            } else {
+                LockSupport.parkNanos(TAKE_PARK_NANOS);
+            }
+        }
+        LockSupport.unpark(thread);
+        if (start != 0) {
+            sendStallNanos.addAndGet(System.nanoTime() - start);
+        }
+        return value;
+    }
+
+    public void stop() {
+        running = false;
+        LockSupport.unpark(thread);
+    }
+
+    public Stats stats() {
+        return new Stats(buffer.size(), buffer.capacity(), generated.get(), generatedInline.get(),
+            TimeUnit.NANOSECONDS.toMillis(generatorStallNanos.get()), TimeUnit.NANOSECONDS.toMillis(sendStallNanos.get()));
+    }
+
+    private void fill() {
+        T pending = null;
+        while (running) {
+            try {
+                if (pending == null) {
+                    pending = generator.get();
+                    generated.incrementAndGet();
+                }
+                if (buffer.offer(pending)) {
+                    pending = null;
+                } else {
+                    // Full - wait for the send path to take a value (it unparks us)
+                    long start = System.nanoTime();
+                    LockSupport.parkNanos(this, MAX_PARK_NANOS);
+                    generatorStallNanos.addAndGet(System.nanoTime() - start);
+                }
+            } catch (Exception e) {
+                log.error("Generator for {} failed: {}", topic, e.getMessage());
+                LockSupport.parkNanos(TimeUnit.SECONDS.toNanos(1));
+            }
+        }
+    }
+
+    /**
+     * Buffer fill level and stall times. {@code generated} counts values made ahead of time,
+     * {@code generatedInline} those made on the send path because the buffer was empty.
+     */
+    public record Stats(int fill, int capacity, long generated, long generatedInline,
+                        long generatorStallMs, long sendStallMs) {}
+}
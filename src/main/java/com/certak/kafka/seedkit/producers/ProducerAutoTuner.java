@@ -0,0 +1,272 @@
+package com.certak.kafka.seedkit.producers;
+
+import com.certak.kafka.seedkit.config.SeedKitConfig;
+import com.certak.kafka.seedkit.metrics.LatencyHistogram;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.*;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Searches batch.size, linger.ms and max.in.flight.requests.per.connection for the best producer
+ * throughput under a latency SLO.
+ *
+ * Each trial recreates the producer with candidate settings and drives a steady closed-loop workload
+ * (a fixed number of outstanding records) from pre-generated payloads. After a warmup it measures
+ * acknowledged throughput and send-to-ack latency, alongside the producer's record-send-rate,
+ * batch-size-avg, request-latency-avg and buffer-pool wait time. The search is coordinate descent:
+ * one setting is varied at a time around the best trial so far, for a number of rounds or until a
+ * round brings no improvement.
+ */
+public class ProducerAutoTuner {
+    private static final Logger log = LoggerFactory.getLogger(ProducerAutoTuner.class);
+    private static final double MB = 1024.0 * 1024.0;
+
+    private final SeedKitConfig config;
+    private final double latencySloMs;
+    private final double latencyPercentile;
+
+    public ProducerAutoTuner(SeedKitConfig config) {
+        this.config = config;
+        this.latencySloMs = config.getAutoTuneLatencySloMs();
+        this.latencyPercentile = config.getAutoTuneLatencyPercentile();
+    }
+
+    /**
+     * Tune the producer settings for one topic family and log the trials and the suggested profile.
+     *
+     * @param base     settings every trial starts from (the candidate settings are applied on top)
+     * @param payloads records the workload cycles through
+     */
+    public Trial tune(Family family, Map<String, Object> base, List<ProducerRecord<byte[], byte[]>> payloads) {
+        log.info("Auto-tuning {} on {} ({} payloads, {} compression), p{} latency SLO {} ms",
+            family.name(), family.topics(), payloads.size(), family.compression(),
+            formatPercentile(), latencySloMs);
+
+        List<List<Integer>> dimensions = List.of(
+            config.getAutoTuneBatchSizes(), config.getAutoTuneLingerMs(), config.getAutoTuneMaxInFlight());
+        int[] start = {
+            nearest(dimensions.get(0), base.get(ProducerConfig.BATCH_SIZE_CONFIG), 16384),
+            nearest(dimensions.get(1), base.get(ProducerConfig.LINGER_MS_CONFIG), 0),
+            nearest(dimensions.get(2), base.get(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION), 5)};
+
+        Map<List<Integer>, Trial> trials = new LinkedHashMap<>();
+        Trial best = trial(family, base, payloads, start[0], start[1], start[2], trials);
+        for (int round = 1; round <= config.getAutoTuneRounds(); round++) {
+            Trial roundStart = best;
+            for (int dimension = 0; dimension < dimensions.size(); dimension++) {
+                for (int value : dimensions.get(dimension)) {
+                    int[] candidate = {best.batchSize(), best.lingerMs(), best.maxInFlight()};
+                    candidate[dimension] = value;
+                    Trial trial = trial(family, base, payloads, candidate[0], candidate[1], candidate[2], trials);
+                    if (better(trial, best)) {
+                        best = trial;
+                    }
+                }
+            }
+            if (best == roundStart) {
+                log.info("  Round {} brought no improvement, stopping", round);
+                break;
+            }
+        }
+
+        logReport(family, trials.values(), best);
+        return best;
+    }
+
+    // Runs a trial unless these settings were already tried
+    private Trial trial(Family family, Map<String, Object> base, List<ProducerRecord<byte[], byte[]>> payloads,
+                        int batchSize, int lingerMs, int maxInFlight, Map<List<Integer>, Trial> trials) {
+        List<Integer> key = List.of(batchSize, lingerMs, maxInFlight);
+        Trial previous = trials.get(key);
+        if (previous != null) {
+            return previous;
+        }
+        Trial trial = runTrial(family, base, payloads, batchSize, lingerMs, maxInFlight);
+        trials.put(key, trial);
+        log.info("  batch.size={} linger.ms={} max.in.flight={} - {} msg/sec, p{} {} ms{}",
+            batchSize, lingerMs, maxInFlight, Math.round(trial.messagesPerSecond()), formatPercentile(),
+            String.format("%.1f", trial.latencyMs()), meetsSlo(trial) ? "" : " (misses SLO)");
+        return trial;
+    }
+
+    private Trial runTrial(Family family, Map<String, Object> base, List<ProducerRecord<byte[], byte[]>> payloads,
+                           int batchSize, int lingerMs, int maxInFlight) {
+        Map<String, Object> settings = new HashMap<>(base);
+        settings.put(ProducerConfig.BATCH_SIZE_CONFIG, batchSize);
+        settings.put(ProducerConfig.LINGER_MS_CONFIG, lingerMs);
+        settings.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, maxInFlight);
+
+        Semaphore outstanding = new Semaphore(config.getAutoTuneMaxOutstandingRecords());
+        LatencyHistogram latency = new LatencyHistogram();
+        AtomicLong acked = new AtomicLong();
+        AtomicLong ackedBytes = new AtomicLong();
+        AtomicLong failed = new AtomicLong();
+        long startNanos = System.nanoTime();
+        long measureStartNanos = startNanos + TimeUnit.SECONDS.toNanos(config.getAutoTuneWarmupSeconds());
+        long endNanos = measureStartNanos + TimeUnit.SECONDS.toNanos(config.getAutoTuneTrialSeconds());
+
+        try (KafkaProducer<byte[], byte[]> producer = createProducer("seedkit-auto-tune-" + family.name(), family.compression(), settings)) {
+            int threads = Math.max(1, config.getAutoTuneThreads());
+            List<Thread> workers = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int offset = payloads.size() / threads * t;
+                workers.add(Thread.ofPlatform().name("auto-tune-" + family.name() + "-" + t).start(() -> {
+                    int next = offset;
+                    while (System.nanoTime() < endNanos) {
+                        try {
+                            if (!outstanding.tryAcquire(100, TimeUnit.MILLISECONDS)) {
+                                continue;
+                            }
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            return;
+                        }
+                        ProducerRecord<byte[], byte[]> record = payloads.get(next);
+                        next = (next + 1) % payloads.size();
+                        long sentNanos = System.nanoTime();
+                        try {
+                            producer.send(record, (metadata, exception) -> {
+                                outstanding.release();
+                                long now = System.nanoTime();
+                                if (exception != null) {
+                                    failed.incrementAndGet();
+                                    return;
+                                }
+                                if (sentNanos >= measureStartNanos && sentNanos < endNanos) {
+                                    latency.record((now - sentNanos) / 1000);
+                                }
+                                if (now >= measureStartNanos && now < endNanos) {
+                                    acked.incrementAndGet();
+                                    ackedBytes.addAndGet(Math.max(0, metadata.serializedKeySize()) + Math.max(0, metadata.serializedValueSize()));
+                                }
+                            });
+                        } catch (Exception e) {
+                            outstanding.release();
+                            failed.incrementAndGet();
+                        }
+                    }
+                }));
+            }
+
+            double bufferWaitBefore = 0;
+            try {
+                TimeUnit.NANOSECONDS.sleep(Math.max(0, measureStartNanos - System.nanoTime()));
+                bufferWaitBefore = BlastBenchmark.producerMetric(producer, "bufferpool-wait-time-ns-total");
+                for (Thread worker : workers) {
+                    worker.join();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.warn("Auto-tune trial interrupted");
+            }
+            double bufferWaitNanos = BlastBenchmark.producerMetric(producer, "bufferpool-wait-time-ns-total") - bufferWaitBefore;
+            double recordSendRate = BlastBenchmark.producerMetric(producer, "record-send-rate");
+            double batchSizeAvg = BlastBenchmark.producerMetric(producer, "batch-size-avg");
+            double requestLatencyAvg = BlastBenchmark.producerMetric(producer, "request-latency-avg");
+            producer.flush();
+
+            double seconds = config.getAutoTuneTrialSeconds();
+            return new Trial(batchSize, lingerMs, maxInFlight, acked.get() / seconds, ackedBytes.get() / MB / seconds,
+                latency.getPercentile(latencyPercentile) / 1000.0, recordSendRate, batchSizeAvg, requestLatencyAvg,
+                bufferWaitNanos / 1e6, failed.get());
+        }
+    }
+
+    private KafkaProducer<byte[], byte[]> createProducer(String clientId, String compression, Map<String, Object> settings) {
+        Properties props = new Properties();
+        props.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, config.getBootstrapServers());
+        props.put(ProducerConfig.CLIENT_ID_CONFIG, clientId);
+        props.put(ProducerConfig.ACKS_CONFIG, "all");
+        props.put(ProducerConfig.MAX_REQUEST_SIZE_CONFIG, 2097152); // 2MB for large messages
+        props.putAll(settings);
+        props.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, compression);
+        return new KafkaProducer<>(props, new ByteArraySerializer(), new ByteArraySerializer());
+    }
+
+    private boolean meetsSlo(Trial trial) {
+        return trial.failed() == 0 && trial.latencyMs() <= latencySloMs;
+    }
+
+    // Trials within the SLO beat those outside it; then throughput decides, or latency when both miss
+    private boolean better(Trial candidate, Trial best) {
+        if (meetsSlo(candidate) != meetsSlo(best)) {
+            return meetsSlo(candidate);
+        }
+        return meetsSlo(candidate)
+            ? candidate.messagesPerSecond() > best.messagesPerSecond()
+            : candidate.latencyMs() < best.latencyMs();
+    }
+
+    private static int nearest(List<Integer> candidates, Object configured, int fallback) {
+        int target = configured instanceof Number number ? number.intValue() : fallback;
+        int best = candidates.get(0);
+        for (int candidate : candidates) {
+            if (Math.abs((long) candidate - target) < Math.abs((long) best - target)) {
+                best = candidate;
+            }
+        }
+        return best;
+    }
+
+    private String formatPercentile() {
+        return latencyPercentile == Math.rint(latencyPercentile)
+            ? String.valueOf((long) latencyPercentile) : String.valueOf(latencyPercentile);
+    }
+
+    private void logReport(Family family, Collection<Trial> trials, Trial best) {
+        log.info("====================================================================");
+        log.info("Auto-tune results for {}", family.name());
+        log.info("====================================================================");
+        log.info(String.format("%10s %9s %10s %10s %8s %10s %11s %11s %11s %13s %6s",
+            "batch.size", "linger.ms", "in-flight", "msg/sec", "MB/s", "p" + formatPercentile() + " ms",
+            "send rate", "batch avg", "request ms", "buf wait ms", "SLO"));
+        for (Trial t : trials) {
+            log.info(String.format("%10d %9d %10d %10.0f %8.2f %10.1f %11.0f %11.0f %11.2f %13.1f %6s",
+                t.batchSize(), t.lingerMs(), t.maxInFlight(), t.messagesPerSecond(), t.mbPerSecond(), t.latencyMs(),
+                t.recordSendRate(), t.batchSizeAvg(), t.requestLatencyAvgMs(), t.bufferPoolWaitMs(),
+                meetsSlo(t) ? "met" : "missed"));
+        }
+        log.info("====================================================================");
+        if (meetsSlo(best)) {
+            log.info("Best within the SLO: {} msg/sec at p{} {} ms. Suggested profile:",
+                Math.round(best.messagesPerSecond()), formatPercentile(), String.format("%.1f", best.latencyMs()));
+        } else {
+            log.warn("No trial met the p{} {} ms SLO; the lowest-latency settings reached {} ms. Suggested profile:",
+                formatPercentile(), latencySloMs, String.format("%.1f", best.latencyMs()));
+        }
+        log.info("kafka.tuning.profiles.{}: { producer: { batch-size: {}, linger-ms: {}, max-in-flight-requests-per-connection: {} } }",
+            family.name(), best.batchSize(), best.lingerMs(), best.maxInFlight());
+    }
+
+    /**
+     * A group of topics tuned together, named after the profile it should produce.
+     */
+    public record Family(String name, List<String> topics, String compression) {
+
+        @SuppressWarnings("unchecked")
+        public static List<Family> fromConfig(List<Map<String, Object>> configs) {
+            List<Family> families = new ArrayList<>();
+            for (Map<String, Object> config : configs) {
+                families.add(new Family((String) config.get("name"), (List<String>) config.get("topics"),
+                    (String) config.getOrDefault("compression", "lz4")));
+            }
+            return families;
+        }
+    }
+
+    /**
+     * Outcome of one trial. Throughput and latency are measured from send callbacks after warmup;
+     * send rate, batch size and request latency are the producer's own metrics at the end of the trial.
+     */
+    public record Trial(int batchSize, int lingerMs, int maxInFlight, double messagesPerSecond, double mbPerSecond,
+                        double latencyMs, double recordSendRate, double batchSizeAvg, double requestLatencyAvgMs,
+                        double bufferPoolWaitMs, long failed) {}
+}
@@ -0,0 +1,177 @@
+package com.certak.kafka.seedkit.producers;
+
+import com.certak.kafka.seedkit.data.StreamSeeds;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Drives continuous producers at a target rate per topic.
+ *
+ * Each topic gets a {@link TokenBucket} polled by a periodic tick on a shared scheduler; every
+ * token results in one call to the topic's producer. Ticks never sleep, so a slow topic does not
+ * hold a scheduler thread between messages. A topic with a {@link LoadProfile} has its rate
+ * re-evaluated on every tick. Achieved versus target rates are logged periodically and are
+ * available through {@link #getRateStats()}.
+ */
+public class RateController {
+    private static final Logger log = LoggerFactory.getLogger(RateController.class);
+
+    private static final long MIN_TICK_MICROS = 1_000;
+    private static final long MAX_TICK_MICROS = 100_000;
+
+    private final ScheduledExecutorService scheduler;
+    private final Map<String, TopicRate> topics = new ConcurrentHashMap<>();
+    private final List<ScheduledFuture<?>> tasks = new CopyOnWriteArrayList<>();
+    private final long seed;
+
+    /**
+     * @param seed seeds each topic's jitter stream, so inter-arrival gaps repeat across runs
+     */
+    public RateController(ScheduledExecutorService scheduler, long seed) {
+        this.scheduler = scheduler;
+        this.seed = seed;
+    }
+
+    /**
+     * Start producing to a topic at the given rate.
+     */
+    public void register(String topic, double messagesPerSecond, TokenBucket.Jitter jitter, Runnable producer) {
+        register(topic, messagesPerSecond, jitter, null, producer);
+    }
+
+    /**
+     * Start producing to a topic at its base rate scaled by a load profile (or the base rate if the profile is null).
+     */
+    public void register(String topic, double baseRate, TokenBucket.Jitter jitter, LoadProfile profile, Runnable producer) {
+        long now = System.nanoTime();
+        double initialRate = profile != null ? baseRate * profile.multiplierAt(0) : baseRate;
+        double peakRate = profile != null ? baseRate * profile.peakMultiplier() : baseRate;
+        // Allow up to ~100ms of catch-up per tick before the backlog is dropped
+        int capacity = (int) Math.max(1, Math.ceil(peakRate / 10));
+        TokenBucket bucket = new TokenBucket(initialRate, jitter, capacity, now,
+            new SplittableRandom(StreamSeeds.derive(seed, "rate/" + topic)));
+        TopicRate topicRate = new TopicRate(topic, bucket, baseRate, profile, producer, now);
+        topics.put(topic, topicRate);
+
+        long tickMicros = peakRate > 0
+            ? Math.clamp((long) (1_000_000 / peakRate), MIN_TICK_MICROS, MAX_TICK_MICROS)
+            : MAX_TICK_MICROS;
+        tasks.add(scheduler.scheduleAtFixedRate(topicRate::tick, ThreadLocalRandom.current().nextLong(tickMicros),
+            tickMicros, TimeUnit.MICROSECONDS));
+        if (profile != null) {
+            log.info("Producing to {} at {} msg/sec base rate with load profile {} (peak {} msg/sec, jitter: {})",
+                topic, formatRate(baseRate), profile.getName(), formatRate(peakRate), jitter.type());
+        } else {
+            log.info("Producing to {} at {} msg/sec (jitter: {})", topic, formatRate(baseRate), jitter.type());
+        }
+    }
+
+    /**
+     * Log achieved versus target rates every {@code intervalSeconds}.
+     */
+    public void startReporting(int intervalSeconds) {
+        if (intervalSeconds > 0) {
+            tasks.add(scheduler.scheduleAtFixedRate(this::logRates, intervalSeconds, intervalSeconds, TimeUnit.SECONDS));
+        }
+    }
+
+    public void stop() {
+        tasks.forEach(task -> task.cancel(false));
+        tasks.clear();
+        logRates();
+    }
+
+    public int getTopicCount() {
+        return topics.size();
+    }
+
+    /**
+     * Current target and achieved rate (since registration) per topic.
+     */
+    public Map<String, RateStats> getRateStats() {
+        long now = System.nanoTime();
+        Map<String, RateStats> stats = new TreeMap<>();
+        topics.forEach((topic, rate) -> stats.put(topic, rate.stats(now)));
+        return stats;
+    }
+
+    private void logRates() {
+        if (topics.isEmpty()) {
+            return;
+        }
+        long now = System.nanoTime();
+        log.info("Producer rates (target / achieved msg/sec):");
+        new TreeMap<>(topics).forEach((topic, rate) -> {
+            RateStats stats = rate.stats(now);
+            log.info("  {} - {} / {} (last interval {})", topic, formatRate(stats.targetRate()),
+                formatRate(stats.achievedRate()), formatRate(rate.intervalRate(now)));
+        });
+    }
+
+    private static String formatRate(double rate) {
+        return rate >= 10 ? String.valueOf(Math.round(rate)) : String.format("%.2f", rate);
+    }
+
+    /**
+     * Target and achieved rate for a topic, with the number of messages produced.
+     */
+    public record RateStats(double targetRate, double achievedRate, long messages) {}
+
+    private static class TopicRate {
+        private final String topic;
+        private final TokenBucket bucket;
+        private final double baseRate;
+        private final LoadProfile profile;
+        private final Runnable producer;
+        private final long startNanos;
+        private final AtomicLong produced = new AtomicLong();
+        private long intervalStartNanos;
+        private long intervalStartCount;
+
+        TopicRate(String topic, TokenBucket bucket, double baseRate, LoadProfile profile, Runnable producer, long startNanos) {
+            this.topic = topic;
+            this.bucket = bucket;
+            this.baseRate = baseRate;
+            this.profile = profile;
+            this.producer = producer;
+            this.startNanos = startNanos;
+            this.intervalStartNanos = startNanos;
+        }
+
+        // Ticks for one topic never overlap (fixed-rate scheduling), so the bucket needs no locking
+        void tick() {
+            long now = System.nanoTime();
+            if (profile != null) {
+                bucket.setRatePerSecond(baseRate * profile.multiplierAt((now - startNanos) / 1e9), now);
+            }
+            int tokens = bucket.take(now);
+            for (int i = 0; i < tokens; i++) {
+                try {
+                    producer.run();
+                    produced.incrementAndGet();
+                } catch (Exception e) {
+                    log.error("Error in continuous producer for {}: {}", topic, e.getMessage());
+                }
+            }
+        }
+
+        RateStats stats(long nowNanos) {
+            long count = produced.get();
+            double seconds = (nowNanos - startNanos) / 1e9;
+            return new RateStats(bucket.getRatePerSecond(), seconds > 0 ? count / seconds : 0, count);
+        }
+
+        synchronized double intervalRate(long nowNanos) {
+            long count = produced.get();
+            double seconds = (nowNanos - intervalStartNanos) / 1e9;
+            double rate = seconds > 0 ? (count - intervalStartCount) / seconds : 0;
+            intervalStartNanos = nowNanos;
+            intervalStartCount = count;
+            return rate;
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.certak.kafka.seedkit.producers;
+
+import com.certak.kafka.seedkit.metrics.SeedKitMetrics;
+import io.confluent.kafka.schemaregistry.avro.AvroSchema;
+import io.confluent.kafka.schemaregistry.client.SchemaRegistryClient;
+import io.confluent.kafka.schemaregistry.client.rest.exceptions.RestClientException;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericDatumWriter;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.EncoderFactory;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Serializer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Avro value serializer writing the Confluent wire format (magic byte, 4-byte schema ID, Avro binary).
+ *
+ * Schema IDs are resolved once per topic and schema instance - eagerly via {@link #resolve} after
+ * schema registration, or on first use - and each resolved schema keeps its own datum writer.
+ * Records are encoded into a per-thread buffer and encoder that are reused across messages,
+ * so the only per-message allocation is the returned byte array.
+ * Uses the default topic name strategy ({@code <topic>-value}).
+ */
+public class SeedKitAvroSerializer implements Serializer<GenericRecord> {
+    private static final byte MAGIC_BYTE = 0x0;
+
+    private final SchemaRegistryClient client;
+    private final boolean autoRegister;
+    private final Map<WriterKey, SchemaWriter> writers = new ConcurrentHashMap<>();
+    private final ThreadLocal<EncodingBuffer> buffers = ThreadLocal.withInitial(EncodingBuffer::new);
+
+    public SeedKitAvroSerializer(SchemaRegistryClient client, boolean autoRegister) {
+        this.client = client;
+        this.autoRegister = autoRegister;
+    }
+
+    /**
+     * Resolve and cache the schema ID used when serializing records of this schema to a topic.
+     */
+    public int resolve(String topic, Schema schema) {
+        return writerFor(topic, schema).id();
+    }
+
+    @Override
+    public byte[] serialize(String topic, GenericRecord record) {
+        if (record == null) {
+            return null;
+        }
+        SchemaWriter writer = writerFor(topic, record.getSchema());
+        EncodingBuffer buffer = buffers.get();
+        buffer.reset();
+        buffer.write(MAGIC_BYTE);
+        buffer.writeInt(writer.id());
+        try {
+            buffer.encoder = EncoderFactory.get().binaryEncoder(buffer, buffer.encoder);
+            writer.datumWriter().write(record, buffer.encoder);
+            buffer.encoder.flush();
+        } catch (IOException | RuntimeException e) {
+            throw new SerializationException("Error serializing Avro record for topic " + topic, e);
+        }
+        return buffer.toByteArray();
+    }
+
+    private SchemaWriter writerFor(String topic, Schema schema) {
+        WriterKey key = new WriterKey(topic, schema);
+        SchemaWriter writer = writers.get(key);
+        if (writer == null) {
+            writer = writers.computeIfAbsent(key, k -> new SchemaWriter(lookupId(topic + "-value", schema), new GenericDatumWriter<>(schema)));
+        }
+        return writer;
+    }
+
+    private int lookupId(String subject, Schema schema) {
+        long start = System.nanoTime();
+        String outcome = "error";
+        try {
+            AvroSchema avroSchema = new AvroSchema(schema);
+            int id = autoRegister ? client.register(subject, avroSchema) : client.getId(subject, avroSchema);
+            outcome = "success";
+            return id;
+        } catch (IOException | RestClientException e) {
+            throw new SerializationException("Error resolving schema ID for subject " + subject, e);
+        } finally {
+            SeedKitMetrics.recordTime("seedkit_schema_registry_call", System.nanoTime() - start,
+                "operation", autoRegister ? "register" : "lookup", "type", "AVRO", "outcome", outcome);
+        }
+    }
+
+    @Override
+    public void close() {
+        // Shared by all Avro producers; nothing to release per producer
+    }
+
+    private record WriterKey(String topic, Schema schema) {}
+
+    private record SchemaWriter(int id, GenericDatumWriter<GenericRecord> datumWriter) {}
+
+    /**
+     * Unsynchronized growable byte buffer that is reset rather than reallocated between messages.
+     */
+    private static class EncodingBuffer extends OutputStream {
+        private byte[] bytes = new byte[1024];
+        private int count;
+        private BinaryEncoder encoder;
+
+        void reset() {
+            count = 0;
+        }
+
+        void writeInt(int value) {
+            write(value >>> 24);
+            write(value >>> 16);
+            write(value >>> 8);
+            write(value);
+        }
+
+        @Override
+        public void write(int b) {
+            ensureCapacity(count + 1);
+            bytes[count++] = (byte) b;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            ensureCapacity(count + len);
+            System.arraycopy(b, off, bytes, count, len);
+            count += len;
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(bytes, count);
+        }
+
+        private void ensureCapacity(int required) {
+            if (required > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(required, bytes.length * 2));
+            }
+        }
+    }
+}
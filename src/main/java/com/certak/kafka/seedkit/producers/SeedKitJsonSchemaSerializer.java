@@ -0,0 +1,90 @@
+package com.certak.kafka.seedkit.producers;
+
+import com.certak.kafka.seedkit.metrics.SeedKitMetrics;
+import io.confluent.kafka.schemaregistry.client.SchemaRegistryClient;
+import io.confluent.kafka.serializers.AbstractKafkaSchemaSerDeConfig;
+import io.confluent.kafka.serializers.json.KafkaJsonSchemaSerializer;
+import io.confluent.kafka.serializers.json.KafkaJsonSchemaSerializerConfig;
+import org.apache.kafka.common.serialization.Serializer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * JSON Schema value serializer with switchable per-message validation.
+ *
+ * Delegates to two {@link KafkaJsonSchemaSerializer}s sharing one registry client, one validating
+ * each payload against its schema before writing it and one writing it unchecked. Both cache the
+ * schema per payload class and the schema ID per subject, so validation is the only per-message
+ * difference between them. In {@link Validation#FIRST} mode a topic is validated until that many
+ * of its records have conformed and takes the unchecked path from then on.
+ * Serialization time per topic and path is recorded as {@code seedkit_json_schema_serialize}.
+ */
+public class SeedKitJsonSchemaSerializer implements Serializer<Object> {
+    private static final Logger log = LoggerFactory.getLogger(SeedKitJsonSchemaSerializer.class);
+
+    public enum Validation {
+        ALWAYS, NEVER, FIRST;
+
+        public static Validation parse(String name) {
+            return valueOf(name.trim().toUpperCase(Locale.ROOT));
+        }
+    }
+
+    private final KafkaJsonSchemaSerializer<Object> validating;
+    private final KafkaJsonSchemaSerializer<Object> unchecked;
+    private final Validation validation;
+    private final long validateFirst;
+    private final Map<String, AtomicLong> conforming = new ConcurrentHashMap<>();
+
+    /**
+     * @param validateFirst records per topic validated in {@link Validation#FIRST} mode
+     */
+    public SeedKitJsonSchemaSerializer(SchemaRegistryClient client, String url, boolean autoRegister,
+                                       Validation validation, long validateFirst) {
+        this.validating = new KafkaJsonSchemaSerializer<>(client, Map.of(
+            AbstractKafkaSchemaSerDeConfig.SCHEMA_REGISTRY_URL_CONFIG, url,
+            AbstractKafkaSchemaSerDeConfig.AUTO_REGISTER_SCHEMAS, autoRegister,
+            KafkaJsonSchemaSerializerConfig.FAIL_INVALID_SCHEMA, true));
+        this.unchecked = new KafkaJsonSchemaSerializer<>(client, Map.of(
+            AbstractKafkaSchemaSerDeConfig.SCHEMA_REGISTRY_URL_CONFIG, url,
+            AbstractKafkaSchemaSerDeConfig.AUTO_REGISTER_SCHEMAS, autoRegister,
+            KafkaJsonSchemaSerializerConfig.FAIL_INVALID_SCHEMA, false));
+        this.validation = validation;
+        this.validateFirst = validateFirst;
+    }
+
+    public Validation getValidation() {
+        return validation;
+    }
+
+    @Override
+    public byte[] serialize(String topic, Object value) {
+        if (value == null) {
+            return null;
+        }
+        boolean validate = switch (validation) {
+            case ALWAYS -> true;
+            case NEVER -> false;
+            case FIRST -> conforming.computeIfAbsent(topic, t -> new AtomicLong()).get() < validateFirst;
+        };
+        long start = System.nanoTime();
+        byte[] bytes = (validate ? validating : unchecked).serialize(topic, value);
+        SeedKitMetrics.recordTime("seedkit_json_schema_serialize", System.nanoTime() - start,
+            "topic", topic, "validated", String.valueOf(validate));
+        // Only records that passed validation count towards trusting the topic's generator
+        if (validate && validation == Validation.FIRST && conforming.get(topic).incrementAndGet() == validateFirst) {
+            log.info("First {} records for {} conformed to their schema, skipping validation from now on", validateFirst, topic);
+        }
+        return bytes;
+    }
+
+    @Override
+    public void close() {
+        // Shared by all JSON Schema producers; nothing to release per producer
+    }
+}
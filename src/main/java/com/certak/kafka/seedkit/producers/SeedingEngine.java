@@ -0,0 +1,153 @@
+package com.certak.kafka.seedkit.producers;
+
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Runs topic seeders concurrently on virtual threads.
+ *
+ * Parallelism is bounded by the number of seeders allowed to run at once, and the number of
+ * records handed to the producers but not yet acknowledged is bounded by a shared permit pool.
+ * Producers are flushed once, after every seeder has finished, instead of after every topic.
+ */
+public class SeedingEngine {
+    private static final Logger log = LoggerFactory.getLogger(SeedingEngine.class);
+
+    private final int parallelism;
+    private final Semaphore inFlight;
+    private final DeliveryStats deliveryStats;
+    private final List<SeedTask> tasks = new ArrayList<>();
+    private final Map<String, TopicProgress> progress = new ConcurrentHashMap<>();
+
+    public SeedingEngine(int parallelism, int maxInFlightRecords, DeliveryStats deliveryStats) {
+        this.parallelism = Math.max(1, parallelism);
+        this.inFlight = new Semaphore(Math.max(1, maxInFlightRecords));
+        this.deliveryStats = deliveryStats;
+    }
+
+    /**
+     * Register a seeder for a topic. Seeders run when {@link #run(Runnable)} is called.
+     */
+    public void add(String topic, Runnable seeder) {
+        tasks.add(new SeedTask(topic, seeder));
+    }
+
+    /**
+     * Send a record on behalf of a running seeder, blocking while too many records are in flight.
+     */
+    public <K, V> void send(Producer<K, V> producer, ProducerRecord<K, V> record) {
+        TopicProgress topicProgress = progress.computeIfAbsent(record.topic(), TopicProgress::new);
+        inFlight.acquireUninterruptibly();
+        // Delivery stats complete the callback (and release the permit) even when send() throws
+        deliveryStats.send(producer, record, (metadata, exception) -> {
+            inFlight.release();
+            topicProgress.onCompletion(exception);
+        });
+        topicProgress.sent.incrementAndGet();
+    }
+
+    /**
+     * Run all registered seeders, then the flush barrier, and log per-topic and total wall time.
+     */
+    public List<SeedResult> run(Runnable flushBarrier) {
+        List<SeedTask> pending = List.copyOf(tasks);
+        tasks.clear();
+        progress.clear();
+
+        log.info("Running {} topic seeders with parallelism {}", pending.size(), parallelism);
+        Semaphore slots = new Semaphore(parallelism);
+        long startNanos = System.nanoTime();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (SeedTask task : pending) {
+                futures.add(executor.submit(() -> {
+                    slots.acquireUninterruptibly();
+                    try {
+                        TopicProgress topicProgress = progress.computeIfAbsent(task.topic(), TopicProgress::new);
+                        topicProgress.startNanos = System.nanoTime();
+                        task.seeder().run();
+                        topicProgress.handedOffNanos = System.nanoTime();
+                    } catch (Exception e) {
+                        log.error("Seeder for {} failed: {}", task.topic(), e.getMessage());
+                    } finally {
+                        slots.release();
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    log.error("Seeder failed: {}", e.getCause().getMessage());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Seeding interrupted");
+        }
+
+        // Single flush barrier for all producers
+        long flushStart = System.nanoTime();
+        flushBarrier.run();
+        long endNanos = System.nanoTime();
+
+        List<SeedResult> results = pending.stream()
+            .map(task -> progress.getOrDefault(task.topic(), new TopicProgress(task.topic())).toResult(endNanos))
+            .sorted(Comparator.comparingLong(SeedResult::wallTimeMs).reversed())
+            .toList();
+
+        for (SeedResult result : results) {
+            log.info("  {} - {} sent, {} acked, {} failed in {} ms",
+                result.topic(), result.sent(), result.acked(), result.failed(), result.wallTimeMs());
+        }
+        long totalSent = results.stream().mapToLong(SeedResult::sent).sum();
+        long totalMs = TimeUnit.NANOSECONDS.toMillis(endNanos - startNanos);
+        log.info("Seeded {} messages to {} topics in {} ms (final flush {} ms, {} msg/sec)",
+            totalSent, results.size(), totalMs, TimeUnit.NANOSECONDS.toMillis(endNanos - flushStart),
+            totalMs > 0 ? totalSent * 1000 / totalMs : totalSent);
+        return results;
+    }
+
+    private record SeedTask(String topic, Runnable seeder) {}
+
+    /**
+     * Outcome of seeding one topic. Wall time runs from seeder start until the last acknowledgement.
+     */
+    public record SeedResult(String topic, long sent, long acked, long failed, long wallTimeMs) {}
+
+    private static class TopicProgress {
+        private final String topic;
+        private final AtomicLong sent = new AtomicLong();
+        private final AtomicLong acked = new AtomicLong();
+        private final AtomicLong failed = new AtomicLong();
+        private volatile long startNanos;
+        private volatile long handedOffNanos;
+        private volatile long lastCompletionNanos;
+
+        TopicProgress(String topic) {
+            this.topic = topic;
+        }
+
+        void onCompletion(Exception exception) {
+            if (exception == null) {
+                acked.incrementAndGet();
+            } else if (failed.incrementAndGet() == 1) {
+                log.warn("Failed to seed message to {}: {}", topic, exception.getMessage());
+            }
+            lastCompletionNanos = System.nanoTime();
+        }
+
+        SeedResult toResult(long endNanos) {
+            long finishNanos = Math.max(handedOffNanos, lastCompletionNanos);
+            long wallTimeNanos = startNanos == 0 ? 0 : (finishNanos > 0 ? finishNanos : endNanos) - startNanos;
+            return new SeedResult(topic, sent.get(), acked.get(), failed.get(), TimeUnit.NANOSECONDS.toMillis(wallTimeNanos));
+        }
+    }
+}
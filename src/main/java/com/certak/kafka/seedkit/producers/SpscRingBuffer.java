@@ -0,0 +1,60 @@
+package com.certak.kafka.seedkit.producers;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded lock-free ring buffer for exactly one producer thread and one consumer at a time.
+ *
+ * The producer publishes a slot by advancing {@code tail} with release semantics after writing it,
+ * and the consumer frees it by advancing {@code head} the same way, so neither side ever locks.
+ * Capacity is rounded up to a power of two.
+ */
+public class SpscRingBuffer<T> {
+    private final Object[] slots;
+    private final int mask;
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong tail = new AtomicLong();
+
+    public SpscRingBuffer(int capacity) {
+        int size = capacity <= 2 ? 2 : Integer.highestOneBit(capacity - 1) << 1;
+        this.slots = new Object[size];
+        this.mask = size - 1;
+    }
+
+    /**
+     * Add an item, returning false if the buffer is full. Producer thread only.
+     */
+    public boolean offer(T item) {
+        long t = tail.get();
+        if (t - head.get() >= slots.length) {
+            return false;
+        }
+        slots[(int) (t & mask)] = item;
+        tail.lazySet(t + 1);
+        return true;
+    }
+
+    /**
+     * Remove the oldest item, or return null if the buffer is empty. Consumer side only.
+     */
+    @SuppressWarnings("unchecked")
+    public T poll() {
+        long h = head.get();
+        if (h >= tail.get()) {
+            return null;
+        }
+        int index = (int) (h & mask);
+        T item = (T) slots[index];
+        slots[index] = null;
+        head.lazySet(h + 1);
+        return item;
+    }
+
+    public int size() {
+        return (int) Math.max(0, tail.get() - head.get());
+    }
+
+    public int capacity() {
+        return slots.length;
+    }
+}
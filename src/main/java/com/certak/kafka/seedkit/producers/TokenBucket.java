@@ -0,0 +1,101 @@
+package com.certak.kafka.seedkit.producers;
+
+import java.util.SplittableRandom;
+
+/**
+ * Non-blocking token bucket driven by an arrival schedule.
+ *
+ * A token arrives every 1/rate seconds on average; the gap between arrivals is fixed, uniformly
+ * jittered or exponentially distributed (Poisson arrivals) depending on the {@link Jitter}.
+ * Callers poll {@link #take(long)} from a scheduler tick and send one message per token.
+ * At most {@code capacity} tokens are handed out per poll; if the caller falls further behind,
+ * the backlog is dropped so that a stall is not followed by an unbounded burst.
+ * The rate can be changed while running; a rate of zero pauses the bucket.
+ */
+public class TokenBucket {
+    private volatile double ratePerSecond;
+    private final Jitter jitter;
+    private final int capacity;
+    private final SplittableRandom random;
+    private long nextArrivalNanos;
+
+    public TokenBucket(double ratePerSecond, Jitter jitter, int capacity, long nowNanos, SplittableRandom random) {
+        if (ratePerSecond < 0) {
+            throw new IllegalArgumentException("Rate must not be negative: " + ratePerSecond);
+        }
+        this.ratePerSecond = ratePerSecond;
+        this.jitter = jitter;
+        this.capacity = Math.max(1, capacity);
+        this.random = random;
+        this.nextArrivalNanos = ratePerSecond > 0 ? nowNanos + nextGapNanos() : nowNanos;
+    }
+
+    /**
+     * Take all tokens that have arrived by {@code nowNanos}, up to the bucket capacity.
+     */
+    public int take(long nowNanos) {
+        if (ratePerSecond <= 0) {
+            return 0;
+        }
+        int tokens = 0;
+        while (nextArrivalNanos <= nowNanos && tokens < capacity) {
+            tokens++;
+            nextArrivalNanos += nextGapNanos();
+        }
+        if (nextArrivalNanos <= nowNanos) {
+            // Too far behind - drop the backlog rather than bursting
+            nextArrivalNanos = nowNanos + nextGapNanos();
+        }
+        return tokens;
+    }
+
+    /**
+     * Change the rate. The wait for the next token is rescaled rather than redrawn, so frequent
+     * small changes (e.g. along a ramp) do not bias the achieved rate.
+     */
+    public void setRatePerSecond(double ratePerSecond, long nowNanos) {
+        double rate = Math.max(0, ratePerSecond);
+        if (rate == this.ratePerSecond) {
+            return;
+        }
+        double previous = this.ratePerSecond;
+        this.ratePerSecond = rate;
+        if (previous <= 0) {
+            nextArrivalNanos = nowNanos + nextGapNanos();
+        } else if (rate > 0 && nextArrivalNanos > nowNanos) {
+            nextArrivalNanos = nowNanos + Math.round((nextArrivalNanos - nowNanos) * previous / rate);
+        }
+    }
+
+    public double getRatePerSecond() {
+        return ratePerSecond;
+    }
+
+    private long nextGapNanos() {
+        double meanNanos = 1_000_000_000.0 / ratePerSecond;
+        double gap = switch (jitter.type()) {
+            case NONE -> meanNanos;
+            case UNIFORM -> meanNanos * (1 + jitter.spread() * (2 * random.nextDouble() - 1));
+            case EXPONENTIAL -> -meanNanos * Math.log(1 - random.nextDouble());
+        };
+        return Math.max(1, Math.round(gap));
+    }
+
+    /**
+     * Distribution of the gaps between token arrivals.
+     * For {@code UNIFORM}, gaps fall within {@code mean * (1 ± spread)}.
+     */
+    public record Jitter(Type type, double spread) {
+        public static final Jitter NONE = new Jitter(Type.NONE, 0);
+
+        public enum Type {
+            NONE,
+            UNIFORM,
+            EXPONENTIAL
+        }
+
+        public static Jitter parse(String type, double spread) {
+            return new Jitter(Type.valueOf(type.trim().toUpperCase()), Math.max(0, Math.min(1, spread)));
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.certak.kafka.seedkit.schemas;
+
+import org.apache.avro.Schema;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Cache of parsed Avro schemas keyed by record full name and version.
+ *
+ * Pre-warmed from every schema in {@link AvroSchemas}, where a {@code _V<n>} suffix gives the
+ * version and unversioned schemas are version 1. Producers register the schemas they write
+ * with under {@link #PRODUCER_VERSION}, so records are built against one shared instance
+ * instead of re-parsing the schema for every message.
+ */
+public final class AvroSchemaCache {
+    private static final Logger log = LoggerFactory.getLogger(AvroSchemaCache.class);
+
+    /** Version used for the schemas SeedKit producers write with. */
+    public static final int PRODUCER_VERSION = 0;
+
+    private static final Pattern VERSION_SUFFIX = Pattern.compile("_V(\\d+)$");
+    private static final Map<Key, Schema> SCHEMAS = new ConcurrentHashMap<>();
+    private static final Map<String, Integer> LATEST_VERSIONS = new ConcurrentHashMap<>();
+
+    static {
+        for (Field field : AvroSchemas.class.getFields()) {
+            if (Modifier.isStatic(field.getModifiers()) && field.getType() == String.class) {
+                Matcher matcher = VERSION_SUFFIX.matcher(field.getName());
+                int version = matcher.find() ? Integer.parseInt(matcher.group(1)) : 1;
+                try {
+                    register(version, (String) field.get(null));
+                } catch (IllegalAccessException e) {
+                    throw new IllegalStateException("Cannot read AvroSchemas." + field.getName(), e);
+                }
+            }
+        }
+    }
+
+    private AvroSchemaCache() {}
+
+    /**
+     * Make sure the cache is populated and return the number of cached schemas.
+     */
+    public static int warmUp() {
+        log.debug("Avro schema cache holds {} schemas", SCHEMAS.size());
+        return SCHEMAS.size();
+    }
+
+    /**
+     * Parse and cache a schema under the given version, returning the cached instance.
+     * Registering the same name and version again returns the first instance.
+     */
+    public static Schema register(int version, String schemaJson) {
+        // Fresh parser per schema - evolution versions reuse the same named types
+        Schema schema = new Schema.Parser().parse(schemaJson);
+        Schema cached = SCHEMAS.computeIfAbsent(new Key(schema.getFullName(), version), k -> schema);
+        if (version != PRODUCER_VERSION) {
+            LATEST_VERSIONS.merge(schema.getFullName(), version, Math::max);
+        }
+        return cached;
+    }
+
+    /**
+     * Get a cached schema by record full name and version, or null if it is not cached.
+     */
+    public static Schema get(String fullName, int version) {
+        return SCHEMAS.get(new Key(fullName, version));
+    }
+
+    /**
+     * Get the highest evolution version cached for a record, or null if there is none.
+     */
+    public static Schema latest(String fullName) {
+        Integer version = LATEST_VERSIONS.get(fullName);
+        return version != null ? get(fullName, version) : null;
+    }
+
+    private record Key(String fullName, int version) {}
+}
@@ -0,0 +1,78 @@
+package com.certak.kafka.seedkit.schemas;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.confluent.kafka.schemaregistry.annotations.Schema;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Payload classes for the JSON Schema topics.
+ *
+ * Each top-level record carries its {@link JsonSchemas} definition in a {@code @Schema} annotation,
+ * so {@code KafkaJsonSchemaSerializer} uses the registered schema instead of deriving one from the
+ * class, and caches it per class. Null fields are left out, as the schemas declare optional fields
+ * without a null type.
+ */
+public final class JsonSchemaPayloads {
+    private JsonSchemaPayloads() {}
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @Schema(value = JsonSchemas.PRODUCT_REVIEW, refs = {})
+    public record ProductReview(String reviewId, String productId, String customerId, int rating,
+                                String title, String reviewText, List<String> pros, List<String> cons,
+                                boolean verifiedPurchase, int helpfulVotes, List<ReviewImage> images,
+                                long createdAt, Long updatedAt) {}
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record ReviewImage(String imageUrl, String caption) {}
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @Schema(value = JsonSchemas.REORDER_ALERT, refs = {})
+    public record ReorderAlert(String alertId, String productId, String sku, String productName,
+                               String warehouseId, int currentStock, int reorderPoint, int reorderQuantity,
+                               String supplierId, int estimatedLeadTimeDays, String priority,
+                               double salesVelocity, double daysUntilStockout, long timestamp) {}
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @Schema(value = JsonSchemas.CUSTOMER_FEEDBACK, refs = {})
+    public record CustomerFeedback(String feedbackId, String customerId, String orderId, String feedbackType,
+                                   Integer score, String comment, String category, String subcategory,
+                                   String sentiment, String channel, String agentId, boolean resolved,
+                                   boolean followUpRequired, List<String> tags, long createdAt) {}
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @Schema(value = JsonSchemas.IN_APP_NOTIFICATION, refs = {})
+    public record InAppNotification(String notificationId, String userId, String title, String message,
+                                    String notificationType, String category, String iconUrl, String actionUrl,
+                                    String actionText, Map<String, Object> data, String priority, boolean read,
+                                    Long readAt, Long expiresAt, long createdAt) {}
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @Schema(value = JsonSchemas.ROUTE_OPTIMIZATION, refs = {})
+    public record RouteOptimization(String routeId, String driverId, String vehicleId, Location depotLocation,
+                                    List<RouteStop> stops, double totalDistanceKm, int totalDurationMinutes,
+                                    double optimizationScore, String algorithmUsed, RouteConstraints constraints,
+                                    String status, long createdAt, Long updatedAt) {}
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record Location(double latitude, double longitude, String address) {}
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record RouteStop(String stopId, String orderId, int sequence, double latitude, double longitude,
+                            String address, long estimatedArrival, long timeWindowStart, long timeWindowEnd,
+                            int serviceTimeMinutes, String priority) {}
+
+    public record RouteConstraints(int maxStops, double maxDistanceKm, int maxDurationMinutes, double vehicleCapacity) {}
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @Schema(value = JsonSchemas.MODEL_METRICS, refs = {})
+    public record ModelMetrics(String metricsId, String modelId, String modelVersion, String environment,
+                               Double accuracy, Double precision, Double recall, Double f1Score, Double auc,
+                               Double rmse, Double mae, ConfusionMatrix confusionMatrix,
+                               Map<String, Double> featureImportance, long predictionCount, double avgLatencyMs,
+                               double p99LatencyMs, double errorRate, Long datasetSize,
+                               Integer trainingDurationSeconds, long timestamp) {}
+
+    public record ConfusionMatrix(long truePositives, long trueNegatives, long falsePositives, long falseNegatives) {}
+}
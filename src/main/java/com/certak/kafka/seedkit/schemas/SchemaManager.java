@@ -1,5 +1,13 @@
 package com.certak.kafka.seedkit.schemas;
 
+import com.certak.kafka.seedkit.metrics.SeedKitMetrics;
+import com.certak.kafka.seedkit.proto.CarrierEvent;
+import com.certak.kafka.seedkit.proto.Chargeback;
+import com.certak.kafka.seedkit.proto.FirmwareUpdate;
+import com.certak.kafka.seedkit.proto.TradeExecution;
+import com.certak.kafka.seedkit.proto.TradeOrder;
+import com.google.protobuf.Descriptors.Descriptor;
+import io.confluent.kafka.schemaregistry.ParsedSchema;
 import io.confluent.kafka.schemaregistry.avro.AvroSchema;
 import io.confluent.kafka.schemaregistry.client.CachedSchemaRegistryClient;
 import io.confluent.kafka.schemaregistry.client.SchemaRegistryClient;
@@ -10,7 +18,9 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Manages schema registration in Schema Registry.
@@ -18,6 +28,8 @@ import java.util.List;
  */
 public class SchemaManager {
     private static final Logger log = LoggerFactory.getLogger(SchemaManager.class);
+    private static final String VALUE_SUFFIX = "-value";
+    private static final Map<String, List<String>> AVRO_SUBJECTS = avroSubjects();
     
     private final SchemaRegistryClient client;
     private final String registryUrl;
@@ -46,124 +58,153 @@ public class SchemaManager {
     }
     
     private void registerAvroSchemas() {
+        AVRO_SUBJECTS.forEach((subject, schemas) -> {
+            if (schemas.size() > 1) {
+                registerAvroWithVersions(subject, schemas);
+            } else {
+                registerAvro(subject, schemas.get(0));
+            }
+        });
+    }
+    
+    /**
+     * Latest Avro value schema for each topic with a registered value subject, in registration order.
+     */
+    public static Map<String, String> latestAvroValueSchemas() {
+        Map<String, String> schemas = new LinkedHashMap<>();
+        AVRO_SUBJECTS.forEach((subject, versions) -> {
+            if (subject.endsWith(VALUE_SUFFIX)) {
+                schemas.put(subject.substring(0, subject.length() - VALUE_SUFFIX.length()), versions.get(versions.size() - 1));
+            }
+        });
+        return schemas;
+    }
+    
+    // Avro subjects and their schema versions, oldest first
+    private static Map<String, List<String>> avroSubjects() {
+        Map<String, List<String>> subjects = new LinkedHashMap<>();
+        
         // Order schema with multiple versions
-        registerAvroWithVersions("ecommerce.orders-value", List.of(
+        subjects.put("ecommerce.orders-value", List.of(
             AvroSchemas.ORDER_V1,
             AvroSchemas.ORDER_V2,
             AvroSchemas.ORDER_V3,
             AvroSchemas.ORDER_V4
         ));
         
-        registerAvro("ecommerce.orders-key", AvroSchemas.ORDER_KEY);
-        registerAvro("ecommerce.order-items-value", AvroSchemas.ORDER_ITEM);
+        subjects.put("ecommerce.orders-key", List.of(AvroSchemas.ORDER_KEY));
+        subjects.put("ecommerce.order-items-value", List.of(AvroSchemas.ORDER_ITEM));
         
         // Page views with versions
-        registerAvroWithVersions("ecommerce.page-views-value", List.of(
+        subjects.put("ecommerce.page-views-value", List.of(
             AvroSchemas.PAGE_VIEW_V1,
             AvroSchemas.PAGE_VIEW_V2,
             AvroSchemas.PAGE_VIEW_V3
         ));
         
-        registerAvro("ecommerce.user-sessions-value", AvroSchemas.USER_SESSION);
-        registerAvro("ecommerce.cart-events-value", AvroSchemas.CART_EVENT);
-        registerAvro("ecommerce.product-catalog-value", AvroSchemas.PRODUCT);
-        registerAvro("ecommerce.recommendations-value", AvroSchemas.RECOMMENDATION);
+        subjects.put("ecommerce.user-sessions-value", List.of(AvroSchemas.USER_SESSION));
+        subjects.put("ecommerce.cart-events-value", List.of(AvroSchemas.CART_EVENT));
+        subjects.put("ecommerce.product-catalog-value", List.of(AvroSchemas.PRODUCT));
+        subjects.put("ecommerce.recommendations-value", List.of(AvroSchemas.RECOMMENDATION));
         
         // Payments schemas
-        registerAvroWithVersions("payments.transactions-value", List.of(
+        subjects.put("payments.transactions-value", List.of(
             AvroSchemas.TRANSACTION_V1,
             AvroSchemas.TRANSACTION_V2,
             AvroSchemas.TRANSACTION_V3
         ));
-        registerAvro("payments.card-events-value", AvroSchemas.CARD_EVENT);
-        registerAvro("payments.fraud-alerts-value", AvroSchemas.FRAUD_ALERT);
-        registerAvro("payments.settlements-value", AvroSchemas.SETTLEMENT);
+        subjects.put("payments.card-events-value", List.of(AvroSchemas.CARD_EVENT));
+        subjects.put("payments.fraud-alerts-value", List.of(AvroSchemas.FRAUD_ALERT));
+        subjects.put("payments.settlements-value", List.of(AvroSchemas.SETTLEMENT));
         
         // Inventory schemas
-        registerAvroWithVersions("inventory.stock-updates-value", List.of(
+        subjects.put("inventory.stock-updates-value", List.of(
             AvroSchemas.STOCK_UPDATE_V1,
             AvroSchemas.STOCK_UPDATE_V2
         ));
-        registerAvro("inventory.warehouse-events-value", AvroSchemas.WAREHOUSE_EVENT);
-        registerAvro("inventory.transfers-value", AvroSchemas.TRANSFER);
+        subjects.put("inventory.warehouse-events-value", List.of(AvroSchemas.WAREHOUSE_EVENT));
+        subjects.put("inventory.transfers-value", List.of(AvroSchemas.TRANSFER));
         
         // Customer schemas
-        registerAvroWithVersions("customers.profiles-value", List.of(
+        subjects.put("customers.profiles-value", List.of(
             AvroSchemas.CUSTOMER_PROFILE_V1,
             AvroSchemas.CUSTOMER_PROFILE_V2,
             AvroSchemas.CUSTOMER_PROFILE_V3
         ));
-        registerAvro("customers.preferences-value", AvroSchemas.CUSTOMER_PREFERENCES);
-        registerAvro("customers.loyalty-events-value", AvroSchemas.LOYALTY_EVENT);
+        subjects.put("customers.preferences-value", List.of(AvroSchemas.CUSTOMER_PREFERENCES));
+        subjects.put("customers.loyalty-events-value", List.of(AvroSchemas.LOYALTY_EVENT));
         
         // Notification schemas
-        registerAvro("notifications.email-outbound-value", AvroSchemas.EMAIL_NOTIFICATION);
-        registerAvro("notifications.email-events-value", AvroSchemas.EMAIL_EVENT);
-        registerAvro("notifications.push-events-value", AvroSchemas.PUSH_NOTIFICATION);
-        registerAvro("notifications.sms-queue-value", AvroSchemas.SMS_NOTIFICATION);
+        subjects.put("notifications.email-outbound-value", List.of(AvroSchemas.EMAIL_NOTIFICATION));
+        subjects.put("notifications.email-events-value", List.of(AvroSchemas.EMAIL_EVENT));
+        subjects.put("notifications.push-events-value", List.of(AvroSchemas.PUSH_NOTIFICATION));
+        subjects.put("notifications.sms-queue-value", List.of(AvroSchemas.SMS_NOTIFICATION));
         
         // IoT schemas
-        registerAvroWithVersions("iot.sensor-readings-value", List.of(
+        subjects.put("iot.sensor-readings-value", List.of(
             AvroSchemas.SENSOR_READING_V1,
             AvroSchemas.SENSOR_READING_V2,
             AvroSchemas.SENSOR_READING_V3
         ));
-        registerAvro("iot.device-status-value", AvroSchemas.DEVICE_STATUS);
-        registerAvro("iot.device-registry-value", AvroSchemas.DEVICE_REGISTRY);
-        registerAvro("iot.alerts-value", AvroSchemas.IOT_ALERT);
+        subjects.put("iot.device-status-value", List.of(AvroSchemas.DEVICE_STATUS));
+        subjects.put("iot.device-registry-value", List.of(AvroSchemas.DEVICE_REGISTRY));
+        subjects.put("iot.alerts-value", List.of(AvroSchemas.IOT_ALERT));
         
         // Logs schemas
-        registerAvro("logs.security-value", AvroSchemas.SECURITY_LOG);
+        subjects.put("logs.security-value", List.of(AvroSchemas.SECURITY_LOG));
         
         // Audit schemas
-        registerAvro("audit.system-events-value", AvroSchemas.AUDIT_EVENT);
-        registerAvro("audit.user-actions-value", AvroSchemas.USER_ACTION);
-        registerAvro("audit.data-access-log-value", AvroSchemas.DATA_ACCESS_LOG);
-        registerAvro("audit.config-changes-value", AvroSchemas.CONFIG_CHANGE);
+        subjects.put("audit.system-events-value", List.of(AvroSchemas.AUDIT_EVENT));
+        subjects.put("audit.user-actions-value", List.of(AvroSchemas.USER_ACTION));
+        subjects.put("audit.data-access-log-value", List.of(AvroSchemas.DATA_ACCESS_LOG));
+        subjects.put("audit.config-changes-value", List.of(AvroSchemas.CONFIG_CHANGE));
         
         // ML schemas
-        registerAvro("ml.feature-updates-value", AvroSchemas.FEATURE_UPDATE);
-        registerAvro("ml.model-predictions-value", AvroSchemas.MODEL_PREDICTION);
-        registerAvro("ml.training-data-value", AvroSchemas.TRAINING_DATA);
+        subjects.put("ml.feature-updates-value", List.of(AvroSchemas.FEATURE_UPDATE));
+        subjects.put("ml.model-predictions-value", List.of(AvroSchemas.MODEL_PREDICTION));
+        subjects.put("ml.training-data-value", List.of(AvroSchemas.TRAINING_DATA));
         
         // Shipping schemas
-        registerAvro("shipping.tracking-updates-value", AvroSchemas.TRACKING_UPDATE);
-        registerAvro("shipping.label-requests-value", AvroSchemas.LABEL_REQUEST);
+        subjects.put("shipping.tracking-updates-value", List.of(AvroSchemas.TRACKING_UPDATE));
+        subjects.put("shipping.label-requests-value", List.of(AvroSchemas.LABEL_REQUEST));
         
         // Metrics schemas
-        registerAvro("metrics.application-value", AvroSchemas.APP_METRIC);
-        registerAvro("metrics.infrastructure-value", AvroSchemas.INFRA_METRIC);
-        registerAvro("metrics.business-kpis-value", AvroSchemas.BUSINESS_KPI);
+        subjects.put("metrics.application-value", List.of(AvroSchemas.APP_METRIC));
+        subjects.put("metrics.infrastructure-value", List.of(AvroSchemas.INFRA_METRIC));
+        subjects.put("metrics.business-kpis-value", List.of(AvroSchemas.BUSINESS_KPI));
         
         // Trading schemas
-        registerAvroWithVersions("trading.market-data-value", List.of(
+        subjects.put("trading.market-data-value", List.of(
             AvroSchemas.MARKET_DATA_V1,
             AvroSchemas.MARKET_DATA_V2
         ));
-        registerAvro("trading.positions-value", AvroSchemas.POSITION);
-        registerAvro("trading.risk-alerts-value", AvroSchemas.RISK_ALERT);
+        subjects.put("trading.positions-value", List.of(AvroSchemas.POSITION));
+        subjects.put("trading.risk-alerts-value", List.of(AvroSchemas.RISK_ALERT));
         
         // Healthcare schemas
-        registerAvro("healthcare.appointments-value", AvroSchemas.APPOINTMENT);
-        registerAvro("healthcare.lab-results-value", AvroSchemas.LAB_RESULT);
+        subjects.put("healthcare.appointments-value", List.of(AvroSchemas.APPOINTMENT));
+        subjects.put("healthcare.lab-results-value", List.of(AvroSchemas.LAB_RESULT));
         
         // Connect schemas
-        registerAvro("connect.datagen-users-value", AvroSchemas.DATAGEN_USER);
-        registerAvro("connect.datagen-pageviews-value", AvroSchemas.DATAGEN_PAGEVIEW);
+        subjects.put("connect.datagen-users-value", List.of(AvroSchemas.DATAGEN_USER));
+        subjects.put("connect.datagen-pageviews-value", List.of(AvroSchemas.DATAGEN_PAGEVIEW));
         
         // KSQL derived schemas
-        registerAvro("ksql.order-totals-value", AvroSchemas.ORDER_TOTAL);
-        registerAvro("ksql.pageview-regions-value", AvroSchemas.PAGEVIEW_REGION);
-        registerAvro("ksql.enriched-orders-value", AvroSchemas.ENRICHED_ORDER);
-        registerAvro("ksql.fraud-candidates-value", AvroSchemas.FRAUD_CANDIDATE);
+        subjects.put("ksql.order-totals-value", List.of(AvroSchemas.ORDER_TOTAL));
+        subjects.put("ksql.pageview-regions-value", List.of(AvroSchemas.PAGEVIEW_REGION));
+        subjects.put("ksql.enriched-orders-value", List.of(AvroSchemas.ENRICHED_ORDER));
+        subjects.put("ksql.fraud-candidates-value", List.of(AvroSchemas.FRAUD_CANDIDATE));
+        
+        return subjects;
     }
     
+    // Registered from the classes generated from src/main/proto, so they match what the producers send
     private void registerProtobufSchemas() {
-        registerProtobuf("payments.chargebacks-value", ProtobufSchemas.CHARGEBACK);
-        registerProtobuf("iot.firmware-updates-value", ProtobufSchemas.FIRMWARE_UPDATE);
-        registerProtobuf("shipping.carrier-events-value", ProtobufSchemas.CARRIER_EVENT);
-        registerProtobuf("trading.orders-value", ProtobufSchemas.TRADE_ORDER);
-        registerProtobuf("trading.executions-value", ProtobufSchemas.TRADE_EXECUTION);
+        registerProtobuf("payments.chargebacks-value", Chargeback.getDescriptor());
+        registerProtobuf("iot.firmware-updates-value", FirmwareUpdate.getDescriptor());
+        registerProtobuf("shipping.carrier-events-value", CarrierEvent.getDescriptor());
+        registerProtobuf("trading.orders-value", TradeOrder.getDescriptor());
+        registerProtobuf("trading.executions-value", TradeExecution.getDescriptor());
     }
     
     private void registerJsonSchemas() {
@@ -175,10 +216,24 @@ public class SchemaManager {
         registerJson("ml.model-metrics-value", JsonSchemas.MODEL_METRICS);
     }
     
+    // Registers a schema, recording the call for the metrics endpoint
+    private int register(String subject, ParsedSchema schema) throws IOException, RestClientException {
+        long start = System.nanoTime();
+        String outcome = "error";
+        try {
+            int id = client.register(subject, schema);
+            outcome = "success";
+            return id;
+        } finally {
+            SeedKitMetrics.recordTime("seedkit_schema_registry_call", System.nanoTime() - start,
+                "operation", "register", "type", schema.schemaType(), "outcome", outcome);
+        }
+    }
+    
     private void registerAvro(String subject, String schema) {
         try {
             AvroSchema avroSchema = new AvroSchema(schema);
-            int id = client.register(subject, avroSchema);
+            int id = register(subject, avroSchema);
             log.debug("Registered Avro schema for {} with id {}", subject, id);
         } catch (IOException | RestClientException e) {
             log.error("Failed to register Avro schema for {}: {}", subject, e.getMessage());
@@ -192,10 +247,10 @@ public class SchemaManager {
         log.info("Registered {} versions for {}", schemas.size(), subject);
     }
     
-    private void registerProtobuf(String subject, String schema) {
+    private void registerProtobuf(String subject, Descriptor descriptor) {
         try {
-            ProtobufSchema protobufSchema = new ProtobufSchema(schema);
-            int id = client.register(subject, protobufSchema);
+            ProtobufSchema protobufSchema = new ProtobufSchema(descriptor);
+            int id = register(subject, protobufSchema);
             log.debug("Registered Protobuf schema for {} with id {}", subject, id);
         } catch (IOException | RestClientException e) {
             log.error("Failed to register Protobuf schema for {}: {}", subject, e.getMessage());
@@ -205,7 +260,7 @@ public class SchemaManager {
     private void registerJson(String subject, String schema) {
         try {
             JsonSchema jsonSchema = new JsonSchema(schema);
-            int id = client.register(subject, jsonSchema);
+            int id = register(subject, jsonSchema);
             log.debug("Registered JSON schema for {} with id {}", subject, id);
         } catch (IOException | RestClientException e) {
             log.error("Failed to register JSON schema for {}: {}", subject, e.getMessage());
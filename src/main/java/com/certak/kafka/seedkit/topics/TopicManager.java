@@ -1,6 +1,7 @@
 package com.certak.kafka.seedkit.topics;
 
 import com.certak.kafka.seedkit.config.SeedKitConfig;
+import com.certak.kafka.seedkit.metrics.SeedKitMetrics;
 import org.apache.kafka.clients.admin.*;
 import org.apache.kafka.common.config.TopicConfig;
 import org.apache.kafka.common.errors.TopicExistsException;
@@ -29,6 +30,7 @@ public class TopicManager {
         props.put(AdminClientConfig.CLIENT_ID_CONFIG, "seedkit-admin");
         props.put(AdminClientConfig.REQUEST_TIMEOUT_MS_CONFIG, 30000);
         this.adminClient = AdminClient.create(props);
+        SeedKitMetrics.registerClient("seedkit-admin", adminClient::metrics);
     }
     
     /**
@@ -153,6 +155,7 @@ public class TopicManager {
     }
     
     public void close() {
+        SeedKitMetrics.unregisterClient("seedkit-admin");
         adminClient.close();
     }
 }